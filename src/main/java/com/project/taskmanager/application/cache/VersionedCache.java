@@ -0,0 +1,59 @@
+package com.project.taskmanager.application.cache;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, lock-free cache of values derived from a versioned entity.
+ * <p>
+ * Entries live in a fixed direct-mapped table: a key hashes to exactly one slot and a newer
+ * entry simply overwrites whatever occupied it. A lookup only hits when both the key and the
+ * version match, so a stale value is never returned after the entity changes.
+ */
+public class VersionedCache<V> {
+
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final int mask;
+
+    public VersionedCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    public V get(String key, long version) {
+        Entry<V> entry = slots.get(indexFor(key));
+        if (entry != null && entry.version() == version && entry.key().equals(key)) {
+            return entry.value();
+        }
+        return null;
+    }
+
+    public void put(String key, long version, V value) {
+        slots.set(indexFor(key), new Entry<>(key, version, value));
+    }
+
+    public V computeIfAbsent(String key, long version, Supplier<V> loader) {
+        V value = get(key, version);
+        if (value == null) {
+            value = loader.get();
+            put(key, version, value);
+        }
+        return value;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    private int indexFor(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private record Entry<V>(String key, long version, V value) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.taskmanager.application.dto;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,4 +26,11 @@ public class CreateTaskRequest {
 
     @NotBlank(message = "Category is required")
     private String category;
+
+    @Valid
+    private RecurrenceRequest recurrence;
+
+    public CreateTaskRequest(String title, Integer priority, LocalDateTime dueDate, String category) {
+        this(title, priority, dueDate, category, null);
+    }
 }
\ No newline at end of file
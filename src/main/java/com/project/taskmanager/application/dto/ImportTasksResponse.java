@@ -0,0 +1,30 @@
+package com.project.taskmanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportTasksResponse {
+    private long imported;
+    private long rejected;
+
+    // False if the import stopped early, e.g. on reaching the user's quota
+    private boolean complete;
+
+    // Only the first rejected records are listed; rejected counts all of them
+    private List<ImportError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportError {
+        private long line;
+        private String message;
+    }
+}
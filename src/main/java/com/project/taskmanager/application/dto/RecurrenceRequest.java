@@ -0,0 +1,22 @@
+package com.project.taskmanager.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurrenceRequest {
+    @NotBlank(message = "Recurrence frequency is required")
+    private String frequency;
+
+    @Min(value = 1, message = "Recurrence interval must be at least 1")
+    private Integer interval;
+
+    private LocalDateTime until;
+}
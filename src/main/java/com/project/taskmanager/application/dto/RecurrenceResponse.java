@@ -0,0 +1,30 @@
+package com.project.taskmanager.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+@Jacksonized
+@AllArgsConstructor
+public class RecurrenceResponse {
+    String frequency;
+    int interval;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    LocalDateTime until;
+
+    // Zone whose calendar the series follows, e.g. to keep 09:00 across daylight saving changes
+    String zone;
+
+    // The stored instant behind until, for formats that are not zone-adjusted
+    @JsonIgnore
+    Instant untilInstant;
+}
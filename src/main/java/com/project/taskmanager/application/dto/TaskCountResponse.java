@@ -0,0 +1,12 @@
+package com.project.taskmanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountResponse {
+    private long count;
+}
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.project.taskmanager.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 
 @Data
@@ -11,8 +14,17 @@ public class TaskListResponse {
     private List<TaskResponse> tasks;
     private int total;
 
+    // Zone the task times are rendered in; converters that cache fragments key on it
+    @JsonIgnore
+    private ZoneId zone = ZoneOffset.UTC;
+
     public TaskListResponse(List<TaskResponse> tasks) {
+        this(tasks, ZoneOffset.UTC);
+    }
+
+    public TaskListResponse(List<TaskResponse> tasks, ZoneId zone) {
         this.tasks = tasks;
         this.total = tasks.size();
+        this.zone = zone;
     }
 }
\ No newline at end of file
@@ -1,23 +1,41 @@
 package com.project.taskmanager.application.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
-@Data
+// Immutable so the mapper can hand the same cached instance to concurrent requests
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
+@Jacksonized
 public class TaskResponse {
-    private String id;
-    private String title;
-    private int priority;
-    private LocalDateTime dueDate;
-    private String category;
-    private String userId;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
+    String id;
+    String title;
+    int priority;
+    LocalDateTime dueDate;
+    String category;
+    String userId;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    long version;
+
+    // Only present on recurring tasks
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String seriesId;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    RecurrenceResponse recurrence;
+
+    // The stored instants behind the local times above, for formats that are not zone-adjusted
+    @JsonIgnore
+    Instant dueInstant;
+    @JsonIgnore
+    Instant createdInstant;
+    @JsonIgnore
+    Instant updatedInstant;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.project.taskmanager.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatisticsResponse {
+    private long total;
+    private Map<Integer, Long> byPriority;
+    private Map<String, Long> byCategory;
+    private long overdue;
+    private long dueToday;
+    private long reminderSent;
+}
\ No newline at end of file
@@ -1,30 +1,128 @@
 package com.project.taskmanager.application.mapper;
 
 
+import com.project.taskmanager.application.cache.VersionedCache;
+import com.project.taskmanager.application.dto.RecurrenceResponse;
 import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.dto.TaskStatisticsResponse;
+import com.project.taskmanager.application.profiling.TimedEvent;
 import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class TaskMapper {
 
+    // Task snapshots are immutable, so a response built for (id, version) stays valid until the
+    // task changes. Responses are immutable too, so one cached instance serves every request.
+    private static final VersionedCache<TaskResponse> RESPONSE_CACHE = new VersionedCache<>(16384);
+
     public static TaskResponse toResponse(Task task) {
+        return toResponse(task, ZoneOffset.UTC);
+    }
+
+    /**
+     * Builds the response with every time given as local date-time in {@code zone}.
+     */
+    public static TaskResponse toResponse(Task task, ZoneId zone) {
+        // Version 0 marks a task that was never written through the repository, whose id
+        // alone does not identify its content.
+        if (task.getVersion() == 0) {
+            return buildResponse(task, zone);
+        }
+        return RESPONSE_CACHE.computeIfAbsent(cacheKey(task.getId(), zone), task.getVersion(),
+                () -> buildResponse(task, zone));
+    }
+
+    /**
+     * Builds the response without going through the cache. For bulk reads that touch every task
+     * once, which would otherwise evict the responses of tasks that are actually being read.
+     */
+    public static TaskResponse toUncachedResponse(Task task, ZoneId zone) {
+        return buildResponse(task, zone);
+    }
+
+    public static List<TaskResponse> toResponseList(List<Task> tasks) {
+        return toResponseList(tasks, ZoneOffset.UTC);
+    }
+
+    public static List<TaskResponse> toResponseList(List<Task> tasks, ZoneId zone) {
+        TaskMappingEvent event = TimedEvent.start(new TaskMappingEvent());
+        List<TaskResponse> responses = tasks.stream()
+                .map(task -> toResponse(task, zone))
+                .collect(Collectors.toList());
+        if (event.ended()) {
+            event.taskCount = responses.size();
+            event.zone = zone.getId();
+            event.commit();
+        }
+        return responses;
+    }
+
+    /**
+     * Key under which a response rendered in {@code zone} is cached. UTC, which most clients
+     * use, keeps the plain id.
+     */
+    public static String cacheKey(String id, ZoneId zone) {
+        return isUtc(zone) ? id : id + '|' + zone.getId();
+    }
+
+    public static boolean isUtc(ZoneId zone) {
+        return zone.normalized().equals(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime toLocalDateTime(Instant instant, ZoneId zone) {
+        return instant != null ? LocalDateTime.ofInstant(instant, zone) : null;
+    }
+
+    public static TaskStatisticsResponse toStatisticsResponse(TaskStatistics statistics) {
+        Map<Integer, Long> byPriority = new LinkedHashMap<>();
+        statistics.getByPriority().forEach((priority, count) -> byPriority.put(priority.getValue(), count));
+        Map<String, Long> byCategory = new LinkedHashMap<>();
+        statistics.getByCategory().forEach((category, count) -> byCategory.put(category.name(), count));
+
+        return TaskStatisticsResponse.builder()
+                .total(statistics.getTotal())
+                .byPriority(byPriority)
+                .byCategory(byCategory)
+                .overdue(statistics.getOverdue())
+                .dueToday(statistics.getDueToday())
+                .reminderSent(statistics.getReminderSent())
+                .build();
+    }
+
+    private static TaskResponse buildResponse(Task task, ZoneId zone) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
                 .priority(task.getPriority().getValue())
-                .dueDate(task.getDueDate())
+                .dueDate(toLocalDateTime(task.getDueDate(), zone))
                 .category(task.getCategory().name())
                 .userId(task.getUserId())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
+                .createdAt(toLocalDateTime(task.getCreatedAt(), zone))
+                .updatedAt(toLocalDateTime(task.getUpdatedAt(), zone))
+                .version(task.getVersion())
+                .seriesId(task.isRecurring() ? task.getSeriesId() : null)
+                .recurrence(toRecurrenceResponse(task.getRecurrence(), zone))
+                .dueInstant(task.getDueDate())
+                .createdInstant(task.getCreatedAt())
+                .updatedInstant(task.getUpdatedAt())
                 .build();
     }
 
-    public static List<TaskResponse> toResponseList(List<Task> tasks) {
-        return tasks.stream()
-                .map(TaskMapper::toResponse)
-                .collect(Collectors.toList());
+    private static RecurrenceResponse toRecurrenceResponse(RecurrenceRule recurrence, ZoneId zone) {
+        if (recurrence == null) {
+            return null;
+        }
+        return new RecurrenceResponse(recurrence.getFrequency().name(), recurrence.getInterval(),
+                toLocalDateTime(recurrence.getUntil(), zone), recurrence.getZone().getId(), recurrence.getUntil());
     }
 }
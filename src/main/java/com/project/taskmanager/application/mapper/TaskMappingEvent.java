@@ -0,0 +1,25 @@
+package com.project.taskmanager.application.mapper;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for mapping the tasks of one listing to responses.
+ */
+@Name("com.project.taskmanager.TaskMapping")
+@Label("Task Mapping")
+@Category({"Task Manager", "Listing"})
+@Description("Mapping a listing's tasks to responses, through the response cache")
+@StackTrace(false)
+class TaskMappingEvent extends TimedEvent {
+
+    @Label("Task Count")
+    int taskCount;
+
+    @Label("Zone")
+    String zone;
+}
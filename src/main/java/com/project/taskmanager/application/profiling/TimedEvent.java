@@ -0,0 +1,37 @@
+package com.project.taskmanager.application.profiling;
+
+import jdk.jfr.Event;
+
+/**
+ * Base of the application's flight recorder events, which time one operation each.
+ * <p>
+ * Once flight recorder has been used, {@code begin()} and {@code end()} read the clock even while
+ * the event is disabled, so they are skipped unless it was enabled when the operation started.
+ * Emitters call {@link #start} before the operation and fill in and commit the event only if
+ * {@link #ended} returns {@code true}.
+ */
+public abstract class TimedEvent extends Event {
+
+    // Transient fields are not recorded
+    private transient boolean timed;
+
+    public static <E extends TimedEvent> E start(E event) {
+        TimedEvent timedEvent = event;
+        if (timedEvent.isEnabled()) {
+            timedEvent.timed = true;
+            timedEvent.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Stops the timing and returns whether the event should be filled in and committed.
+     */
+    public boolean ended() {
+        if (!timed) {
+            return false;
+        }
+        end();
+        return shouldCommit();
+    }
+}
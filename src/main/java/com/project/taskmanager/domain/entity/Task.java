@@ -2,41 +2,87 @@ package com.project.taskmanager.domain.entity;
 
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Immutable task snapshot. Every change produces a new instance with a higher version,
+ * which the repository swaps in atomically, so readers never observe a half-applied update.
+ * <p>
+ * All times are instants on the UTC timeline. A user's time zone only matters at the API
+ * edge, where local times are converted on the way in and out.
+ * <p>
+ * A recurring task is stored once, with {@code dueDate} holding its next pending occurrence and
+ * {@code seriesStart} its first one. Every occurrence is computed from {@code seriesStart}, which
+ * only changes when the due date is edited, so sending a reminder never shifts the series.
+ * Later occurrences are projected on demand by {@link #occurrencesBetween}; they carry the id
+ * of the series followed by {@value #OCCURRENCE_SEPARATOR} and their due date.
+ */
 @Getter
 @Builder
 public class Task {
+    public static final char OCCURRENCE_SEPARATOR = '@';
+
     private final String id;
-    private String title;
-    private Priority priority;
-    private LocalDateTime dueDate;
-    private Category category;
-    private String userId;
-    private final LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
-    private boolean reminderSent;
-
-    public Task(String title, Priority priority, LocalDateTime dueDate, Category category, String userId) {
-        this.id = UUID.randomUUID().toString();
+    private final String title;
+    private final Priority priority;
+    private final Instant dueDate;
+    private final Category category;
+    private final String userId;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+    private final boolean reminderSent;
+    private final long version;
+    private final RecurrenceRule recurrence;
+    private final Instant seriesStart;
+
+    // Constructor for a new task whose id comes from a TaskIdGenerator and creation time from a Clock
+    public Task(String id, String title, Priority priority, Instant dueDate, Category category,
+                String userId, RecurrenceRule recurrence, Instant createdAt) {
+        if (recurrence != null && dueDate == null) {
+            throw new IllegalArgumentException("A recurring task needs a due date");
+        }
+        this.id = id;
         this.title = validateTitle(title);
         this.priority = priority;
         this.dueDate = dueDate;
         this.category = category;
         this.userId = userId;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
         this.reminderSent = false;
+        this.version = 1;
+        this.recurrence = recurrence;
+        this.seriesStart = dueDate;
     }
 
     // Constructor for reconstruction from persistence
-    public Task(String id, String title, Priority priority, LocalDateTime dueDate,
-                Category category, String userId, LocalDateTime createdAt,
-                LocalDateTime updatedAt, boolean reminderSent) {
+    public Task(String id, String title, Priority priority, Instant dueDate,
+                Category category, String userId, Instant createdAt,
+                Instant updatedAt, boolean reminderSent, long version) {
+        this(id, title, priority, dueDate, category, userId, createdAt, updatedAt, reminderSent, version, null);
+    }
+
+    public Task(String id, String title, Priority priority, Instant dueDate,
+                Category category, String userId, Instant createdAt,
+                Instant updatedAt, boolean reminderSent, long version, RecurrenceRule recurrence) {
+        this(id, title, priority, dueDate, category, userId, createdAt, updatedAt, reminderSent, version,
+                recurrence, dueDate);
+    }
+
+    /**
+     * @param seriesStart first occurrence of a recurring series; taken to be {@code dueDate} if null
+     */
+    public Task(String id, String title, Priority priority, Instant dueDate,
+                Category category, String userId, Instant createdAt,
+                Instant updatedAt, boolean reminderSent, long version, RecurrenceRule recurrence,
+                Instant seriesStart) {
         this.id = id;
         this.title = title;
         this.priority = priority;
@@ -46,6 +92,9 @@ public class Task {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.reminderSent = reminderSent;
+        this.version = version;
+        this.recurrence = recurrence;
+        this.seriesStart = seriesStart != null ? seriesStart : dueDate;
     }
 
     private String validateTitle(String title) {
@@ -58,28 +107,95 @@ public class Task {
         return title.trim();
     }
 
-    public void update(String title, Priority priority, LocalDateTime dueDate, Category category) {
-        if (title != null) {
-            this.title = validateTitle(title);
+    /**
+     * Returns a copy of this task with the given non-null fields applied and the
+     * version incremented. The receiver is left untouched so that the repository
+     * can swap the copy in with {@code compareAndUpdate}. A new due date restarts a recurring
+     * series from that date.
+     */
+    public Task withUpdate(String title, Priority priority, Instant dueDate, Category category,
+                           Instant now) {
+        return new Task(
+                id,
+                title != null ? validateTitle(title) : this.title,
+                priority != null ? priority : this.priority,
+                dueDate != null ? dueDate : this.dueDate,
+                category != null ? category : this.category,
+                userId,
+                createdAt,
+                now,
+                reminderSent,
+                version + 1,
+                recurrence,
+                dueDate != null ? dueDate : seriesStart
+        );
+    }
+
+    /**
+     * Marks the current reminder as sent. A recurring task instead moves on to its next
+     * occurrence after now, skipping any that were missed, and stays armed; only once the
+     * series has ended is it marked as sent.
+     */
+    public Task withReminderSent(Instant now) {
+        if (recurrence != null) {
+            Instant next = recurrence.nextAfter(seriesStart, now.isAfter(dueDate) ? now : dueDate);
+            if (next != null) {
+                return new Task(id, title, priority, next, category, userId, createdAt,
+                        now, false, version + 1, recurrence, seriesStart);
+            }
         }
-        if (priority != null) {
-            this.priority = priority;
+        return new Task(id, title, priority, dueDate, category, userId, createdAt,
+                now, true, version + 1, recurrence, seriesStart);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the id of the stored task this one belongs to: its own id, or the series id for
+     * a projected occurrence.
+     */
+    public String getSeriesId() {
+        int separator = id.indexOf(OCCURRENCE_SEPARATOR);
+        return separator < 0 ? id : id.substring(0, separator);
+    }
+
+    /**
+     * Returns the occurrences of this task due within {@code [start, end]}: the task itself if
+     * its due date falls in range, plus for a recurring task the later occurrences of its series,
+     * at most {@link RecurrenceRule#MAX_OCCURRENCES_PER_QUERY}.
+     */
+    public List<Task> occurrencesBetween(Instant start, Instant end) {
+        if (dueDate == null) {
+            return Collections.emptyList();
         }
-        if (dueDate != null) {
-            this.dueDate = dueDate;
+        if (recurrence == null || reminderSent) {
+            return !dueDate.isBefore(start) && !dueDate.isAfter(end)
+                    ? List.of(this) : Collections.emptyList();
         }
-        if (category != null) {
-            this.category = category;
+        // Occurrences before the pending one have already been reminded
+        Instant from = start.isBefore(dueDate) ? dueDate : start;
+        List<Instant> dueDates = recurrence.occurrencesBetween(seriesStart, from, end,
+                RecurrenceRule.MAX_OCCURRENCES_PER_QUERY);
+        List<Task> occurrences = new ArrayList<>(dueDates.size());
+        for (Instant occurrence : dueDates) {
+            occurrences.add(occurrence.equals(dueDate) ? this : occurrenceAt(occurrence));
         }
-        this.updatedAt = LocalDateTime.now();
+        return occurrences;
     }
 
-    public void markReminderSent() {
-        this.reminderSent = true;
-        this.updatedAt = LocalDateTime.now();
+    // Shares the series version, so (id, version) still identifies the content for caching
+    private Task occurrenceAt(Instant occurrence) {
+        return new Task(id + OCCURRENCE_SEPARATOR + occurrence, title, priority, occurrence, category, userId,
+                createdAt, updatedAt, false, version, recurrence, seriesStart);
     }
 
-    public boolean isDue() {
-        return dueDate != null && LocalDateTime.now().isAfter(dueDate) && !reminderSent;
+    /**
+     * Whether the reminder for this task is due at {@code now}. Scans pass one instant read
+     * before they start, so every task is judged against the same time.
+     */
+    public boolean isDue(Instant now) {
+        return dueDate != null && now.isAfter(dueDate) && !reminderSent;
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.project.taskmanager.domain.exceptions;
+
+public class TaskVersionConflictException extends RuntimeException {
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.project.taskmanager.domain.repository;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link TaskRepository}. Every call returns immediately and the
+ * future completes once the storage operation has finished, so request threads are never
+ * parked on I/O.
+ */
+public interface AsyncTaskRepository {
+    CompletableFuture<Task> save(Task task);
+
+    /**
+     * See {@link TaskRepository#saveWithinQuota}; the future fails with
+     * {@link com.project.taskmanager.domain.exceptions.TenantQuotaExceededException} if the
+     * task does not fit.
+     */
+    CompletableFuture<Task> saveWithinQuota(Task task, TenantQuota quota);
+    CompletableFuture<Optional<Task>> findById(String id);
+    CompletableFuture<List<Task>> findByUserId(String userId);
+    CompletableFuture<List<Task>> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate);
+    CompletableFuture<List<Task>> findByUserIdAndFilter(String userId, TaskFilter filter);
+    CompletableFuture<Boolean> compareAndUpdate(Task task, long expectedVersion);
+    CompletableFuture<Void> delete(String id);
+    CompletableFuture<Boolean> compareAndDelete(String id, long expectedVersion);
+    CompletableFuture<TenantUsage> getUsage(String userId);
+}
\ No newline at end of file
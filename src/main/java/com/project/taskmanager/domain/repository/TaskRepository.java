@@ -1,17 +1,106 @@
 package com.project.taskmanager.domain.repository;
 
 import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TaskRepository {
     Task save(Task task);
+
+    /**
+     * Saves every task in the batch. Cheaper than saving them one by one where the store has a
+     * per-write cost, but not atomic: a failure can leave part of the batch saved.
+     */
+    void saveAll(List<Task> tasks);
+
+    /**
+     * Saves a new task only if it fits the user's quota, and throws
+     * {@link TenantQuotaExceededException} otherwise. The check and the write are one step with
+     * respect to every other quota-checked save of the same user, so concurrent creates cannot
+     * overshoot the task limit the way a {@link #getUsage} check followed by {@link #save} can.
+     */
+    Task saveWithinQuota(Task task, TenantQuota quota);
+
+    /**
+     * Saves the longest leading run of {@code tasks}, all new tasks of one user, that fits the
+     * user's quota, in one step like {@link #saveWithinQuota}. Returns how many were saved.
+     */
+    int saveAllWithinQuota(List<Task> tasks, TenantQuota quota);
+
+    /**
+     * Runs {@code writes}, a sequence of calls on this repository, as one batch and returns once
+     * the batch is stored. A store with a per-write cost, such as a lock or a sync to disk, pays it
+     * once for the whole batch. Not atomic either: a failure can leave part of the batch applied.
+     */
+    default void inBatch(Runnable writes) {
+        writes.run();
+    }
+
     Optional<Task> findById(String id);
     List<Task> findByUserId(String userId);
-    List<Task> findByUserIdAndDateRange(String userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Passes each of the user's tasks to {@code action} as it is read, without collecting them
+     * first. Weakly consistent: tasks written while the iteration runs may or may not be seen.
+     */
+    void forEachByUserId(String userId, Consumer<Task> action);
+
+    List<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate);
+    List<Task> findByUserIdAndFilter(String userId, TaskFilter filter);
+    long countByUserIdAndFilter(String userId, TaskFilter filter);
     List<Task> findDueTasks();
+
+    /**
+     * Returns the user's task statistics, counting as "due today" the tasks due on the current
+     * calendar day in {@code zone}.
+     */
+    TaskStatistics getStatistics(String userId, ZoneId zone);
+
+    /**
+     * Returns up to {@code limit} of the user's tasks whose title matches every term of the
+     * query, treating each term as a prefix, ordered by relevance.
+     */
+    List<Task> searchByTitle(String userId, String query, int limit);
+
     void update(Task task);
+
+    /**
+     * Replaces the stored task with {@code task} only if the stored version still equals
+     * {@code expectedVersion}. Returns {@code false} if the task is missing or was changed
+     * concurrently.
+     */
+    boolean compareAndUpdate(Task task, long expectedVersion);
+
     void delete(String id);
+
+    /**
+     * Removes the task only if its stored version equals {@code expectedVersion}.
+     */
+    boolean compareAndDelete(String id, long expectedVersion);
+
+    /**
+     * Returns a stamp that changes whenever one of the user's tasks is created, updated or
+     * deleted, or {@code 0} if the user has never had a task. Cheap enough to check before
+     * every listing.
+     */
+    long getModificationStamp(String userId);
+
+    /**
+     * Returns the user's current task count and estimated footprint, without scanning.
+     */
+    TenantUsage getUsage(String userId);
+
+    /**
+     * Returns up to {@code limit} users with the largest estimated footprint, largest first.
+     */
+    List<TenantUsage> findLargestTenants(int limit);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.project.taskmanager.domain.service;
+
+import com.project.taskmanager.domain.entity.Task;
+
+import java.util.UUID;
+
+/**
+ * Source of ids for new tasks. Ids must be unique and must not contain
+ * {@link Task#OCCURRENCE_SEPARATOR}.
+ */
+@FunctionalInterface
+public interface TaskIdGenerator {
+
+    TaskIdGenerator RANDOM_UUID = () -> UUID.randomUUID().toString();
+
+    String nextId();
+
+    enum Type {
+        UUID,
+        ULID
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.taskmanager.domain.service;
+
+import com.project.taskmanager.domain.entity.Task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders the tasks of a listing. Lets infrastructure observe or replace the sort without the use
+ * cases depending on it.
+ */
+@FunctionalInterface
+public interface TaskSorter {
+
+    TaskSorter IN_MEMORY = (tasks, comparator) -> {
+        List<Task> sorted = new ArrayList<>(tasks);
+        sorted.sort(comparator);
+        return sorted;
+    };
+
+    /**
+     * Returns the tasks ordered by {@code comparator}, leaving {@code tasks} unchanged.
+     */
+    List<Task> sort(List<Task> tasks, Comparator<Task> comparator);
+}
@@ -0,0 +1,14 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CountTasksUseCase {
+    private final TaskRepository taskRepository;
+
+    public long execute(String userId, TaskFilter filter) {
+        return taskRepository.countByUserIdAndFilter(userId, filter != null ? filter : TaskFilter.builder().build());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class CreateTaskAsyncUseCase {
+    private final AsyncTaskRepository taskRepository;
+    private final TenantQuota tenantQuota;
+    private final TaskIdGenerator idGenerator;
+    private final Clock clock;
+
+    public CreateTaskAsyncUseCase(AsyncTaskRepository taskRepository) {
+        this(taskRepository, TenantQuota.UNLIMITED);
+    }
+
+    public CreateTaskAsyncUseCase(AsyncTaskRepository taskRepository, TenantQuota tenantQuota) {
+        this(taskRepository, tenantQuota, TaskIdGenerator.RANDOM_UUID);
+    }
+
+    public CreateTaskAsyncUseCase(AsyncTaskRepository taskRepository, TenantQuota tenantQuota, TaskIdGenerator idGenerator) {
+        this(taskRepository, tenantQuota, idGenerator, Clock.systemDefaultZone());
+    }
+
+    public CompletableFuture<Task> execute(String title, Priority priority, Instant dueDate,
+                                           Category category, String userId) {
+        return execute(title, priority, dueDate, category, userId, null);
+    }
+
+    public CompletableFuture<Task> execute(String title, Priority priority, Instant dueDate,
+                                           Category category, String userId, RecurrenceRule recurrence) {
+        Task task = new Task(idGenerator.nextId(), title, priority, dueDate, category, userId, recurrence,
+                clock.instant());
+        return taskRepository.saveWithinQuota(task, tenantQuota);
+    }
+}
@@ -2,18 +2,44 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
 import lombok.RequiredArgsConstructor;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
 
 @RequiredArgsConstructor
 public class CreateTaskUseCase {
     private final TaskRepository taskRepository;
-    public Task execute(String title, Priority priority, LocalDateTime dueDate,
+    private final TenantQuota tenantQuota;
+    private final TaskIdGenerator idGenerator;
+    private final Clock clock;
+
+    public CreateTaskUseCase(TaskRepository taskRepository) {
+        this(taskRepository, TenantQuota.UNLIMITED);
+    }
+
+    public CreateTaskUseCase(TaskRepository taskRepository, TenantQuota tenantQuota) {
+        this(taskRepository, tenantQuota, TaskIdGenerator.RANDOM_UUID);
+    }
+
+    public CreateTaskUseCase(TaskRepository taskRepository, TenantQuota tenantQuota, TaskIdGenerator idGenerator) {
+        this(taskRepository, tenantQuota, idGenerator, Clock.systemDefaultZone());
+    }
+
+    public Task execute(String title, Priority priority, Instant dueDate,
                         Category category, String userId) {
-        Task task = new Task(title, priority, dueDate, category, userId);
-        return taskRepository.save(task);
+        return execute(title, priority, dueDate, category, userId, null);
+    }
+
+    public Task execute(String title, Priority priority, Instant dueDate,
+                        Category category, String userId, RecurrenceRule recurrence) {
+        Task task = new Task(idGenerator.nextId(), title, priority, dueDate, category, userId, recurrence,
+                clock.instant());
+        return taskRepository.saveWithinQuota(task, tenantQuota);
     }
-}
\ No newline at end of file
+}
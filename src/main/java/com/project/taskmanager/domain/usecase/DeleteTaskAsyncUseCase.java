@@ -0,0 +1,35 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
+import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class DeleteTaskAsyncUseCase {
+    private final AsyncTaskRepository taskRepository;
+
+    public CompletableFuture<Void> execute(String taskId, String userId, Long expectedVersion) {
+        return taskRepository.findById(taskId).thenCompose(found -> {
+            Task task = found.orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+
+            if (!task.getUserId().equals(userId)) {
+                throw new UnauthorizedAccessException("User not authorized to delete this task");
+            }
+
+            if (expectedVersion == null) {
+                return taskRepository.delete(taskId);
+            }
+            return taskRepository.compareAndDelete(taskId, expectedVersion).thenAccept(removed -> {
+                if (!removed) {
+                    throw new TaskVersionConflictException("Task " + taskId + " does not match expected version "
+                            + expectedVersion);
+                }
+            });
+        });
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
 import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,10 @@ public class DeleteTaskUseCase {
     private final TaskRepository taskRepository;
 
     public void execute(String taskId, String userId) {
+        execute(taskId, userId, null);
+    }
+
+    public void execute(String taskId, String userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
 
@@ -18,7 +23,12 @@ public class DeleteTaskUseCase {
             throw new UnauthorizedAccessException("User not authorized to delete this task");
         }
 
-        taskRepository.delete(taskId);
+        if (expectedVersion == null) {
+            taskRepository.delete(taskId);
+        } else if (!taskRepository.compareAndDelete(taskId, expectedVersion)) {
+            throw new TaskVersionConflictException("Task " + taskId + " does not match expected version "
+                    + expectedVersion);
+        }
     }
 
 }
\ No newline at end of file
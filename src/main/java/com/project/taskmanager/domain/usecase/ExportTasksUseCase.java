@@ -0,0 +1,20 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ExportTasksUseCase {
+    private final TaskRepository taskRepository;
+
+    /**
+     * Passes each of the user's tasks to {@code action} as it is read. Recurring tasks are
+     * passed once, as their series.
+     */
+    public void execute(String userId, Consumer<Task> action) {
+        taskRepository.forEachByUserId(userId, action);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import lombok.RequiredArgsConstructor;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+@RequiredArgsConstructor
+public class GetTaskStatisticsUseCase {
+    private final TaskRepository taskRepository;
+
+    public TaskStatistics execute(String userId) {
+        return execute(userId, ZoneOffset.UTC);
+    }
+
+    public TaskStatistics execute(String userId, ZoneId zone) {
+        return taskRepository.getStatistics(userId, zone);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import com.project.taskmanager.domain.service.TaskSorter;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class GetTasksAsyncUseCase {
+    private final AsyncTaskRepository taskRepository;
+    private final TaskSorter taskSorter;
+
+    public GetTasksAsyncUseCase(AsyncTaskRepository taskRepository) {
+        this(taskRepository, TaskSorter.IN_MEMORY);
+    }
+
+    public GetTasksAsyncUseCase(AsyncTaskRepository taskRepository, TaskSorter taskSorter) {
+        this.taskRepository = taskRepository;
+        this.taskSorter = taskSorter;
+    }
+
+    public CompletableFuture<List<Task>> execute(String userId, Instant startDate, Instant endDate,
+                                                 TaskFilter filter, Comparator<Task> comparator) {
+        CompletableFuture<List<Task>> tasks;
+
+        if (filter != null && !filter.isEmpty()) {
+            tasks = taskRepository.findByUserIdAndFilter(userId, filter);
+            if (startDate != null && endDate != null) {
+                tasks = tasks.thenApply(found -> found.stream()
+                        .flatMap(task -> task.occurrencesBetween(startDate, endDate).stream())
+                        .collect(Collectors.toList()));
+            }
+        } else if (startDate != null && endDate != null) {
+            tasks = taskRepository.findByUserIdAndDateRange(userId, startDate, endDate);
+        } else {
+            tasks = taskRepository.findByUserId(userId);
+        }
+
+        if (comparator != null) {
+            return tasks.thenApply(found -> taskSorter.sort(found, comparator));
+        }
+
+        return tasks;
+    }
+}
\ No newline at end of file
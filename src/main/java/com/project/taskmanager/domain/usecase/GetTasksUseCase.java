@@ -3,33 +3,61 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import com.project.taskmanager.domain.service.TaskSorter;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 public class GetTasksUseCase {
     private final TaskRepository taskRepository;
+    private final TaskSorter taskSorter;
 
-    public List<Task> execute(String userId, LocalDateTime startDate,
-                              LocalDateTime endDate, Comparator<Task> comparator) {
+    public GetTasksUseCase(TaskRepository taskRepository) {
+        this(taskRepository, TaskSorter.IN_MEMORY);
+    }
+
+    public GetTasksUseCase(TaskRepository taskRepository, TaskSorter taskSorter) {
+        this.taskRepository = taskRepository;
+        this.taskSorter = taskSorter;
+    }
+
+    public List<Task> execute(String userId, Instant startDate,
+                              Instant endDate, Comparator<Task> comparator) {
+        return execute(userId, startDate, endDate, null, comparator);
+    }
+
+    public List<Task> execute(String userId, Instant startDate, Instant endDate,
+                              TaskFilter filter, Comparator<Task> comparator) {
         List<Task> tasks;
 
-        if (startDate != null && endDate != null) {
+        if (filter != null && !filter.isEmpty()) {
+            tasks = taskRepository.findByUserIdAndFilter(userId, filter);
+            if (startDate != null && endDate != null) {
+                tasks = tasks.stream()
+                        .flatMap(task -> task.occurrencesBetween(startDate, endDate).stream())
+                        .collect(Collectors.toList());
+            }
+        } else if (startDate != null && endDate != null) {
             tasks = taskRepository.findByUserIdAndDateRange(userId, startDate, endDate);
         } else {
             tasks = taskRepository.findByUserId(userId);
         }
 
         if (comparator != null) {
-            return tasks.stream()
-                    .sorted(comparator)
-                    .collect(Collectors.toList());
+            return taskSorter.sort(tasks, comparator);
         }
 
         return tasks;
     }
+
+    /**
+     * Returns a stamp that changes whenever any of the user's tasks changes, so a listing can
+     * be validated without being rebuilt.
+     */
+    public long currentVersion(String userId) {
+        return taskRepository.getModificationStamp(userId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates tasks in bulk for one user. Tasks are validated one at a time as the caller feeds them
+ * in and written with {@link TaskRepository#saveAllWithinQuota} every {@code batchSize} tasks, so memory
+ * use does not depend on the size of the import. Tasks are admitted up to the user's quota, so
+ * an import that runs into it keeps everything that fits.
+ */
+@RequiredArgsConstructor
+public class ImportTasksUseCase {
+    private final TaskRepository taskRepository;
+    private final TenantQuota tenantQuota;
+    private final TaskIdGenerator idGenerator;
+    private final Clock clock;
+    private final int batchSize;
+
+    public ImportTasksUseCase(TaskRepository taskRepository, int batchSize) {
+        this(taskRepository, TenantQuota.UNLIMITED, TaskIdGenerator.RANDOM_UUID, Clock.systemDefaultZone(),
+                batchSize);
+    }
+
+    public Session start(String userId) {
+        if (batchSize < 1) {
+            throw new IllegalStateException("Import batch size must be at least 1");
+        }
+        return new Session(userId);
+    }
+
+    /**
+     * One import in progress. Not thread-safe; tasks still pending when the caller stops without
+     * calling {@link #finish} are never written.
+     * <p>
+     * The quota is read when the session starts and after every batch to decide which tasks to
+     * queue, and checked again as each batch is written, in the same step as the write. Concurrent
+     * requests of the same user therefore cannot push an import past the quota: if they take the
+     * room a queued batch counted on, the batch is written as far as it fits and the import stops.
+     */
+    public final class Session {
+        private final String userId;
+        private List<Task> pending = new ArrayList<>(batchSize);
+        private long imported;
+        private TenantUsage usage;
+        // Tasks that may still be queued before the quota has to be read again
+        private long allowance;
+
+        private Session(String userId) {
+            this.userId = userId;
+            readQuota();
+        }
+
+        /**
+         * Validates the task and queues it for writing, writing the batch once it is full.
+         *
+         * @throws IllegalArgumentException if the task is invalid; nothing is queued
+         * @throws com.project.taskmanager.domain.exceptions.TenantQuotaExceededException if this
+         *         task no longer fits the user's quota; it is not imported, and of the tasks
+         *         before it every one that fit is kept
+         */
+        public Task add(String title, Priority priority, Instant dueDate, Category category,
+                        RecurrenceRule recurrence) {
+            Task task = new Task(idGenerator.nextId(), title, priority, dueDate, category, userId, recurrence,
+                    clock.instant());
+            if (allowance == 0) {
+                // Deletes since the last read may have made room
+                flush();
+                if (allowance == 0) {
+                    tenantQuota.checkCanAdd(usage, 1);
+                }
+            }
+            pending.add(task);
+            allowance--;
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+            return task;
+        }
+
+        /**
+         * Writes the remaining tasks and returns how many were imported in total.
+         *
+         * @throws com.project.taskmanager.domain.exceptions.TenantQuotaExceededException if
+         *         concurrent writes took the room the remaining tasks counted on; those that fit
+         *         are kept
+         */
+        public long finish() {
+            flush();
+            return imported;
+        }
+
+        /**
+         * Number of tasks written so far.
+         */
+        public long getImported() {
+            return imported;
+        }
+
+        private void flush() {
+            List<Task> batch = pending;
+            pending = new ArrayList<>(batchSize);
+            int written = 0;
+            while (written < batch.size()) {
+                int saved = taskRepository.saveAllWithinQuota(batch.subList(written, batch.size()), tenantQuota);
+                written += saved;
+                imported += saved;
+                if (saved == 0) {
+                    // Concurrent writes took the room; go on only if deletes have made some since
+                    readQuota();
+                    tenantQuota.checkCanAdd(usage);
+                }
+            }
+            readQuota();
+        }
+
+        private void readQuota() {
+            usage = taskRepository.getUsage(userId);
+            allowance = tenantQuota.remainingTasks(usage);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SearchTasksUseCase {
+    public static final int MAX_LIMIT = 100;
+
+    private final TaskRepository taskRepository;
+
+    public List<Task> execute(String userId, String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return taskRepository.searchByTitle(userId, query.trim(), limit);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
+import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous variant of {@link UpdateTaskUseCase} with the same copy-on-write and retry
+ * semantics; each attempt is chained on the previous one instead of looping on a thread.
+ */
+@RequiredArgsConstructor
+public class UpdateTaskAsyncUseCase {
+    private final AsyncTaskRepository taskRepository;
+    private final Clock clock;
+
+    public UpdateTaskAsyncUseCase(AsyncTaskRepository taskRepository) {
+        this(taskRepository, Clock.systemDefaultZone());
+    }
+
+    public CompletableFuture<Task> execute(String taskId, String userId, String title, Priority priority,
+                                           Instant dueDate, Category category, Long expectedVersion) {
+        return taskRepository.findById(taskId).thenCompose(found -> {
+            Task task = found.orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+
+            if (!task.getUserId().equals(userId)) {
+                throw new UnauthorizedAccessException("User not authorized to update this task");
+            }
+
+            if (expectedVersion != null && task.getVersion() != expectedVersion) {
+                throw new TaskVersionConflictException("Task " + taskId + " has been modified (current version: "
+                        + task.getVersion() + ")");
+            }
+
+            Task updated = task.withUpdate(title, priority, dueDate, category, clock.instant());
+            return taskRepository.compareAndUpdate(updated, task.getVersion())
+                    .thenCompose(swapped -> swapped
+                            ? CompletableFuture.completedFuture(updated)
+                            : execute(taskId, userId, title, priority, dueDate, category, expectedVersion));
+        });
+    }
+}
\ No newline at end of file
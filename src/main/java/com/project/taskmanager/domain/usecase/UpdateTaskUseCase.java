@@ -2,30 +2,54 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
 import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
 import lombok.RequiredArgsConstructor;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
 
 @RequiredArgsConstructor
 public class UpdateTaskUseCase {
     private final TaskRepository taskRepository;
+    private final Clock clock;
+
+    public UpdateTaskUseCase(TaskRepository taskRepository) {
+        this(taskRepository, Clock.systemDefaultZone());
+    }
 
     public Task execute(String taskId, String userId, String title, Priority priority,
-                        LocalDateTime dueDate, Category category) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+                        Instant dueDate, Category category) {
+        return execute(taskId, userId, title, priority, dueDate, category, null);
+    }
 
-        if (!task.getUserId().equals(userId)) {
-            throw new UnauthorizedAccessException("User not authorized to update this task");
-        }
+    /**
+     * Applies the update as a copy-on-write swap. When {@code expectedVersion} is given the
+     * update only succeeds against that exact version; otherwise a lost race is retried
+     * against the latest version.
+     */
+    public Task execute(String taskId, String userId, String title, Priority priority,
+                        Instant dueDate, Category category, Long expectedVersion) {
+        while (true) {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + taskId));
+
+            if (!task.getUserId().equals(userId)) {
+                throw new UnauthorizedAccessException("User not authorized to update this task");
+            }
 
-        task.update(title, priority, dueDate, category);
-        taskRepository.update(task);
+            if (expectedVersion != null && task.getVersion() != expectedVersion) {
+                throw new TaskVersionConflictException("Task " + taskId + " has been modified (current version: "
+                        + task.getVersion() + ")");
+            }
 
-        return task;
+            Task updated = task.withUpdate(title, priority, dueDate, category, clock.instant());
+            if (taskRepository.compareAndUpdate(updated, task.getVersion())) {
+                return updated;
+            }
+        }
     }
 }
\ No newline at end of file
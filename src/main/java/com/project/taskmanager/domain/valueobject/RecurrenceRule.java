@@ -0,0 +1,124 @@
+package com.project.taskmanager.domain.valueobject;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repeats a task every {@code interval} days, weeks or months, optionally until a given time.
+ * <p>
+ * Occurrences are never stored. The n-th one is computed from the first occurrence as
+ * {@code first + n * interval} units on the calendar of {@code zone}, so monthly series
+ * anchored on the 31st land on the last day of shorter months without drifting, and a daily
+ * 09:00 task stays at 09:00 local time across daylight saving changes.
+ */
+@Value
+public class RecurrenceRule {
+
+    /**
+     * Upper bound on the occurrences of one series returned for a single query window.
+     */
+    public static final int MAX_OCCURRENCES_PER_QUERY = 1000;
+
+    Frequency frequency;
+    int interval;
+    Instant until;
+    ZoneId zone;
+
+    public RecurrenceRule(Frequency frequency, int interval, Instant until) {
+        this(frequency, interval, until, ZoneOffset.UTC);
+    }
+
+    public RecurrenceRule(Frequency frequency, int interval, Instant until, ZoneId zone) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence frequency is required");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("Recurrence interval must be at least 1");
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.until = until;
+        this.zone = zone != null ? zone : ZoneOffset.UTC;
+    }
+
+    /**
+     * Returns the first occurrence strictly after {@code instant}, or {@code null} when the
+     * series ends before then.
+     */
+    public Instant nextAfter(Instant first, Instant instant) {
+        ZonedDateTime start = first.atZone(zone);
+        long n = firstCandidate(start, instant);
+        Instant occurrence = occurrence(start, n);
+        while (!occurrence.isAfter(instant)) {
+            occurrence = occurrence(start, ++n);
+        }
+        return isWithinSeries(occurrence) ? occurrence : null;
+    }
+
+    /**
+     * Returns the occurrences within {@code [start, end]}, in order, capped at {@code limit}.
+     */
+    public List<Instant> occurrencesBetween(Instant first, Instant start, Instant end, int limit) {
+        List<Instant> occurrences = new ArrayList<>();
+        ZonedDateTime origin = first.atZone(zone);
+        long n = firstCandidate(origin, start);
+        Instant occurrence = occurrence(origin, n);
+        while (occurrence.isBefore(start)) {
+            occurrence = occurrence(origin, ++n);
+        }
+        while (!occurrence.isAfter(end) && isWithinSeries(occurrence) && occurrences.size() < limit) {
+            occurrences.add(occurrence);
+            occurrence = occurrence(origin, ++n);
+        }
+        return occurrences;
+    }
+
+    private Instant occurrence(ZonedDateTime first, long n) {
+        return first.plus(n * interval, frequency.getUnit()).toInstant();
+    }
+
+    // Jumps straight to the window instead of walking the series from its start. One step
+    // back covers month-end clamping, which can put occurrence n just before the estimate.
+    private long firstCandidate(ZonedDateTime first, Instant instant) {
+        if (!instant.isAfter(first.toInstant())) {
+            return 0;
+        }
+        long n = frequency.getUnit().between(first, instant.atZone(zone)) / interval;
+        return Math.max(0, n - 1);
+    }
+
+    private boolean isWithinSeries(Instant occurrence) {
+        return until == null || !occurrence.isAfter(until);
+    }
+
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+
+        public static Frequency fromString(String frequency) {
+            try {
+                return Frequency.valueOf(frequency.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid recurrence frequency: " + frequency);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.taskmanager.domain.valueobject;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Attribute filter for task listings. Values within one attribute are OR-ed together and the
+ * attributes are AND-ed; an empty set or a {@code null} flag leaves that attribute unconstrained.
+ */
+@Value
+@Builder
+public class TaskFilter {
+    @Singular
+    Set<Priority> priorities;
+
+    @Singular
+    Set<Category> categories;
+
+    Boolean overdue;
+
+    public boolean isEmpty() {
+        return priorities.isEmpty() && categories.isEmpty() && overdue == null;
+    }
+}
\ No newline at end of file
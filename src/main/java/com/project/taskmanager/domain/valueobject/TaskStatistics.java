@@ -0,0 +1,17 @@
+package com.project.taskmanager.domain.valueobject;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+@Value
+@Builder
+public class TaskStatistics {
+    long total;
+    Map<Priority, Long> byPriority;
+    Map<Category, Long> byCategory;
+    long overdue;
+    long dueToday;
+    long reminderSent;
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.project.taskmanager.domain.valueobject;
+
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import lombok.Value;
+
+/**
+ * Per-user limits on stored tasks. A limit of zero or less disables that check.
+ * <p>
+ * Creates are checked by the repository as part of the write, see
+ * {@link com.project.taskmanager.domain.repository.TaskRepository#saveWithinQuota}, so concurrent creates by the same user cannot overshoot
+ * the task limit. The byte limit only looks at usage before the write, so the last task admitted
+ * can take a user past it.
+ */
+@Value
+public class TenantQuota {
+
+    public static final TenantQuota UNLIMITED = new TenantQuota(0, 0);
+
+    long maxTasks;
+    long maxBytes;
+
+    public void checkCanAdd(TenantUsage usage) {
+        checkCanAdd(usage, 1);
+    }
+
+    /**
+     * Returns how many more tasks fit, or {@link Long#MAX_VALUE} if the task count is not limited.
+     * Nothing fits once the byte limit has been reached.
+     */
+    public long remainingTasks(TenantUsage usage) {
+        if (maxBytes > 0 && usage.getEstimatedBytes() >= maxBytes) {
+            return 0;
+        }
+        return maxTasks > 0 ? Math.max(maxTasks - usage.getTaskCount(), 0) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Checks that {@code count} more tasks fit. The byte limit only looks at current usage, as
+     * the size of tasks not yet stored is unknown.
+     */
+    public void checkCanAdd(TenantUsage usage, int count) {
+        if (maxTasks > 0 && usage.getTaskCount() + count > maxTasks) {
+            throw new TenantQuotaExceededException("Task quota exceeded for user " + usage.getUserId()
+                    + ": " + usage.getTaskCount() + " of " + maxTasks + " tasks used");
+        }
+        if (maxBytes > 0 && usage.getEstimatedBytes() >= maxBytes) {
+            throw new TenantQuotaExceededException("Storage quota exceeded for user " + usage.getUserId()
+                    + ": " + usage.getEstimatedBytes() + " of " + maxBytes + " bytes used");
+        }
+    }
+}
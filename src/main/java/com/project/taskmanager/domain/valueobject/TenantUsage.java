@@ -0,0 +1,19 @@
+package com.project.taskmanager.domain.valueobject;
+
+import lombok.Value;
+
+/**
+ * How much of the store one user occupies. {@code estimatedBytes} approximates the heap held
+ * by the user's tasks and their index entries; it is meant for quotas and capacity planning,
+ * not exact accounting.
+ */
+@Value
+public class TenantUsage {
+    String userId;
+    long taskCount;
+    long estimatedBytes;
+
+    public static TenantUsage empty(String userId) {
+        return new TenantUsage(userId, 0, 0);
+    }
+}
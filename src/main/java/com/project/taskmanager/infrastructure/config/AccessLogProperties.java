@@ -0,0 +1,34 @@
+package com.project.taskmanager.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sampled access log, bound from {@code tasks.access-log.*}. Endpoints are identified by
+ * controller method name, e.g. {@code getTasks}, as for rate limits.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasks.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of requests logged, from 0 (none) to 1 (all).
+     */
+    private double defaultSampleRate = 0.01;
+
+    private Map<String, Double> endpoints = new HashMap<>();
+
+    /**
+     * Requests that take at least this long are always logged.
+     */
+    private long slowThresholdMillis = 1000;
+
+    public double sampleRateFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultSampleRate);
+    }
+}
@@ -1,18 +1,52 @@
 package com.project.taskmanager.infrastructure.config;
 
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
 import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.service.TaskSorter;
+import com.project.taskmanager.domain.usecase.CountTasksUseCase;
+import com.project.taskmanager.domain.usecase.CreateTaskAsyncUseCase;
 import com.project.taskmanager.domain.usecase.CreateTaskUseCase;
+import com.project.taskmanager.domain.usecase.DeleteTaskAsyncUseCase;
 import com.project.taskmanager.domain.usecase.DeleteTaskUseCase;
+import com.project.taskmanager.domain.usecase.ExportTasksUseCase;
+import com.project.taskmanager.domain.usecase.GetTaskStatisticsUseCase;
+import com.project.taskmanager.domain.usecase.GetTasksAsyncUseCase;
 import com.project.taskmanager.domain.usecase.GetTasksUseCase;
+import com.project.taskmanager.domain.usecase.ImportTasksUseCase;
+import com.project.taskmanager.domain.usecase.SearchTasksUseCase;
+import com.project.taskmanager.domain.usecase.UpdateTaskAsyncUseCase;
 import com.project.taskmanager.domain.usecase.UpdateTaskUseCase;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.infrastructure.id.UlidTaskIdGenerator;
+import com.project.taskmanager.infrastructure.persistence.CoalescingTaskRepository;
+import com.project.taskmanager.infrastructure.persistence.ExecutorAsyncTaskRepository;
 import com.project.taskmanager.infrastructure.persistence.InMemoryTaskRepository;
+import com.project.taskmanager.infrastructure.persistence.ProfilingTaskRepository;
+import com.project.taskmanager.infrastructure.persistence.TieredTaskRepository;
+import com.project.taskmanager.infrastructure.profiling.FlightRecorderEndpoint;
+import com.project.taskmanager.infrastructure.reminder.FileReminderSink;
+import com.project.taskmanager.infrastructure.reminder.ReminderDispatcher;
+import com.project.taskmanager.infrastructure.reminder.ReminderMetrics;
+import com.project.taskmanager.infrastructure.reminder.ReminderSink;
+import com.project.taskmanager.infrastructure.reminder.WebhookReminderSink;
+import com.project.taskmanager.infrastructure.service.ProfilingTaskSorter;
 import com.project.taskmanager.infrastructure.service.ReminderService;
 import com.project.taskmanager.infrastructure.service.TaskSortingService;
+import com.project.taskmanager.infrastructure.tenant.TenantUsageEndpoint;
+import com.project.taskmanager.infrastructure.time.CoarseClock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @Configuration
 public class ApplicationConfig {
@@ -20,28 +54,200 @@ public class ApplicationConfig {
     @Value("${reminder.thread-pool-size:5}")
     private int reminderThreadPoolSize;
 
+    @Value("${reminder.initial-delay-seconds:0}")
+    private long reminderInitialDelaySeconds;
+
     @Value("${reminder.check-interval-seconds:60}")
     private long reminderCheckIntervalSeconds;
 
+    @Value("${reminder.queue-capacity:1000}")
+    private int reminderQueueCapacity;
+
+    @Value("${reminder.rejection-policy:BLOCK}")
+    private ReminderDispatcher.RejectionPolicy reminderRejectionPolicy;
+
+    @Value("${reminder.retry.max-attempts:5}")
+    private int reminderMaxAttempts;
+
+    @Value("${reminder.retry.initial-backoff-millis:500}")
+    private long reminderInitialBackoffMillis;
+
+    @Value("${reminder.retry.max-backoff-millis:30000}")
+    private long reminderMaxBackoffMillis;
+
+    @Value("${reminder.dead-letter-file:${java.io.tmpdir}/task-manager/reminders-dead-letter.log}")
+    private String reminderDeadLetterFile;
+
+    @Value("${reminder.sinks.file.enabled:true}")
+    private boolean fileSinkEnabled;
+
+    @Value("${reminder.sinks.file.path:${java.io.tmpdir}/task-manager/reminders.log}")
+    private String fileSinkPath;
+
+    @Value("${reminder.sinks.webhook.enabled:false}")
+    private boolean webhookSinkEnabled;
+
+    @Value("${reminder.sinks.webhook.url:http://localhost:9000/reminders}")
+    private String webhookSinkUrl;
+
+    @Value("${reminder.sinks.webhook.latency-millis:50}")
+    private long webhookSinkLatencyMillis;
+
+    @Value("${reminder.sinks.webhook.failure-rate:0.0}")
+    private double webhookSinkFailureRate;
+
+    @Value("${reminder.sinks.webhook.max-concurrency:4}")
+    private int webhookSinkMaxConcurrency;
+
+    @Value("${tasks.stats.consistency-check:false}")
+    private boolean statisticsConsistencyCheck;
+
+    @Value("${tasks.write-coalescer.enabled:false}")
+    private boolean writeCoalescerEnabled;
+
+    @Value("${tasks.write-coalescer.max-batch-size:64}")
+    private int writeCoalescerMaxBatchSize;
+
+    @Value("${tasks.write-coalescer.max-delay-micros:200}")
+    private long writeCoalescerMaxDelayMicros;
+
+    @Value("${tasks.write-coalescer.queue-capacity:4096}")
+    private int writeCoalescerQueueCapacity;
+
+    @Value("${tasks.tiering.enabled:false}")
+    private boolean tieringEnabled;
+
+    @Value("${tasks.tiering.cold-after-days:30}")
+    private long tieringColdAfterDays;
+
+    @Value("${tasks.tiering.sweep-interval-seconds:300}")
+    private long tieringSweepIntervalSeconds;
+
+    @Value("${tasks.tiering.directory:${java.io.tmpdir}/task-manager/cold}")
+    private String tieringDirectory;
+
+    @Value("${tasks.tiering.segment-size-bytes:67108864}")
+    private long tieringSegmentSizeBytes;
+
+    @Value("${tasks.quota.max-tasks-per-user:100000}")
+    private long quotaMaxTasksPerUser;
+
+    @Value("${tasks.quota.max-bytes-per-user:67108864}")
+    private long quotaMaxBytesPerUser;
+
+    @Value("${tasks.clock.tick-millis:10}")
+    private long clockTickMillis;
+
+    @Value("${tasks.id-generator:ULID}")
+    private TaskIdGenerator.Type idGeneratorType;
+
+    @Value("${tasks.import.batch-size:1000}")
+    private int importBatchSize;
+
+    @Value("${tasks.profiling.events.enabled:true}")
+    private boolean profilingEventsEnabled;
+
+    @Value("${tasks.profiling.recordings-directory:${java.io.tmpdir}/task-manager/recordings}")
+    private String recordingsDirectory;
+
+    @Value("${tasks.async.pool-size:8}")
+    private int asyncPoolSize;
+
+    @Value("${tasks.async.queue-capacity:1000}")
+    private int asyncQueueCapacity;
+
+    // Spring infers close() as the destroy method of the coarse clock
     @Bean
-    public TaskRepository taskRepository() {
+    public Clock clock() {
+        if (clockTickMillis <= 0) {
+            return Clock.systemDefaultZone();
+        }
+        log.info("Reading time from a clock that ticks every {}ms", clockTickMillis);
+        return new CoarseClock(Clock.systemDefaultZone(), Duration.ofMillis(clockTickMillis));
+    }
+
+    // Spring infers close() as the destroy method of the outermost repository; each decorator
+    // closes the one it wraps
+    @Bean
+    public TaskRepository taskRepository(Clock clock) {
         log.info("Initializing TaskRepository");
-        return new InMemoryTaskRepository();
+        TaskRepository repository = new InMemoryTaskRepository(statisticsConsistencyCheck, clock);
+        if (tieringEnabled) {
+            log.info("Demoting tasks idle for {} days to cold storage in {}", tieringColdAfterDays, tieringDirectory);
+            repository = new TieredTaskRepository((InMemoryTaskRepository) repository, Path.of(tieringDirectory),
+                    tieringSegmentSizeBytes, Duration.ofDays(tieringColdAfterDays),
+                    Duration.ofSeconds(tieringSweepIntervalSeconds));
+        }
+        if (writeCoalescerEnabled) {
+            log.info("Coalescing writes in batches of up to {} operations or {}us",
+                    writeCoalescerMaxBatchSize, writeCoalescerMaxDelayMicros);
+            if (!tieringEnabled) {
+                log.warn("Write coalescing without tiered storage has no per-write cost to share");
+            }
+            repository = new CoalescingTaskRepository(repository, writeCoalescerMaxBatchSize,
+                    writeCoalescerMaxDelayMicros, writeCoalescerQueueCapacity);
+        }
+        // Outermost, so an event covers the time a write waits for its batch
+        return profilingEventsEnabled ? new ProfilingTaskRepository(repository) : repository;
+    }
+
+    @Bean
+    public TenantQuota tenantQuota() {
+        log.info("Per-user quota: {} tasks, {} bytes", quotaMaxTasksPerUser, quotaMaxBytesPerUser);
+        return new TenantQuota(quotaMaxTasksPerUser, quotaMaxBytesPerUser);
     }
 
     @Bean
-    public CreateTaskUseCase createTaskUseCase(TaskRepository taskRepository) {
-        return new CreateTaskUseCase(taskRepository);
+    public TaskIdGenerator taskIdGenerator() {
+        log.info("Generating task ids as {}", idGeneratorType);
+        return switch (idGeneratorType) {
+            case UUID -> TaskIdGenerator.RANDOM_UUID;
+            case ULID -> new UlidTaskIdGenerator();
+        };
     }
 
     @Bean
-    public GetTasksUseCase getTasksUseCase(TaskRepository taskRepository) {
-        return new GetTasksUseCase(taskRepository);
+    public TenantUsageEndpoint tenantUsageEndpoint(TaskRepository taskRepository, TenantQuota tenantQuota) {
+        return new TenantUsageEndpoint(taskRepository, tenantQuota);
     }
 
     @Bean
-    public UpdateTaskUseCase updateTaskUseCase(TaskRepository taskRepository) {
-        return new UpdateTaskUseCase(taskRepository);
+    public CreateTaskUseCase createTaskUseCase(TaskRepository taskRepository, TenantQuota tenantQuota,
+                                               TaskIdGenerator taskIdGenerator, Clock clock) {
+        return new CreateTaskUseCase(taskRepository, tenantQuota, taskIdGenerator, clock);
+    }
+
+    @Bean
+    public ImportTasksUseCase importTasksUseCase(TaskRepository taskRepository, TenantQuota tenantQuota,
+                                                 TaskIdGenerator taskIdGenerator, Clock clock) {
+        return new ImportTasksUseCase(taskRepository, tenantQuota, taskIdGenerator, clock, importBatchSize);
+    }
+
+    @Bean
+    public ExportTasksUseCase exportTasksUseCase(TaskRepository taskRepository) {
+        return new ExportTasksUseCase(taskRepository);
+    }
+
+    @Bean
+    public TaskSorter taskSorter(TaskSortingService taskSortingService) {
+        return profilingEventsEnabled
+                ? new ProfilingTaskSorter(TaskSorter.IN_MEMORY, taskSortingService)
+                : TaskSorter.IN_MEMORY;
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint() {
+        return new FlightRecorderEndpoint(Path.of(recordingsDirectory));
+    }
+
+    @Bean
+    public GetTasksUseCase getTasksUseCase(TaskRepository taskRepository, TaskSorter taskSorter) {
+        return new GetTasksUseCase(taskRepository, taskSorter);
+    }
+
+    @Bean
+    public UpdateTaskUseCase updateTaskUseCase(TaskRepository taskRepository, Clock clock) {
+        return new UpdateTaskUseCase(taskRepository, clock);
     }
 
     @Bean
@@ -49,15 +255,93 @@ public class ApplicationConfig {
         return new DeleteTaskUseCase(taskRepository);
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorAsyncTaskRepository asyncTaskRepository(TaskRepository taskRepository) {
+        log.info("Initializing AsyncTaskRepository with pool size: {} and queue capacity: {}",
+                asyncPoolSize, asyncQueueCapacity);
+        return new ExecutorAsyncTaskRepository(taskRepository, asyncPoolSize, asyncQueueCapacity);
+    }
+
+    @Bean
+    public CreateTaskAsyncUseCase createTaskAsyncUseCase(AsyncTaskRepository asyncTaskRepository,
+                                                         TenantQuota tenantQuota,
+                                                         TaskIdGenerator taskIdGenerator,
+                                                         Clock clock) {
+        return new CreateTaskAsyncUseCase(asyncTaskRepository, tenantQuota, taskIdGenerator, clock);
+    }
+
+    @Bean
+    public GetTasksAsyncUseCase getTasksAsyncUseCase(AsyncTaskRepository asyncTaskRepository, TaskSorter taskSorter) {
+        return new GetTasksAsyncUseCase(asyncTaskRepository, taskSorter);
+    }
+
+    @Bean
+    public UpdateTaskAsyncUseCase updateTaskAsyncUseCase(AsyncTaskRepository asyncTaskRepository, Clock clock) {
+        return new UpdateTaskAsyncUseCase(asyncTaskRepository, clock);
+    }
+
+    @Bean
+    public DeleteTaskAsyncUseCase deleteTaskAsyncUseCase(AsyncTaskRepository asyncTaskRepository) {
+        return new DeleteTaskAsyncUseCase(asyncTaskRepository);
+    }
+
+    @Bean
+    public CountTasksUseCase countTasksUseCase(TaskRepository taskRepository) {
+        return new CountTasksUseCase(taskRepository);
+    }
+
+    @Bean
+    public GetTaskStatisticsUseCase getTaskStatisticsUseCase(TaskRepository taskRepository) {
+        return new GetTaskStatisticsUseCase(taskRepository);
+    }
+
+    @Bean
+    public SearchTasksUseCase searchTasksUseCase(TaskRepository taskRepository) {
+        return new SearchTasksUseCase(taskRepository);
+    }
+
     @Bean
     public TaskSortingService taskSortingService() {
         return new TaskSortingService();
     }
 
+    // Started and stopped by ReminderService, after the scanner that feeds it has stopped
+    @Bean(destroyMethod = "")
+    public ReminderDispatcher reminderDispatcher() {
+        List<ReminderSink> sinks = new ArrayList<>();
+        if (fileSinkEnabled) {
+            sinks.add(new FileReminderSink(Path.of(fileSinkPath)));
+        }
+        if (webhookSinkEnabled) {
+            sinks.add(new WebhookReminderSink(webhookSinkUrl, webhookSinkLatencyMillis, webhookSinkFailureRate,
+                    webhookSinkMaxConcurrency));
+        }
+        log.info("Initializing ReminderDispatcher with {} workers, queue capacity {} ({}) and sinks {}",
+                reminderThreadPoolSize, reminderQueueCapacity, reminderRejectionPolicy,
+                sinks.stream().map(ReminderSink::name).toList());
+        return new ReminderDispatcher(sinks, reminderThreadPoolSize, reminderQueueCapacity, reminderRejectionPolicy,
+                new ReminderDispatcher.RetryPolicy(reminderMaxAttempts, reminderInitialBackoffMillis,
+                        reminderMaxBackoffMillis),
+                Path.of(reminderDeadLetterFile));
+    }
+
     @Bean(initMethod = "start", destroyMethod = "shutdown")
-    public ReminderService reminderService(TaskRepository taskRepository) {
-        log.info("Initializing ReminderService with thread pool size: {} and check interval: {}s",
-                reminderThreadPoolSize, reminderCheckIntervalSeconds);
-        return new ReminderService(taskRepository, reminderThreadPoolSize, reminderCheckIntervalSeconds);
+    public ReminderService reminderService(TaskRepository taskRepository, ReminderDispatcher reminderDispatcher,
+                                           Clock clock) {
+        log.info("Initializing ReminderService with check interval: {}s", reminderCheckIntervalSeconds);
+        return new ReminderService(taskRepository, reminderDispatcher, clock, reminderInitialDelaySeconds,
+                reminderCheckIntervalSeconds);
+    }
+
+    // With spring.main.lazy-initialization nothing would ever ask for the scanner or its meters,
+    // so reminders would silently stop; everything else is created on first use
+    @Bean
+    public static LazyInitializationExcludeFilter eagerReminderBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ReminderService.class, ReminderMetrics.class);
+    }
+
+    @Bean
+    public ReminderMetrics reminderMetrics(ReminderService reminderService, ReminderDispatcher reminderDispatcher) {
+        return new ReminderMetrics(reminderService, reminderDispatcher);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.project.taskmanager.infrastructure.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -12,8 +13,18 @@ import java.util.Arrays;
 public class CorsConfig {
 
     @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
     public CorsFilter corsFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", apiCorsConfiguration());
+
+        return new CorsFilter(source);
+    }
+
+    /**
+     * CORS policy for the API, shared by the servlet filter and the reactive variant.
+     */
+    public static CorsConfiguration apiCorsConfiguration() {
         CorsConfiguration config = new CorsConfiguration();
 
         // Allow credentials
@@ -34,7 +45,8 @@ public class CorsConfig {
                 "Accept",
                 "Authorization",
                 "X-User-Id",
-                "X-Requested-With"
+                "X-Requested-With",
+                "If-Match"
         ));
 
         // Allow all HTTP methods
@@ -53,11 +65,11 @@ public class CorsConfig {
         // Expose headers
         config.setExposedHeaders(Arrays.asList(
                 "X-User-Id",
-                "Content-Type"
+                "Content-Type",
+                "ETag",
+                "Retry-After"
         ));
 
-        source.registerCorsConfiguration("/api/**", config);
-
-        return new CorsFilter(source);
+        return config;
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.project.taskmanager.infrastructure.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-user request limits and global admission control, bound from {@code tasks.rate-limit.*}.
+ * Endpoints are identified by controller method name, e.g. {@code getTasks}.
+ */
+@Data
+@ConfigurationProperties(prefix = "tasks.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Limit defaultLimit = new Limit(50, 100);
+
+    private Map<String, Limit> endpoints = new HashMap<>();
+
+    /**
+     * Upper bound on (user, endpoint) buckets kept in memory.
+     */
+    private int maxTrackedKeys = 100_000;
+
+    private long sweepIntervalMillis = 30_000;
+
+    /**
+     * Requests processed at once across all users before new ones are refused.
+     */
+    private int maxInFlight = 256;
+
+    private int admissionRetryAfterSeconds = 1;
+
+    public Limit limitFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultLimit);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private double requestsPerSecond;
+        private int burst;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.taskmanager.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.infrastructure.ratelimit.InFlightLimiter;
+import com.project.taskmanager.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.project.taskmanager.presentation.converter.TaskListJsonHttpMessageConverter;
+import com.project.taskmanager.presentation.converter.TaskListProtobufHttpMessageConverter;
+import com.project.taskmanager.presentation.interceptor.AccessLogInterceptor;
+import com.project.taskmanager.presentation.interceptor.RateLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties({RateLimitProperties.class, AccessLogProperties.class})
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final RateLimitProperties rateLimitProperties;
+    private final AccessLogProperties accessLogProperties;
+
+    @Value("${tasks.json-cache.capacity:16384}")
+    private int jsonCacheCapacity;
+
+    public WebConfig(ObjectMapper objectMapper, RateLimitProperties rateLimitProperties,
+                     AccessLogProperties accessLogProperties) {
+        this.objectMapper = objectMapper;
+        this.rateLimitProperties = rateLimitProperties;
+        this.accessLogProperties = accessLogProperties;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Registered ahead of the generic Jackson converter so task listings use cached fragments
+        converters.add(0, new TaskListJsonHttpMessageConverter(objectMapper, jsonCacheCapacity));
+        // Right after it, so JSON stays the default for clients that accept anything
+        converters.add(1, new TaskListProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Ahead of rate limiting, so rejected requests are logged too
+        if (accessLogProperties.isEnabled()) {
+            registry.addInterceptor(new AccessLogInterceptor(accessLogProperties)).addPathPatterns("/api/**");
+        }
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+        registry.addInterceptor(new RateLimitInterceptor(
+                        rateLimitProperties,
+                        new TokenBucketRateLimiter(rateLimitProperties.getMaxTrackedKeys(),
+                                rateLimitProperties.getSweepIntervalMillis()),
+                        new InFlightLimiter(rateLimitProperties.getMaxInFlight())))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.taskmanager.infrastructure.id;
+
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered 128-bit ids, written as 26 characters of Crockford base32 like a ULID: 48 bits of
+ * Unix milliseconds, a 16-bit sequence and 64 random bits from {@link ThreadLocalRandom}.
+ * <p>
+ * The time and sequence half is advanced with a single CAS, so ids from one generator strictly
+ * increase in the order they are handed out, within a millisecond and across threads. More than
+ * 65,536 ids in one millisecond carry into the timestamp, which then runs slightly ahead of the
+ * clock until the rate drops. Ids compare as strings in the same order as their 16-byte binary
+ * form, see {@link #toBytes} and {@link #fromBytes}.
+ */
+public class UlidTaskIdGenerator implements TaskIdGenerator {
+
+    public static final int LENGTH = 26;
+    public static final int BINARY_LENGTH = 16;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] VALUES = new byte[128];
+    private static final int SEQUENCE_BITS = 16;
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private final LongSupplier currentTimeMillis;
+    private final AtomicLong lastHigh = new AtomicLong();
+
+    public UlidTaskIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    UlidTaskIdGenerator(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public String nextId() {
+        long floor = currentTimeMillis.getAsLong() << SEQUENCE_BITS;
+        long last;
+        long high;
+        do {
+            last = lastHigh.get();
+            high = Math.max(last + 1, floor);
+        } while (!lastHigh.compareAndSet(last, high));
+        return format(high, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Whether {@code id} has the shape of an id from this generator.
+     */
+    public static boolean isUlid(String id) {
+        if (id == null || id.length() != LENGTH || id.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (c >= VALUES.length || VALUES[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static byte[] toBytes(String id) {
+        if (!isUlid(id)) {
+            throw new IllegalArgumentException("Not a ULID: " + id);
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            high = high << 5 | low >>> 59;
+            low = low << 5 | VALUES[id.charAt(i)];
+        }
+        return ByteBuffer.allocate(BINARY_LENGTH).putLong(high).putLong(low).array();
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return format(buffer.getLong(), buffer.getLong());
+    }
+
+    // The 128 bits are read as a 130-bit number with two leading zeros, five bits per character
+    private static String format(long high, long low) {
+        char[] chars = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            chars[i] = ALPHABET[fiveBits(high, low, 125 - 5 * i)];
+        }
+        return new String(chars);
+    }
+
+    private static int fiveBits(long high, long low, int shift) {
+        if (shift >= 64) {
+            return (int) (high >>> (shift - 64)) & 31;
+        }
+        if (shift > 59) {
+            return (int) (low >>> shift | high << (64 - shift)) & 31;
+        }
+        return (int) (low >>> shift) & 31;
+    }
+}
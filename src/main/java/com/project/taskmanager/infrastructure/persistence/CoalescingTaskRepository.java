@@ -0,0 +1,328 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Group commit in front of any {@link TaskRepository}.
+ * <p>
+ * Writes from concurrent callers are queued and applied by a single thread in batches of up to
+ * {@code maxBatchSize} operations, waiting at most {@code maxDelayMicros} for a batch to fill.
+ * Each batch runs through the delegate's {@link TaskRepository#inBatch}, so a store that locks
+ * or syncs per write does so once per batch, and callers return only once the batch holding
+ * their write is stored. {@link TieredTaskRepository} takes its tier lock once per batch; the
+ * plain in-memory store has no per-write cost to share, so in front of it the coalescer only
+ * adds a queue hop. Reads go straight to the delegate; a caller that has returned from a write
+ * always sees it.
+ */
+@Slf4j
+public class CoalescingTaskRepository implements TaskRepository, Closeable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final TaskRepository delegate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final Thread applier;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final AtomicBoolean shutDown = new AtomicBoolean();
+    private long batchesApplied;
+
+    public CoalescingTaskRepository(TaskRepository delegate, int maxBatchSize, long maxDelayMicros,
+                                    int queueCapacity) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.applier = new Thread(this::applyLoop, "task-write-coalescer");
+        this.applier.setDaemon(true);
+        this.applier.start();
+    }
+
+    @Override
+    public Task save(Task task) {
+        return apply(() -> delegate.save(task));
+    }
+
+    // A single queued operation, so the whole list lands in one batch
+    @Override
+    public void saveAll(List<Task> tasks) {
+        apply(() -> {
+            delegate.saveAll(tasks);
+            return null;
+        });
+    }
+
+    @Override
+    public Task saveWithinQuota(Task task, TenantQuota quota) {
+        return apply(() -> delegate.saveWithinQuota(task, quota));
+    }
+
+    @Override
+    public int saveAllWithinQuota(List<Task> tasks, TenantQuota quota) {
+        return apply(() -> delegate.saveAllWithinQuota(tasks, quota));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Task> findByUserId(String userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public void forEachByUserId(String userId, Consumer<Task> action) {
+        delegate.forEachByUserId(userId, action);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate) {
+        return delegate.findByUserIdAndDateRange(userId, startDate, endDate);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        return delegate.findByUserIdAndFilter(userId, filter);
+    }
+
+    @Override
+    public long countByUserIdAndFilter(String userId, TaskFilter filter) {
+        return delegate.countByUserIdAndFilter(userId, filter);
+    }
+
+    @Override
+    public List<Task> findDueTasks() {
+        return delegate.findDueTasks();
+    }
+
+    @Override
+    public TaskStatistics getStatistics(String userId, ZoneId zone) {
+        return delegate.getStatistics(userId, zone);
+    }
+
+    @Override
+    public List<Task> searchByTitle(String userId, String query, int limit) {
+        return delegate.searchByTitle(userId, query, limit);
+    }
+
+    @Override
+    public void update(Task task) {
+        apply(() -> {
+            delegate.update(task);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean compareAndUpdate(Task task, long expectedVersion) {
+        return apply(() -> delegate.compareAndUpdate(task, expectedVersion));
+    }
+
+    @Override
+    public void delete(String id) {
+        apply(() -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean compareAndDelete(String id, long expectedVersion) {
+        return apply(() -> delegate.compareAndDelete(id, expectedVersion));
+    }
+
+    @Override
+    public long getModificationStamp(String userId) {
+        return delegate.getModificationStamp(userId);
+    }
+
+    @Override
+    public TenantUsage getUsage(String userId) {
+        return delegate.getUsage(userId);
+    }
+
+    @Override
+    public List<TenantUsage> findLargestTenants(int limit) {
+        return delegate.findLargestTenants(limit);
+    }
+
+    /**
+     * Stops accepting writes, applies everything already queued and stops the applier thread,
+     * then closes the delegate if it holds resources of its own.
+     */
+    @Override
+    public void close() {
+        if (!shutDown.compareAndSet(false, true)) {
+            return;
+        }
+        log.info("Shutting down write coalescer");
+        running.set(false);
+        try {
+            applier.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failQueued();
+        if (delegate instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("Failed to close task repository", e);
+            }
+        }
+    }
+
+    // Only read by tests once writers have returned; the applier publishes it through the futures
+    long batchesApplied() {
+        return batchesApplied;
+    }
+
+    private <T> T apply(Supplier<T> operation) {
+        PendingWrite<T> write = new PendingWrite<>(operation);
+        enqueue(write);
+        try {
+            return write.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Waits while the queue is full, pushing back on writers instead of growing without bound.
+    // A write queued after shutdown has drained the queue takes itself back out, so every
+    // write is either applied, failed by the coalescer or rejected here, never left waiting.
+    private void enqueue(PendingWrite<?> write) {
+        if (!running.get()) {
+            throw closed();
+        }
+        try {
+            while (!queue.offer(write, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!running.get()) {
+                    throw closed();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing write", e);
+        }
+        if (!running.get() && queue.remove(write)) {
+            throw closed();
+        }
+    }
+
+    private void failQueued() {
+        PendingWrite<?> orphan;
+        while ((orphan = queue.poll()) != null) {
+            orphan.result.completeExceptionally(closed());
+        }
+    }
+
+    private static IllegalStateException closed() {
+        return new IllegalStateException("Write coalescer has been shut down");
+    }
+
+    private void applyLoop() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running.get() || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                applyBatch(batch);
+            } catch (InterruptedException e) {
+                // Nothing would apply the writes still waiting, so they all fail
+                log.warn("Write coalescer interrupted, failing pending writes");
+                running.set(false);
+                batch.forEach(write -> write.result.completeExceptionally(closed()));
+                failQueued();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Write coalescer failed to apply batch", e);
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Takes whatever is already queued, then waits for stragglers until the batch is full or the
+    // delay since the first write has passed
+    private void fill(List<PendingWrite<?>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // A batch the delegate fails to store fails every write in it, through applyLoop
+    private void applyBatch(List<PendingWrite<?>> batch) {
+        delegate.inBatch(() -> batch.forEach(PendingWrite::run));
+        batchesApplied++;
+        batch.forEach(PendingWrite::complete);
+    }
+
+    private static final class PendingWrite<T> {
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        PendingWrite(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        void run() {
+            try {
+                value = operation.get();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        // Callers are released only once the whole batch is stored
+        void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Task snapshots spilled to append-only segment files. The heap keeps each task's location,
+ * the attributes filters and date ranges look at, title postings and statistics counters, so
+ * counts and statistics never touch disk and other queries read only the records they return.
+ * <p>
+ * Records are appended to the active segment until it reaches {@code segmentSizeBytes}, then a
+ * new one is started. Removing a task only drops its index entry. Compaction copies the
+ * survivors out of mostly-dead segments, and {@link #reclaim} deletes segments left with no live
+ * records; a segment is never deleted anywhere else, so a reader holding a location into it can
+ * always finish its read.
+ * The segments are scratch space for this store: they live in a subdirectory of their own,
+ * locked while the store is open and deleted on close. Subdirectories left behind by a process
+ * that died are removed the next time a store opens in the same directory.
+ * <p>
+ * Reads, puts and removes may run concurrently. {@link #relocate} and {@link #reclaim} must not
+ * overlap with anything else; {@link #planCompaction} may.
+ */
+@Slf4j
+class ColdTaskStore implements Closeable {
+
+    // Id string, map node, location with its summary, per-user id set entry and title postings;
+    // the snapshot itself is on disk
+    static final int INDEX_ENTRY_BYTES = 320;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String STORE_PREFIX = "store-";
+    private static final String LOCK_FILE = "lock";
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final long segmentSizeBytes;
+    private final Map<String, Location> locations = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> idsByUser = new ConcurrentHashMap<>();
+    private final TaskStatisticsIndex statisticsIndex = new TaskStatisticsIndex();
+    private final TitleSearchIndex titleIndex = new TitleSearchIndex();
+    private final List<TaskIndex> indexes = List.of(statisticsIndex, titleIndex);
+    private final LongAdder recordsRead = new LongAdder();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Object appendLock = new Object();
+    private Segment active;
+    private int nextSegmentId;
+
+    ColdTaskStore(Path parent, long segmentSizeBytes) {
+        this.segmentSizeBytes = segmentSizeBytes;
+        try {
+            Files.createDirectories(parent);
+            removeAbandonedStores(parent);
+            this.directory = Files.createTempDirectory(parent, STORE_PREFIX);
+            this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            lockChannel.lock();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare cold storage in " + parent, e);
+        }
+    }
+
+    void put(Task task) {
+        Location location = append(TaskRecordCodec.encode(task), Summary.of(task));
+        Location previous = locations.put(task.getId(), location);
+        Task replaced = previous != null ? read(previous) : null;
+        if (previous != null) {
+            release(previous);
+        }
+        idsByUser.computeIfAbsent(task.getUserId(), k -> ConcurrentHashMap.newKeySet()).add(task.getId());
+        notifyIndexes(replaced, task);
+    }
+
+    Optional<Task> get(String id) {
+        Location location = locations.get(id);
+        return location != null ? Optional.of(read(location)) : Optional.empty();
+    }
+
+    /**
+     * Drops the task from the store and returns its last snapshot, or {@code null} if it was not
+     * stored here.
+     */
+    Task remove(String id) {
+        Location location = locations.remove(id);
+        if (location == null) {
+            return null;
+        }
+        Task task = read(location);
+        Set<String> ids = idsByUser.get(task.getUserId());
+        if (ids != null) {
+            ids.remove(id);
+        }
+        notifyIndexes(task, null);
+        release(location);
+        return task;
+    }
+
+    /**
+     * Reads every task the user has in this store, in file order.
+     */
+    List<Task> findByUserId(String userId) {
+        return readInFileOrder(locate(userId, summary -> true));
+    }
+
+    /**
+     * Reads the user's tasks matching the filter. Only the matching records are read.
+     */
+    List<Task> find(String userId, TaskFilter filter, Instant now) {
+        return readInFileOrder(locate(userId, summary -> summary.matches(filter, now)));
+    }
+
+    long count(String userId, TaskFilter filter, Instant now) {
+        long count = 0;
+        for (String id : idsOf(userId)) {
+            Location location = locations.get(id);
+            if (location != null && location.summary().matches(filter, now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the occurrences of the user's tasks due within {@code [start, end]}, reading only
+     * the records that can have one.
+     */
+    List<Task> findBetween(String userId, Instant start, Instant end) {
+        List<Task> occurrences = new ArrayList<>();
+        for (Task task : readInFileOrder(locate(userId, summary -> summary.mayOccurBetween(start, end)))) {
+            occurrences.addAll(task.occurrencesBetween(start, end));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Ranks the user's tasks against the query on heap, then reads only the top {@code limit}.
+     */
+    List<Task> search(String userId, String query, int limit) {
+        return titleIndex.search(userId, query, limit, id -> {
+            Location location = locations.get(id);
+            return location != null ? read(location) : null;
+        });
+    }
+
+    // Weakly consistent live view, for iterating without copying
+    Set<String> idsOf(String userId) {
+        Set<String> ids = idsByUser.get(userId);
+        return ids != null ? ids : Collections.emptySet();
+    }
+
+    TaskStatistics statistics(String userId, Instant now, ZoneId zone) {
+        return statisticsIndex.statistics(userId, now, zone);
+    }
+
+    TenantUsage usage(String userId) {
+        Set<String> ids = idsByUser.get(userId);
+        long count = ids != null ? ids.size() : 0;
+        return new TenantUsage(userId, count, count * INDEX_ENTRY_BYTES);
+    }
+
+    Set<String> userIds() {
+        return idsByUser.keySet();
+    }
+
+    int size() {
+        return locations.size();
+    }
+
+    long recordsRead() {
+        return recordsRead.sum();
+    }
+
+    /**
+     * Picks every full segment whose live fraction has dropped below {@code minLiveRatio} and
+     * collects the ids still stored in them, in a single pass over the index. May run alongside
+     * reads and writes: nothing is appended to a full segment, so the plan can only go stale by
+     * records leaving it, and {@link #relocate} skips those.
+     */
+    Compaction planCompaction(double minLiveRatio) {
+        Set<Segment> sparse = Collections.newSetFromMap(new IdentityHashMap<>());
+        synchronized (appendLock) {
+            for (Segment segment : segments) {
+                if (segment != active && segment.live.get() < segment.records.get() * minLiveRatio) {
+                    sparse.add(segment);
+                }
+            }
+        }
+        List<String> ids = new ArrayList<>();
+        if (!sparse.isEmpty()) {
+            locations.forEach((id, location) -> {
+                if (sparse.contains(location.segment())) {
+                    ids.add(id);
+                }
+            });
+        }
+        return new Compaction(sparse, ids);
+    }
+
+    /**
+     * Copies the given records of a planned compaction into the active segment. Returns the
+     * number of records moved; the emptied segments are left for {@link #reclaim}.
+     */
+    int relocate(Compaction compaction, List<String> ids) {
+        int moved = 0;
+        for (String id : ids) {
+            Location location = locations.get(id);
+            if (location != null && compaction.segments.contains(location.segment())) {
+                locations.put(id, append(readBytes(location), location.summary()));
+                release(location);
+                moved++;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Deletes every segment other than the active one that has no live records left, and
+     * returns how many were deleted.
+     */
+    int reclaim() {
+        int deleted = 0;
+        synchronized (appendLock) {
+            for (Iterator<Segment> iterator = segments.iterator(); iterator.hasNext(); ) {
+                Segment segment = iterator.next();
+                if (segment != active && segment.live.get() == 0) {
+                    iterator.remove();
+                    segment.delete();
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            for (Segment segment : segments) {
+                segment.delete();
+            }
+            segments.clear();
+            active = null;
+        }
+        locations.clear();
+        idsByUser.clear();
+        try {
+            lockChannel.close();
+            Files.deleteIfExists(directory.resolve(LOCK_FILE));
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            log.warn("Failed to delete cold storage directory {}", directory, e);
+        }
+    }
+
+    // A store directory whose lock can be taken has no live owner
+    private static void removeAbandonedStores(Path parent) throws IOException {
+        try (DirectoryStream<Path> stores = Files.newDirectoryStream(parent, STORE_PREFIX + "*")) {
+            for (Path store : stores) {
+                Path lockFile = store.resolve(LOCK_FILE);
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+                    if (channel.tryLock() == null) {
+                        continue;
+                    }
+                } catch (OverlappingFileLockException e) {
+                    // Held by another store in this JVM
+                    continue;
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(store)) {
+                    for (Path file : files) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                Files.deleteIfExists(store);
+                log.info("Removed abandoned cold storage {}", store);
+            }
+        }
+    }
+
+    private Location append(byte[] record, Summary summary) {
+        synchronized (appendLock) {
+            if (active == null || (active.size > 0 && active.size + record.length > segmentSizeBytes)) {
+                active = openSegment();
+            }
+            long offset = active.size;
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                while (buffer.hasRemaining()) {
+                    active.channel.write(buffer, offset + buffer.position());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to " + active.path, e);
+            }
+            active.size += record.length;
+            active.records.incrementAndGet();
+            active.live.incrementAndGet();
+            return new Location(active, offset, record.length, summary);
+        }
+    }
+
+    // The user's locations whose summary passes the predicate, without reading any record
+    private List<Location> locate(String userId, Predicate<Summary> predicate) {
+        Set<String> ids = idsByUser.get(userId);
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Location> matching = new ArrayList<>();
+        for (String id : ids) {
+            Location location = locations.get(id);
+            if (location != null && predicate.test(location.summary())) {
+                matching.add(location);
+            }
+        }
+        return matching;
+    }
+
+    // Sorted by position first, so a query reads each segment front to back
+    private List<Task> readInFileOrder(List<Location> matching) {
+        matching.sort(Comparator.comparingInt((Location location) -> location.segment().id)
+                .thenComparingLong(Location::offset));
+        List<Task> tasks = new ArrayList<>(matching.size());
+        for (Location location : matching) {
+            tasks.add(read(location));
+        }
+        return tasks;
+    }
+
+    private Task read(Location location) {
+        return TaskRecordCodec.decode(readBytes(location));
+    }
+
+    private byte[] readBytes(Location location) {
+        recordsRead.increment();
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        try {
+            while (buffer.hasRemaining()) {
+                if (location.segment().channel.read(buffer, location.offset() + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of segment");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read from " + location.segment().path, e);
+        }
+        return buffer.array();
+    }
+
+    // The segment stays open even when this was its last live record: a concurrent reader may
+    // still hold a location into it
+    private void release(Location location) {
+        location.segment().live.decrementAndGet();
+    }
+
+    private void notifyIndexes(Task previous, Task current) {
+        for (TaskIndex index : indexes) {
+            index.onChange(previous, current);
+        }
+    }
+
+    private Segment openSegment() {
+        Path path = directory.resolve(SEGMENT_PREFIX + nextSegmentId + SEGMENT_SUFFIX);
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(nextSegmentId++, path, channel);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create cold segment " + path, e);
+        }
+    }
+
+    /**
+     * The sparse segments chosen by {@link #planCompaction} and the ids that lived in them.
+     */
+    static final class Compaction {
+        private final Set<Segment> segments;
+        private final List<String> ids;
+
+        private Compaction(Set<Segment> segments, List<String> ids) {
+            this.segments = segments;
+            this.ids = ids;
+        }
+
+        List<String> ids() {
+            return ids;
+        }
+
+        int segmentCount() {
+            return segments.size();
+        }
+    }
+
+    private record Location(Segment segment, long offset, int length, Summary summary) {
+    }
+
+    /**
+     * The attributes of a stored task that filters and date ranges look at.
+     *
+     * @param singleOccurrence whether the due date is the task's only occurrence, as for a task
+     *                         that does not recur or whose series has ended
+     */
+    private record Summary(Priority priority, Category category, Instant dueDate, boolean singleOccurrence) {
+
+        static Summary of(Task task) {
+            return new Summary(task.getPriority(), task.getCategory(), task.getDueDate(),
+                    !task.isRecurring() || task.isReminderSent());
+        }
+
+        // Same semantics as TaskBitmapIndex
+        boolean matches(TaskFilter filter, Instant now) {
+            if (!filter.getPriorities().isEmpty() && !filter.getPriorities().contains(priority)) {
+                return false;
+            }
+            if (!filter.getCategories().isEmpty() && !filter.getCategories().contains(category)) {
+                return false;
+            }
+            if (filter.getOverdue() != null) {
+                boolean overdue = dueDate != null && dueDate.isBefore(now);
+                return overdue == filter.getOverdue();
+            }
+            return true;
+        }
+
+        // Exact for a single occurrence; a live series is read and expanded by the caller
+        boolean mayOccurBetween(Instant start, Instant end) {
+            if (dueDate == null || dueDate.isAfter(end)) {
+                return false;
+            }
+            return !singleOccurrence || !dueDate.isBefore(start);
+        }
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger records = new AtomicInteger();
+        private final AtomicInteger live = new AtomicInteger();
+        // Only written under the append lock
+        private long size;
+
+        Segment(int id, Path path, FileChannel channel) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete cold segment {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs a blocking {@link TaskRepository} on a small dedicated worker pool.
+ * <p>
+ * The pool's queue is bounded: once it is full new calls fail fast with
+ * {@link RejectedExecutionException} instead of piling up behind slow storage.
+ */
+@Slf4j
+public class ExecutorAsyncTaskRepository implements AsyncTaskRepository {
+
+    private final TaskRepository delegate;
+    private final ThreadPoolExecutor executor;
+
+    public ExecutorAsyncTaskRepository(TaskRepository delegate, int poolSize, int queueCapacity) {
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-repository-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public CompletableFuture<Task> save(Task task) {
+        return submit(() -> delegate.save(task));
+    }
+
+    @Override
+    public CompletableFuture<Task> saveWithinQuota(Task task, TenantQuota quota) {
+        return submit(() -> delegate.saveWithinQuota(task, quota));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Task>> findById(String id) {
+        return submit(() -> delegate.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<Task>> findByUserId(String userId) {
+        return submit(() -> delegate.findByUserId(userId));
+    }
+
+    @Override
+    public CompletableFuture<List<Task>> findByUserIdAndDateRange(String userId, Instant startDate,
+                                                                  Instant endDate) {
+        return submit(() -> delegate.findByUserIdAndDateRange(userId, startDate, endDate));
+    }
+
+    @Override
+    public CompletableFuture<List<Task>> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        return submit(() -> delegate.findByUserIdAndFilter(userId, filter));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndUpdate(Task task, long expectedVersion) {
+        return submit(() -> delegate.compareAndUpdate(task, expectedVersion));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String id) {
+        return submit(() -> {
+            delegate.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndDelete(String id, long expectedVersion) {
+        return submit(() -> delegate.compareAndDelete(id, expectedVersion));
+    }
+
+    @Override
+    public CompletableFuture<TenantUsage> getUsage(String userId) {
+        return submit(() -> delegate.getUsage(userId));
+    }
+
+    public void shutdown() {
+        log.info("Shutting down async task repository");
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        try {
+            return CompletableFuture.supplyAsync(operation, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
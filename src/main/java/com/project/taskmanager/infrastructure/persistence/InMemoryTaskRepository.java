@@ -2,21 +2,90 @@ package com.project.taskmanager.infrastructure.persistence;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class InMemoryTaskRepository implements TaskRepository {
-    private final Map<String, Task> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Task> tasks = new ConcurrentHashMap<>();
+    private final TitleSearchIndex titleIndex = new TitleSearchIndex();
+    private final TaskBitmapIndex bitmapIndex = new TaskBitmapIndex();
+    private final TaskStatisticsIndex statisticsIndex = new TaskStatisticsIndex();
+    private final TenantUsageIndex usageIndex = new TenantUsageIndex();
+    private final ModificationIndex modificationIndex = new ModificationIndex();
+    private final List<TaskIndex> indexes = List.of(titleIndex, bitmapIndex, statisticsIndex, usageIndex,
+            modificationIndex);
+    private final boolean verifyStatistics;
+    private final Clock clock;
+
+    public InMemoryTaskRepository() {
+        this(false);
+    }
+
+    /**
+     * @param verifyStatistics when {@code true}, every statistics read is cross-checked against a
+     *                         full scan and a mismatch fails with {@link IllegalStateException}.
+     *                         Meant for tests; it defeats the point of the counters.
+     */
+    public InMemoryTaskRepository(boolean verifyStatistics) {
+        this(verifyStatistics, Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock time source for filters, statistics and the due-task scan
+     */
+    public InMemoryTaskRepository(boolean verifyStatistics, Clock clock) {
+        this.verifyStatistics = verifyStatistics;
+        this.clock = clock;
+    }
 
     @Override
-    public synchronized Task save(Task task) {
-        tasks.put(task.getId(), task);
+    public Task save(Task task) {
+        tasks.compute(task.getId(), (id, previous) -> {
+            notifyIndexes(previous, task);
+            return task;
+        });
         return task;
     }
 
+    @Override
+    public void saveAll(List<Task> tasks) {
+        for (Task task : tasks) {
+            save(task);
+        }
+    }
+
+    @Override
+    public Task saveWithinQuota(Task task, TenantQuota quota) {
+        return withQuotaLock(task.getUserId(), () -> {
+            quota.checkCanAdd(getUsage(task.getUserId()));
+            return save(task);
+        });
+    }
+
+    @Override
+    public int saveAllWithinQuota(List<Task> tasks, TenantQuota quota) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        String userId = tasks.get(0).getUserId();
+        return withQuotaLock(userId, () -> {
+            int fitting = (int) Math.min(tasks.size(), quota.remainingTasks(getUsage(userId)));
+            saveAll(tasks.subList(0, fitting));
+            return fitting;
+        });
+    }
+
     @Override
     public Optional<Task> findById(String id) {
         return Optional.ofNullable(tasks.get(id));
@@ -30,29 +99,148 @@ public class InMemoryTaskRepository implements TaskRepository {
     }
 
     @Override
-    public List<Task> findByUserIdAndDateRange(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+    public void forEachByUserId(String userId, Consumer<Task> action) {
+        bitmapIndex.forEach(userId, action);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate) {
         return tasks.values().stream()
                 .filter(task -> task.getUserId().equals(userId))
-                .filter(task -> task.getDueDate() != null)
-                .filter(task -> !task.getDueDate().isBefore(startDate) &&
-                        !task.getDueDate().isAfter(endDate))
+                .flatMap(task -> task.occurrencesBetween(startDate, endDate).stream())
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Task> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        return bitmapIndex.find(userId, filter, now());
+    }
+
+    @Override
+    public long countByUserIdAndFilter(String userId, TaskFilter filter) {
+        return bitmapIndex.count(userId, filter, now());
+    }
+
     @Override
     public List<Task> findDueTasks() {
+        Instant now = now();
         return tasks.values().stream()
-                .filter(Task::isDue)
+                .filter(task -> task.isDue(now))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public synchronized void update(Task task) {
-        tasks.put(task.getId(), task);
+    public TaskStatistics getStatistics(String userId, ZoneId zone) {
+        Instant now = now();
+        TaskStatistics statistics = statisticsIndex.statistics(userId, now, zone);
+        if (verifyStatistics) {
+            TaskStatistics scanned = TaskStatisticsIndex.scan(findByUserId(userId), now, zone);
+            if (!statistics.equals(scanned)) {
+                throw new IllegalStateException("Statistics for user " + userId + " are inconsistent: counters "
+                        + statistics + " but scan found " + scanned);
+            }
+        }
+        return statistics;
+    }
+
+    Instant now() {
+        return clock.instant();
     }
 
     @Override
-    public synchronized void delete(String id) {
-        tasks.remove(id);
+    public List<Task> searchByTitle(String userId, String query, int limit) {
+        return titleIndex.search(userId, query, limit, tasks::get);
+    }
+
+    @Override
+    public void update(Task task) {
+        save(task);
+    }
+
+    @Override
+    public boolean compareAndUpdate(Task task, long expectedVersion) {
+        boolean[] swapped = new boolean[1];
+        tasks.computeIfPresent(task.getId(), (id, current) -> {
+            if (current.getVersion() != expectedVersion) {
+                return current;
+            }
+            notifyIndexes(current, task);
+            swapped[0] = true;
+            return task;
+        });
+        return swapped[0];
+    }
+
+    @Override
+    public void delete(String id) {
+        tasks.computeIfPresent(id, (key, current) -> {
+            notifyIndexes(current, null);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean compareAndDelete(String id, long expectedVersion) {
+        boolean[] removed = new boolean[1];
+        tasks.computeIfPresent(id, (key, current) -> {
+            if (current.getVersion() != expectedVersion) {
+                return current;
+            }
+            notifyIndexes(current, null);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public long getModificationStamp(String userId) {
+        return modificationIndex.stamp(userId);
+    }
+
+    @Override
+    public TenantUsage getUsage(String userId) {
+        return usageIndex.usage(userId);
+    }
+
+    @Override
+    public List<TenantUsage> findLargestTenants(int limit) {
+        return usageIndex.largest(limit);
+    }
+
+    /**
+     * Stores the task unless one with the same id is already present, and returns whichever
+     * snapshot is stored afterwards.
+     */
+    Task insertIfAbsent(Task task) {
+        return tasks.compute(task.getId(), (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            notifyIndexes(null, task);
+            return task;
+        });
+    }
+
+    /**
+     * Runs a quota-checked write of the user. Such writes of one user run one at a time, each
+     * seeing the usage the previous one left; other writes are not held up.
+     */
+    <T> T withQuotaLock(String userId, Supplier<T> write) {
+        synchronized (usageIndex.quotaLock(userId)) {
+            return write.get();
+        }
+    }
+
+    // Weakly consistent, like iterating the map itself
+    void forEach(Consumer<Task> action) {
+        tasks.values().forEach(action);
+    }
+
+    // Runs inside the map's per-key compute, so index updates for one task never interleave
+    private void notifyIndexes(Task previous, Task current) {
+        for (TaskIndex index : indexes) {
+            index.onChange(previous, current);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user stamp advanced on every write to one of the user's tasks.
+ * <p>
+ * Stamps are drawn from a single sequence seeded with the start time in microseconds, so a
+ * user's stamp only grows, no two users share a non-zero stamp, and a stamp handed out before a
+ * restart is not handed out again for different contents.
+ */
+class ModificationIndex implements TaskIndex {
+
+    private final AtomicLong sequence = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    private final Map<String, Long> stamps = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Task previous, Task current) {
+        Task any = current != null ? current : previous;
+        // Writes to different tasks of one user may finish out of order; keep the later stamp
+        stamps.merge(any.getUserId(), sequence.incrementAndGet(), Math::max);
+    }
+
+    long stamp(String userId) {
+        return stamps.getOrDefault(userId, 0L);
+    }
+}
@@ -0,0 +1,221 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Emits a {@link RepositoryOperationEvent} for every read and write that reaches the delegate.
+ * Calls that throw are not recorded. The stamp and usage lookups, which are constant time and
+ * made on every listing, pass straight through.
+ * <p>
+ * Events are only timed and committed while a flight recording that enables them is running;
+ * otherwise a call costs one extra flag check.
+ */
+@Slf4j
+public class ProfilingTaskRepository implements TaskRepository, Closeable {
+
+    private final TaskRepository delegate;
+
+    public ProfilingTaskRepository(TaskRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Task save(Task task) {
+        RepositoryOperationEvent event = started();
+        Task saved = delegate.save(task);
+        finish(event, "save", task.getUserId(), 1);
+        return saved;
+    }
+
+    @Override
+    public void saveAll(List<Task> tasks) {
+        RepositoryOperationEvent event = started();
+        delegate.saveAll(tasks);
+        finish(event, "saveAll", tasks.isEmpty() ? null : tasks.get(0).getUserId(), tasks.size());
+    }
+
+    @Override
+    public Task saveWithinQuota(Task task, TenantQuota quota) {
+        RepositoryOperationEvent event = started();
+        Task saved = delegate.saveWithinQuota(task, quota);
+        finish(event, "saveWithinQuota", task.getUserId(), 1);
+        return saved;
+    }
+
+    @Override
+    public int saveAllWithinQuota(List<Task> tasks, TenantQuota quota) {
+        RepositoryOperationEvent event = started();
+        int saved = delegate.saveAllWithinQuota(tasks, quota);
+        finish(event, "saveAllWithinQuota", tasks.isEmpty() ? null : tasks.get(0).getUserId(), saved);
+        return saved;
+    }
+
+    // Each write in the batch is recorded by the repository it reaches
+    @Override
+    public void inBatch(Runnable writes) {
+        delegate.inBatch(writes);
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        RepositoryOperationEvent event = started();
+        Optional<Task> task = delegate.findById(id);
+        finish(event, "findById", task.map(Task::getUserId).orElse(null), task.isPresent() ? 1 : 0);
+        return task;
+    }
+
+    @Override
+    public List<Task> findByUserId(String userId) {
+        RepositoryOperationEvent event = started();
+        List<Task> tasks = delegate.findByUserId(userId);
+        finish(event, "findByUserId", userId, tasks.size());
+        return tasks;
+    }
+
+    // Times the whole iteration, including the work done by the action
+    @Override
+    public void forEachByUserId(String userId, Consumer<Task> action) {
+        RepositoryOperationEvent event = started();
+        long[] visited = new long[1];
+        delegate.forEachByUserId(userId, task -> {
+            visited[0]++;
+            action.accept(task);
+        });
+        finish(event, "forEachByUserId", userId, visited[0]);
+    }
+
+    @Override
+    public List<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate) {
+        RepositoryOperationEvent event = started();
+        List<Task> tasks = delegate.findByUserIdAndDateRange(userId, startDate, endDate);
+        finish(event, "findByUserIdAndDateRange", userId, tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public List<Task> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        RepositoryOperationEvent event = started();
+        List<Task> tasks = delegate.findByUserIdAndFilter(userId, filter);
+        finish(event, "findByUserIdAndFilter", userId, tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public long countByUserIdAndFilter(String userId, TaskFilter filter) {
+        RepositoryOperationEvent event = started();
+        long count = delegate.countByUserIdAndFilter(userId, filter);
+        finish(event, "countByUserIdAndFilter", userId, count);
+        return count;
+    }
+
+    @Override
+    public List<Task> findDueTasks() {
+        RepositoryOperationEvent event = started();
+        List<Task> tasks = delegate.findDueTasks();
+        finish(event, "findDueTasks", null, tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public TaskStatistics getStatistics(String userId, ZoneId zone) {
+        RepositoryOperationEvent event = started();
+        TaskStatistics statistics = delegate.getStatistics(userId, zone);
+        finish(event, "getStatistics", userId, statistics.getTotal());
+        return statistics;
+    }
+
+    @Override
+    public List<Task> searchByTitle(String userId, String query, int limit) {
+        RepositoryOperationEvent event = started();
+        List<Task> tasks = delegate.searchByTitle(userId, query, limit);
+        finish(event, "searchByTitle", userId, tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public void update(Task task) {
+        RepositoryOperationEvent event = started();
+        delegate.update(task);
+        finish(event, "update", task.getUserId(), 1);
+    }
+
+    @Override
+    public boolean compareAndUpdate(Task task, long expectedVersion) {
+        RepositoryOperationEvent event = started();
+        boolean updated = delegate.compareAndUpdate(task, expectedVersion);
+        finish(event, "compareAndUpdate", task.getUserId(), updated ? 1 : 0);
+        return updated;
+    }
+
+    @Override
+    public void delete(String id) {
+        RepositoryOperationEvent event = started();
+        delegate.delete(id);
+        finish(event, "delete", null, 1);
+    }
+
+    @Override
+    public boolean compareAndDelete(String id, long expectedVersion) {
+        RepositoryOperationEvent event = started();
+        boolean deleted = delegate.compareAndDelete(id, expectedVersion);
+        finish(event, "compareAndDelete", null, deleted ? 1 : 0);
+        return deleted;
+    }
+
+    @Override
+    public long getModificationStamp(String userId) {
+        return delegate.getModificationStamp(userId);
+    }
+
+    @Override
+    public TenantUsage getUsage(String userId) {
+        return delegate.getUsage(userId);
+    }
+
+    @Override
+    public List<TenantUsage> findLargestTenants(int limit) {
+        return delegate.findLargestTenants(limit);
+    }
+
+    /**
+     * Closes the delegate, which Spring can no longer see behind this decorator.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.warn("Failed to close task repository", e);
+            }
+        }
+    }
+
+    private static RepositoryOperationEvent started() {
+        return TimedEvent.start(new RepositoryOperationEvent());
+    }
+
+    private static void finish(RepositoryOperationEvent event, String operation, String userId, long resultCount) {
+        if (event.ended()) {
+            event.operation = operation;
+            event.userId = userId;
+            event.resultCount = resultCount;
+            event.commit();
+        }
+    }
+}
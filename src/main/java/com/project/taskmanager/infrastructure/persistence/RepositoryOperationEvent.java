@@ -0,0 +1,30 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one call into the task repository, timed from the call to its
+ * return.
+ */
+@Name("com.project.taskmanager.RepositoryOperation")
+@Label("Repository Operation")
+@Category({"Task Manager", "Repository"})
+@Description("A read or write of the task repository")
+@StackTrace(false)
+class RepositoryOperationEvent extends TimedEvent {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    String userId;
+
+    @Label("Result Count")
+    @Description("Tasks returned, counted or written")
+    long resultCount;
+}
@@ -0,0 +1,283 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Per-user bitmaps over priority and category, keyed by a dense per-user task ordinal.
+ * <p>
+ * Filters are evaluated by OR-ing the bitmaps of the requested values within an attribute and
+ * AND-ing across attributes, one 64-bit word at a time. Being overdue depends on the current
+ * time, so it is checked against a parallel array of due times only for the bits that survive
+ * the other attributes.
+ */
+class TaskBitmapIndex implements TaskIndex {
+
+    private static final int INITIAL_WORDS = 2;
+    private static final int FOR_EACH_CHUNK_SIZE = 256;
+
+    private final Map<String, UserBitmaps> users = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Task previous, Task current) {
+        Task any = current != null ? current : previous;
+        UserBitmaps bitmaps = users.computeIfAbsent(any.getUserId(), k -> new UserBitmaps());
+        if (current == null) {
+            bitmaps.remove(previous);
+        } else {
+            bitmaps.put(previous, current);
+        }
+    }
+
+    List<Task> find(String userId, TaskFilter filter, Instant now) {
+        UserBitmaps bitmaps = users.get(userId);
+        return bitmaps != null ? bitmaps.find(filter, toEpochNanos(now)) : Collections.emptyList();
+    }
+
+    long count(String userId, TaskFilter filter, Instant now) {
+        UserBitmaps bitmaps = users.get(userId);
+        return bitmaps != null ? bitmaps.count(filter, toEpochNanos(now)) : 0;
+    }
+
+    /**
+     * Passes each of the user's tasks to {@code action}. Tasks are copied out under the read lock
+     * a chunk at a time and handed over after it is released, so a slow consumer never holds up
+     * writers.
+     */
+    void forEach(String userId, Consumer<Task> action) {
+        UserBitmaps bitmaps = users.get(userId);
+        if (bitmaps == null) {
+            return;
+        }
+        Task[] chunk = new Task[FOR_EACH_CHUNK_SIZE];
+        int from = 0;
+        do {
+            from = bitmaps.copyTasks(from, chunk);
+            for (Task task : chunk) {
+                if (task == null) {
+                    break;
+                }
+                action.accept(task);
+            }
+        } while (from >= 0);
+    }
+
+    // Package-private so the statistics index orders due dates the same way
+    static long toEpochNanos(Instant instant) {
+        if (instant == null) {
+            return Long.MAX_VALUE;
+        }
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static final class UserBitmaps {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Integer> ordinals = new HashMap<>();
+        private final long[][] byPriority = new long[Priority.values().length][];
+        private final long[][] byCategory = new long[Category.values().length][];
+        private long[] live = new long[INITIAL_WORDS];
+        private long[] dueNanos = new long[INITIAL_WORDS * Long.SIZE];
+        private Task[] tasks = new Task[INITIAL_WORDS * Long.SIZE];
+        private int[] freeOrdinals = new int[8];
+        private int freeCount;
+        private int nextOrdinal;
+
+        UserBitmaps() {
+            for (int i = 0; i < byPriority.length; i++) {
+                byPriority[i] = new long[INITIAL_WORDS];
+            }
+            for (int i = 0; i < byCategory.length; i++) {
+                byCategory[i] = new long[INITIAL_WORDS];
+            }
+        }
+
+        void put(Task previous, Task current) {
+            lock.writeLock().lock();
+            try {
+                Integer ordinal = ordinals.get(current.getId());
+                if (ordinal == null) {
+                    ordinal = allocateOrdinal();
+                    ordinals.put(current.getId(), ordinal);
+                    setBit(live, ordinal);
+                } else if (previous != null) {
+                    clearAttributes(previous, ordinal);
+                }
+                if (current.getPriority() != null) {
+                    setBit(byPriority[current.getPriority().ordinal()], ordinal);
+                }
+                if (current.getCategory() != null) {
+                    setBit(byCategory[current.getCategory().ordinal()], ordinal);
+                }
+                dueNanos[ordinal] = toEpochNanos(current.getDueDate());
+                tasks[ordinal] = current;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Task previous) {
+            lock.writeLock().lock();
+            try {
+                Integer ordinal = ordinals.remove(previous.getId());
+                if (ordinal == null) {
+                    return;
+                }
+                clearAttributes(previous, ordinal);
+                clearBit(live, ordinal);
+                tasks[ordinal] = null;
+                if (freeCount == freeOrdinals.length) {
+                    freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+                }
+                freeOrdinals[freeCount++] = ordinal;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<Task> find(TaskFilter filter, long nowNanos) {
+            lock.readLock().lock();
+            try {
+                long[] matches = evaluate(filter, nowNanos);
+                List<Task> result = new ArrayList<>();
+                for (int word = 0; word < matches.length; word++) {
+                    long bits = matches[word];
+                    while (bits != 0) {
+                        int ordinal = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                        result.add(tasks[ordinal]);
+                        bits &= bits - 1;
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Fills the chunk with live tasks from ordinal `from` on and clears the unused slots.
+        // Returns the ordinal to continue from, or -1 once every ordinal has been visited.
+        int copyTasks(int from, Task[] chunk) {
+            lock.readLock().lock();
+            try {
+                int copied = 0;
+                int ordinal = from;
+                while (ordinal < nextOrdinal && copied < chunk.length) {
+                    Task task = tasks[ordinal++];
+                    if (task != null) {
+                        chunk[copied++] = task;
+                    }
+                }
+                Arrays.fill(chunk, copied, chunk.length, null);
+                return ordinal < nextOrdinal ? ordinal : -1;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long count(TaskFilter filter, long nowNanos) {
+            lock.readLock().lock();
+            try {
+                long count = 0;
+                for (long word : evaluate(filter, nowNanos)) {
+                    count += Long.bitCount(word);
+                }
+                return count;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private long[] evaluate(TaskFilter filter, long nowNanos) {
+            long[] result = live.clone();
+            if (!filter.getPriorities().isEmpty()) {
+                long[][] selected = new long[filter.getPriorities().size()][];
+                int i = 0;
+                for (Priority priority : filter.getPriorities()) {
+                    selected[i++] = byPriority[priority.ordinal()];
+                }
+                andWithUnion(result, selected);
+            }
+            if (!filter.getCategories().isEmpty()) {
+                long[][] selected = new long[filter.getCategories().size()][];
+                int i = 0;
+                for (Category category : filter.getCategories()) {
+                    selected[i++] = byCategory[category.ordinal()];
+                }
+                andWithUnion(result, selected);
+            }
+            if (filter.getOverdue() != null) {
+                boolean overdue = filter.getOverdue();
+                for (int word = 0; word < result.length; word++) {
+                    long bits = result[word];
+                    while (bits != 0) {
+                        long lowest = bits & -bits;
+                        int ordinal = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                        if ((dueNanos[ordinal] < nowNanos) != overdue) {
+                            result[word] &= ~lowest;
+                        }
+                        bits ^= lowest;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static void andWithUnion(long[] result, long[][] bitmaps) {
+            for (int word = 0; word < result.length; word++) {
+                long union = 0;
+                for (long[] bitmap : bitmaps) {
+                    union |= bitmap[word];
+                }
+                result[word] &= union;
+            }
+        }
+
+        private void clearAttributes(Task task, int ordinal) {
+            if (task.getPriority() != null) {
+                clearBit(byPriority[task.getPriority().ordinal()], ordinal);
+            }
+            if (task.getCategory() != null) {
+                clearBit(byCategory[task.getCategory().ordinal()], ordinal);
+            }
+        }
+
+        private int allocateOrdinal() {
+            if (freeCount > 0) {
+                return freeOrdinals[--freeCount];
+            }
+            int ordinal = nextOrdinal++;
+            if (ordinal >= tasks.length) {
+                grow();
+            }
+            return ordinal;
+        }
+
+        private void grow() {
+            int words = live.length * 2;
+            live = Arrays.copyOf(live, words);
+            for (int i = 0; i < byPriority.length; i++) {
+                byPriority[i] = Arrays.copyOf(byPriority[i], words);
+            }
+            for (int i = 0; i < byCategory.length; i++) {
+                byCategory[i] = Arrays.copyOf(byCategory[i], words);
+            }
+            dueNanos = Arrays.copyOf(dueNanos, words * Long.SIZE);
+            tasks = Arrays.copyOf(tasks, words * Long.SIZE);
+        }
+
+        private static void setBit(long[] bitmap, int ordinal) {
+            bitmap[ordinal >>> 6] |= 1L << ordinal;
+        }
+
+        private static void clearBit(long[] bitmap, int ordinal) {
+            bitmap[ordinal >>> 6] &= ~(1L << ordinal);
+        }
+    }
+}
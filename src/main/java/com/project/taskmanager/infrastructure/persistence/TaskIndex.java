@@ -0,0 +1,19 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+
+/**
+ * Secondary structure kept in step with the primary task map.
+ * <p>
+ * The repository calls {@link #onChange} while it holds the map entry for the task, so changes
+ * to the same task are delivered one at a time and in order. Implementations must not call
+ * back into the repository.
+ */
+interface TaskIndex {
+
+    /**
+     * @param previous the snapshot being replaced, or {@code null} for an insert
+     * @param current  the new snapshot, or {@code null} for a delete
+     */
+    void onChange(Task previous, Task current);
+}
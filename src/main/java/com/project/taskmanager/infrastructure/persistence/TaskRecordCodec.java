@@ -0,0 +1,119 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.infrastructure.id.UlidTaskIdGenerator;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Compact binary form of a {@link Task} for the cold tier. Enums are written by ordinal, so
+ * records are only meant to be read back by the process that wrote them. Ids from
+ * {@link UlidTaskIdGenerator} take 16 bytes; any other id is written as a string.
+ */
+final class TaskRecordCodec {
+
+    private static final int NULL_ORDINAL = -1;
+    private static final int ID_STRING = 0;
+    private static final int ID_ULID = 1;
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] encode(Task task) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeId(out, task.getId());
+            out.writeUTF(task.getTitle());
+            out.writeByte(task.getPriority() != null ? task.getPriority().ordinal() : NULL_ORDINAL);
+            writeInstant(out, task.getDueDate());
+            out.writeByte(task.getCategory() != null ? task.getCategory().ordinal() : NULL_ORDINAL);
+            out.writeUTF(task.getUserId());
+            writeInstant(out, task.getCreatedAt());
+            writeInstant(out, task.getUpdatedAt());
+            out.writeBoolean(task.isReminderSent());
+            out.writeLong(task.getVersion());
+            RecurrenceRule recurrence = task.getRecurrence();
+            out.writeBoolean(recurrence != null);
+            if (recurrence != null) {
+                out.writeByte(recurrence.getFrequency().ordinal());
+                out.writeInt(recurrence.getInterval());
+                writeInstant(out, recurrence.getUntil());
+                out.writeUTF(recurrence.getZone().getId());
+                writeInstant(out, task.getSeriesStart());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode task " + task.getId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Task decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            String id = readId(in);
+            String title = in.readUTF();
+            int priority = in.readByte();
+            Instant dueDate = readInstant(in);
+            int category = in.readByte();
+            String userId = in.readUTF();
+            Instant createdAt = readInstant(in);
+            Instant updatedAt = readInstant(in);
+            boolean reminderSent = in.readBoolean();
+            long version = in.readLong();
+            RecurrenceRule recurrence = null;
+            Instant seriesStart = null;
+            if (in.readBoolean()) {
+                RecurrenceRule.Frequency frequency = RecurrenceRule.Frequency.values()[in.readByte()];
+                int interval = in.readInt();
+                recurrence = new RecurrenceRule(frequency, interval, readInstant(in), ZoneId.of(in.readUTF()));
+                seriesStart = readInstant(in);
+            }
+            return new Task(id, title,
+                    priority != NULL_ORDINAL ? Priority.values()[priority] : null,
+                    dueDate,
+                    category != NULL_ORDINAL ? Category.values()[category] : null,
+                    userId, createdAt, updatedAt, reminderSent, version, recurrence, seriesStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode task record", e);
+        }
+    }
+
+    private static void writeId(DataOutputStream out, String id) throws IOException {
+        if (UlidTaskIdGenerator.isUlid(id)) {
+            out.writeByte(ID_ULID);
+            out.write(UlidTaskIdGenerator.toBytes(id));
+        } else {
+            out.writeByte(ID_STRING);
+            out.writeUTF(id);
+        }
+    }
+
+    private static String readId(DataInputStream in) throws IOException {
+        if (in.readByte() == ID_STRING) {
+            return in.readUTF();
+        }
+        byte[] bytes = new byte[UlidTaskIdGenerator.BINARY_LENGTH];
+        in.readFully(bytes);
+        return UlidTaskIdGenerator.fromBytes(bytes);
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeBoolean(instant != null);
+        if (instant != null) {
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        return Instant.ofEpochSecond(epochSecond, in.readInt());
+    }
+}
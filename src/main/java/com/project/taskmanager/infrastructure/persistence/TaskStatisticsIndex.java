@@ -0,0 +1,162 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-user task counters maintained on every write, so statistics never require a scan.
+ * <p>
+ * Static attributes are plain striped counters. Due dates are bucketed by quarter hour on the
+ * UTC timeline; every zone in use today is offset from UTC by a whole number of quarter hours,
+ * so "due today" in any zone is the sum of the buckets between its local midnights. "Overdue"
+ * changes with the clock rather than with writes: tasks wait in a due-ordered set
+ * until a read finds their due date has passed, at which point they are moved to the overdue
+ * counter. Each task therefore crosses the boundary once, however often statistics are read.
+ */
+class TaskStatisticsIndex implements TaskIndex {
+
+    private static final long QUARTER_HOUR_SECONDS = 15 * 60;
+
+    private final Map<String, UserCounters> users = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Task previous, Task current) {
+        Task any = current != null ? current : previous;
+        UserCounters counters = users.computeIfAbsent(any.getUserId(), k -> new UserCounters());
+        if (previous != null) {
+            counters.apply(previous, -1);
+        }
+        if (current != null) {
+            counters.apply(current, 1);
+        }
+    }
+
+    TaskStatistics statistics(String userId, Instant now, ZoneId zone) {
+        UserCounters counters = users.get(userId);
+        return counters != null ? counters.snapshot(now, zone) : empty(now, zone);
+    }
+
+    /**
+     * Computes the same statistics by scanning, used to cross-check the counters.
+     */
+    static TaskStatistics scan(Collection<Task> tasks, Instant now, ZoneId zone) {
+        UserCounters counters = new UserCounters();
+        tasks.forEach(task -> counters.apply(task, 1));
+        return counters.snapshot(now, zone);
+    }
+
+    private static TaskStatistics empty(Instant now, ZoneId zone) {
+        return new UserCounters().snapshot(now, zone);
+    }
+
+    private static long quarterHour(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), QUARTER_HOUR_SECONDS);
+    }
+
+    private record DueEntry(long dueNanos, String taskId) implements Comparable<DueEntry> {
+        @Override
+        public int compareTo(DueEntry other) {
+            int byDate = Long.compare(dueNanos, other.dueNanos);
+            return byDate != 0 ? byDate : taskId.compareTo(other.taskId);
+        }
+    }
+
+    private static final class UserCounters {
+        private final LongAdder total = new LongAdder();
+        private final LongAdder[] byPriority = newAdders(Priority.values().length);
+        private final LongAdder[] byCategory = newAdders(Category.values().length);
+        private final LongAdder reminderSent = new LongAdder();
+        private final ConcurrentSkipListMap<Long, LongAdder> dueByQuarterHour = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListSet<DueEntry> notYetOverdue = new ConcurrentSkipListSet<>();
+        private final LongAdder overdue = new LongAdder();
+
+        void apply(Task task, int delta) {
+            total.add(delta);
+            if (task.getPriority() != null) {
+                byPriority[task.getPriority().ordinal()].add(delta);
+            }
+            if (task.getCategory() != null) {
+                byCategory[task.getCategory().ordinal()].add(delta);
+            }
+            if (task.isReminderSent()) {
+                reminderSent.add(delta);
+            }
+            if (task.getDueDate() != null) {
+                dueByQuarterHour.computeIfAbsent(quarterHour(task.getDueDate()), k -> new LongAdder()).add(delta);
+                DueEntry entry = new DueEntry(TaskBitmapIndex.toEpochNanos(task.getDueDate()), task.getId());
+                if (delta > 0) {
+                    notYetOverdue.add(entry);
+                } else if (!notYetOverdue.remove(entry)) {
+                    // Already moved across the overdue boundary by an earlier read
+                    overdue.decrement();
+                }
+            }
+        }
+
+        TaskStatistics snapshot(Instant now, ZoneId zone) {
+            advanceOverdue(TaskBitmapIndex.toEpochNanos(now));
+
+            Map<Priority, Long> priorities = new EnumMap<>(Priority.class);
+            for (Priority priority : Priority.values()) {
+                priorities.put(priority, byPriority[priority.ordinal()].sum());
+            }
+            Map<Category, Long> categories = new EnumMap<>(Category.class);
+            for (Category category : Category.values()) {
+                categories.put(category, byCategory[category.ordinal()].sum());
+            }
+            LocalDate date = now.atZone(zone).toLocalDate();
+            long startOfDay = quarterHour(date.atStartOfDay(zone).toInstant());
+            long startOfNextDay = quarterHour(date.plusDays(1).atStartOfDay(zone).toInstant());
+            long today = 0;
+            for (LongAdder bucket : dueByQuarterHour.subMap(startOfDay, startOfNextDay).values()) {
+                today += bucket.sum();
+            }
+
+            return TaskStatistics.builder()
+                    .total(total.sum())
+                    .byPriority(priorities)
+                    .byCategory(categories)
+                    .overdue(overdue.sum())
+                    .dueToday(today)
+                    .reminderSent(reminderSent.sum())
+                    .build();
+        }
+
+        private void advanceOverdue(long nowNanos) {
+            DueEntry first;
+            while ((first = firstOrNull()) != null && first.dueNanos() < nowNanos) {
+                // Only the thread that actually removes the entry counts it
+                if (notYetOverdue.remove(first)) {
+                    overdue.increment();
+                }
+            }
+        }
+
+        private DueEntry firstOrNull() {
+            try {
+                return notYetOverdue.first();
+            } catch (NoSuchElementException e) {
+                return null;
+            }
+        }
+
+        private static LongAdder[] newAdders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-user task count and estimated heap footprint, adjusted on every write.
+ * <p>
+ * A task's footprint is estimated from its field contents plus fixed costs for the snapshot
+ * object, its date-times and its entries in the task map and the other indexes, assuming a
+ * 64-bit JVM with compressed references. The figure tracks growth well enough for quotas and
+ * capacity planning; it is not a heap measurement.
+ */
+class TenantUsageIndex implements TaskIndex {
+
+    // Task object (header, nine references, version and flag) and its three Instants
+    private static final int SNAPSHOT_BYTES = 64 + 3 * 24;
+    // Map node and table slot, bitmap ordinal and arrays, due-date skip list entry
+    private static final int INDEX_ENTRY_BYTES = 40 + 72 + 56;
+    private static final int RECURRENCE_BYTES = 32;
+    // Title tokens are copied into the search index, roughly doubling the title's cost
+    private static final int TITLE_COPIES = 2;
+
+    private final Map<String, UserUsage> users = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Task previous, Task current) {
+        Task any = current != null ? current : previous;
+        UserUsage usage = users.computeIfAbsent(any.getUserId(), k -> new UserUsage());
+        if (previous != null) {
+            usage.tasks.decrement();
+            usage.bytes.add(-estimateBytes(previous));
+        }
+        if (current != null) {
+            usage.tasks.increment();
+            usage.bytes.add(estimateBytes(current));
+        }
+    }
+
+    /**
+     * Returns the monitor quota-checked writes of the user hold, so that each of them sees the
+     * usage the previous one left.
+     */
+    Object quotaLock(String userId) {
+        return users.computeIfAbsent(userId, k -> new UserUsage());
+    }
+
+    TenantUsage usage(String userId) {
+        UserUsage usage = users.get(userId);
+        return usage != null ? usage.snapshot(userId) : TenantUsage.empty(userId);
+    }
+
+    List<TenantUsage> largest(int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<TenantUsage> bySize = Comparator.comparingLong(TenantUsage::getEstimatedBytes);
+        // Min-heap of the current top entries, so the scan is O(users log limit)
+        PriorityQueue<TenantUsage> top = new PriorityQueue<>(limit + 1, bySize);
+        users.forEach((userId, usage) -> {
+            TenantUsage snapshot = usage.snapshot(userId);
+            if (snapshot.getTaskCount() == 0) {
+                return;
+            }
+            top.add(snapshot);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<TenantUsage> result = new ArrayList<>(top);
+        result.sort(bySize.reversed());
+        return result;
+    }
+
+    static long estimateBytes(Task task) {
+        long bytes = SNAPSHOT_BYTES + INDEX_ENTRY_BYTES
+                + stringBytes(task.getId())
+                + stringBytes(task.getUserId())
+                + TITLE_COPIES * stringBytes(task.getTitle());
+        if (task.getRecurrence() != null) {
+            bytes += RECURRENCE_BYTES;
+        }
+        return bytes;
+    }
+
+    // String object and its backing array, one byte per char for Latin-1 content and two
+    // otherwise, rounded up to the 8-byte object alignment
+    private static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + align(16 + (long) value.length() * bytesPerChar);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static final class UserUsage {
+        private final LongAdder tasks = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        TenantUsage snapshot(String userId) {
+            return new TenantUsage(userId, tasks.sum(), bytes.sum());
+        }
+    }
+}
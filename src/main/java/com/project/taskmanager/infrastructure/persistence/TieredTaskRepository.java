@@ -0,0 +1,438 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the working set in an {@link InMemoryTaskRepository} and spills cold tasks to a
+ * {@link ColdTaskStore} on disk.
+ * <p>
+ * A periodic sweep demotes tasks whose reminder has been sent and whose due date and last
+ * update are both older than {@code coldAfter}. Tasks still waiting for a reminder never leave
+ * memory, so {@link #findDueTasks} only looks at the hot tier. Looking a task up by id, or
+ * writing to it, promotes it back. Listings, counts, statistics and search cover both tiers.
+ * Cold tasks are matched against on-heap metadata, so counts and statistics never read disk, and
+ * the other queries read only the cold records they return, without promoting them, so browsing
+ * history does not refill the heap.
+ * <p>
+ * Every operation holds a shared lock; demotion and compaction take it exclusively, in small
+ * batches, so a task is never observed in neither tier.
+ */
+@Slf4j
+public class TieredTaskRepository implements TaskRepository, Closeable {
+
+    private static final int DEMOTION_BATCH_SIZE = 256;
+    // Segments with fewer live records than this are rewritten by the sweep
+    private static final double MIN_LIVE_RATIO = 0.5;
+
+    private final InMemoryTaskRepository hot;
+    private final ColdTaskStore cold;
+    private final Duration coldAfter;
+    private final ReentrantReadWriteLock tierLock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService sweeper;
+    private final LongAdder demoted = new LongAdder();
+    private final LongAdder promoted = new LongAdder();
+
+    public TieredTaskRepository(InMemoryTaskRepository hot, Path coldDirectory, long segmentSizeBytes,
+                                Duration coldAfter, Duration sweepInterval) {
+        this(hot, new ColdTaskStore(coldDirectory, segmentSizeBytes), coldAfter);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepInterval.toMillis(), sweepInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Without a schedule; tests drive demotion directly
+    TieredTaskRepository(InMemoryTaskRepository hot, ColdTaskStore cold, Duration coldAfter) {
+        this.hot = hot;
+        this.cold = cold;
+        this.coldAfter = coldAfter;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-tiering");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Task save(Task task) {
+        return withSharedLock(() -> {
+            Task saved = hot.save(task);
+            cold.remove(task.getId());
+            return saved;
+        });
+    }
+
+    @Override
+    public void saveAll(List<Task> tasks) {
+        withSharedLock(() -> {
+            for (Task task : tasks) {
+                hot.save(task);
+                cold.remove(task.getId());
+            }
+            return null;
+        });
+    }
+
+    // Usage spans both tiers, and the tier lock keeps demotion from moving tasks between
+    // reading it and writing
+    @Override
+    public Task saveWithinQuota(Task task, TenantQuota quota) {
+        String userId = task.getUserId();
+        return withSharedLock(() -> hot.withQuotaLock(userId, () -> {
+            quota.checkCanAdd(getUsage(userId));
+            return save(task);
+        }));
+    }
+
+    @Override
+    public int saveAllWithinQuota(List<Task> tasks, TenantQuota quota) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        String userId = tasks.get(0).getUserId();
+        return withSharedLock(() -> hot.withQuotaLock(userId, () -> {
+            int fitting = (int) Math.min(tasks.size(), quota.remainingTasks(getUsage(userId)));
+            saveAll(tasks.subList(0, fitting));
+            return fitting;
+        }));
+    }
+
+    // One shared lock acquisition covers every write in the batch
+    @Override
+    public void inBatch(Runnable writes) {
+        withSharedLock(() -> {
+            writes.run();
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return withSharedLock(() -> {
+            Optional<Task> task = hot.findById(id);
+            return task.isPresent() ? task : promote(id);
+        });
+    }
+
+    @Override
+    public List<Task> findByUserId(String userId) {
+        return withSharedLock(() -> merge(hot.findByUserId(userId), cold.findByUserId(userId)));
+    }
+
+    // The tier lock is only held while reading each task, never across the callback, so a slow
+    // consumer cannot stall demotion. A task that moves between tiers during the iteration may
+    // be passed twice or not at all.
+    @Override
+    public void forEachByUserId(String userId, Consumer<Task> action) {
+        hot.forEachByUserId(userId, action);
+        for (String id : cold.idsOf(userId)) {
+            Optional<Task> task = withSharedLock(() -> hot.findById(id).isPresent()
+                    ? Optional.<Task>empty() : cold.get(id));
+            task.ifPresent(action);
+        }
+    }
+
+    @Override
+    public List<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate) {
+        return withSharedLock(() -> merge(hot.findByUserIdAndDateRange(userId, startDate, endDate),
+                cold.findBetween(userId, startDate, endDate)));
+    }
+
+    @Override
+    public List<Task> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        Instant now = hot.now();
+        return withSharedLock(() -> merge(hot.findByUserIdAndFilter(userId, filter),
+                cold.find(userId, filter, now)));
+    }
+
+    @Override
+    public long countByUserIdAndFilter(String userId, TaskFilter filter) {
+        Instant now = hot.now();
+        return withSharedLock(() -> hot.countByUserIdAndFilter(userId, filter)
+                + cold.count(userId, filter, now));
+    }
+
+    @Override
+    public List<Task> findDueTasks() {
+        return hot.findDueTasks();
+    }
+
+    @Override
+    public TaskStatistics getStatistics(String userId, ZoneId zone) {
+        Instant now = hot.now();
+        return withSharedLock(() -> combine(hot.getStatistics(userId, zone), cold.statistics(userId, now, zone)));
+    }
+
+    // Hot matches keep their ranking and come first; cold matches only fill remaining slots
+    @Override
+    public List<Task> searchByTitle(String userId, String query, int limit) {
+        return withSharedLock(() -> {
+            List<Task> hotTasks = hot.searchByTitle(userId, query, limit);
+            if (hotTasks.size() == limit) {
+                return hotTasks;
+            }
+            List<Task> result = merge(hotTasks, cold.search(userId, query, limit));
+            return result.size() > limit ? result.subList(0, limit) : result;
+        });
+    }
+
+    @Override
+    public void update(Task task) {
+        save(task);
+    }
+
+    @Override
+    public boolean compareAndUpdate(Task task, long expectedVersion) {
+        return withSharedLock(() -> {
+            promote(task.getId());
+            return hot.compareAndUpdate(task, expectedVersion);
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        withSharedLock(() -> {
+            // Through the hot tier, so the owner's modification stamp moves
+            promote(id);
+            hot.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean compareAndDelete(String id, long expectedVersion) {
+        return withSharedLock(() -> {
+            promote(id);
+            return hot.compareAndDelete(id, expectedVersion);
+        });
+    }
+
+    // Every change goes through the hot tier. Moving a task between tiers advances the stamp
+    // too, which costs a client at most one full listing.
+    @Override
+    public long getModificationStamp(String userId) {
+        return hot.getModificationStamp(userId);
+    }
+
+    @Override
+    public TenantUsage getUsage(String userId) {
+        return withSharedLock(() -> add(hot.getUsage(userId), cold.usage(userId)));
+    }
+
+    // Cold tasks cost little heap, so the hot tier's largest tenants are the candidates; any
+    // user with cold tasks is ranked as well in case those tip the balance
+    @Override
+    public List<TenantUsage> findLargestTenants(int limit) {
+        return withSharedLock(() -> {
+            Set<String> candidates = new HashSet<>();
+            hot.findLargestTenants(limit).forEach(usage -> candidates.add(usage.getUserId()));
+            candidates.addAll(cold.userIds());
+            return candidates.stream()
+                    .map(userId -> add(hot.getUsage(userId), cold.usage(userId)))
+                    .filter(usage -> usage.getTaskCount() > 0)
+                    .sorted(Comparator.comparingLong(TenantUsage::getEstimatedBytes).reversed())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    public long demotedTotal() {
+        return demoted.sum();
+    }
+
+    public long promotedTotal() {
+        return promoted.sum();
+    }
+
+    public int coldTaskCount() {
+        return cold.size();
+    }
+
+    // Cold records read from disk, for tests that check which queries stay on heap
+    long coldRecordsRead() {
+        return cold.recordsRead();
+    }
+
+    /**
+     * Stops the sweep and deletes the cold segments.
+     */
+    @Override
+    public void close() {
+        log.info("Shutting down tiered task storage");
+        sweeper.shutdownNow();
+        tierLock.writeLock().lock();
+        try {
+            cold.close();
+        } finally {
+            tierLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves every task that went cold before {@code threshold} to disk and compacts sparse
+     * segments. Returns the number of tasks demoted.
+     */
+    int demoteColderThan(Instant threshold) {
+        List<Task> candidates = new ArrayList<>();
+        hot.forEach(task -> {
+            if (isCold(task, threshold)) {
+                candidates.add(task);
+            }
+        });
+
+        int count = 0;
+        for (int from = 0; from < candidates.size(); from += DEMOTION_BATCH_SIZE) {
+            List<Task> batch = candidates.subList(from, Math.min(from + DEMOTION_BATCH_SIZE, candidates.size()));
+            tierLock.writeLock().lock();
+            try {
+                for (Task task : batch) {
+                    cold.put(task);
+                    // Changed since the scan: it is no longer the snapshot we copied, keep it hot
+                    if (hot.compareAndDelete(task.getId(), task.getVersion())) {
+                        count++;
+                    } else {
+                        cold.remove(task.getId());
+                    }
+                }
+            } finally {
+                tierLock.writeLock().unlock();
+            }
+        }
+
+        compact();
+        demoted.add(count);
+        return count;
+    }
+
+    // Planned without the lock, then moved in batches so readers get in between. Emptied
+    // segments are only deleted under the exclusive lock, when no reader can be inside one.
+    private void compact() {
+        ColdTaskStore.Compaction compaction = cold.planCompaction(MIN_LIVE_RATIO);
+        List<String> ids = compaction.ids();
+        int moved = 0;
+        for (int from = 0; from < ids.size(); from += DEMOTION_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(from + DEMOTION_BATCH_SIZE, ids.size()));
+            tierLock.writeLock().lock();
+            try {
+                moved += cold.relocate(compaction, batch);
+            } finally {
+                tierLock.writeLock().unlock();
+            }
+        }
+        int reclaimed;
+        tierLock.writeLock().lock();
+        try {
+            reclaimed = cold.reclaim();
+        } finally {
+            tierLock.writeLock().unlock();
+        }
+        if (reclaimed > 0) {
+            log.debug("Compacted {} cold segments, moved {} live records, deleted {} segments",
+                    compaction.segmentCount(), moved, reclaimed);
+        }
+    }
+
+    private void sweep() {
+        try {
+            int count = demoteColderThan(hot.now().minus(coldAfter));
+            if (count > 0) {
+                log.info("Demoted {} tasks to cold storage, {} cold in total", count, cold.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to demote cold tasks", e);
+        }
+    }
+
+    static boolean isCold(Task task, Instant threshold) {
+        // A task still waiting for its reminder stays hot so the reminder scan never reads disk
+        if (task.getDueDate() != null && !task.isReminderSent()) {
+            return false;
+        }
+        return (task.getDueDate() == null || task.getDueDate().isBefore(threshold))
+                && (task.getUpdatedAt() == null || task.getUpdatedAt().isBefore(threshold));
+    }
+
+    // Caller holds the shared lock. A concurrent write that already put a newer snapshot in
+    // the hot tier wins over the copy read from disk.
+    private Optional<Task> promote(String id) {
+        Optional<Task> coldTask = cold.get(id);
+        if (coldTask.isEmpty()) {
+            return Optional.empty();
+        }
+        Task current = hot.insertIfAbsent(coldTask.get());
+        cold.remove(id);
+        promoted.increment();
+        return Optional.of(current);
+    }
+
+    // A task being promoted is briefly in both tiers; the hot copy is the current one
+    private static List<Task> merge(List<Task> hotTasks, List<Task> coldTasks) {
+        if (coldTasks.isEmpty()) {
+            return hotTasks;
+        }
+        Set<String> hotIds = new HashSet<>();
+        hotTasks.forEach(task -> hotIds.add(task.getId()));
+        List<Task> merged = new ArrayList<>(hotTasks.size() + coldTasks.size());
+        merged.addAll(hotTasks);
+        for (Task task : coldTasks) {
+            if (!hotIds.contains(task.getId())) {
+                merged.add(task);
+            }
+        }
+        return merged;
+    }
+
+    private static TaskStatistics combine(TaskStatistics hot, TaskStatistics cold) {
+        return TaskStatistics.builder()
+                .total(hot.getTotal() + cold.getTotal())
+                .byPriority(sum(hot.getByPriority(), cold.getByPriority()))
+                .byCategory(sum(hot.getByCategory(), cold.getByCategory()))
+                .overdue(hot.getOverdue() + cold.getOverdue())
+                .dueToday(hot.getDueToday() + cold.getDueToday())
+                .reminderSent(hot.getReminderSent() + cold.getReminderSent())
+                .build();
+    }
+
+    private static <K> Map<K, Long> sum(Map<K, Long> first, Map<K, Long> second) {
+        Map<K, Long> result = new LinkedHashMap<>(first);
+        second.forEach((key, count) -> result.merge(key, count, Long::sum));
+        return result;
+    }
+
+    private static TenantUsage add(TenantUsage hot, TenantUsage cold) {
+        return new TenantUsage(hot.getUserId(), hot.getTaskCount() + cold.getTaskCount(),
+                hot.getEstimatedBytes() + cold.getEstimatedBytes());
+    }
+
+    private <T> T withSharedLock(Supplier<T> operation) {
+        // Already held for a batch; taking it again would update the shared lock state per write
+        if (tierLock.getReadHoldCount() > 0) {
+            return operation.get();
+        }
+        tierLock.readLock().lock();
+        try {
+            return operation.get();
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Per-user inverted index from title tokens to task ids.
+ * <p>
+ * Tokens are kept in a sorted map so a query term matches every token it is a prefix of,
+ * which makes the index usable for type-ahead. A task matches a query when every term
+ * matches one of its tokens; an exact token match scores higher than a prefix match, and
+ * ties go to shorter titles.
+ * <p>
+ * A query walks the postings of its most selective term and keeps the ids found in the postings
+ * of every other term, so only true matches are collected; ranking needs nothing but the index,
+ * and only the returned hits are resolved to tasks. At most {@link #MAX_CANDIDATES} matches are
+ * ranked, exact token matches of the most selective term first, so a short prefix over a large
+ * task list costs the same however many tasks the user has.
+ */
+class TitleSearchIndex implements TaskIndex {
+
+    static final int MAX_CANDIDATES = 2048;
+
+    private static final int EXACT_MATCH_SCORE = 2;
+    private static final int PREFIX_MATCH_SCORE = 1;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // A term spread over more tokens than this is checked against one merged id set instead
+    private static final int MAX_TOKENS_PER_PROBE = 16;
+
+    private final Map<String, UserIndex> users = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Task previous, Task current) {
+        if (previous != null && current != null && previous.getTitle().equals(current.getTitle())) {
+            return;
+        }
+        Task any = current != null ? current : previous;
+        while (true) {
+            UserIndex index = users.computeIfAbsent(any.getUserId(), k -> new UserIndex());
+
+            // Writers for one user are serialized so that emptying and refilling a posting set
+            // cannot race; readers never lock.
+            synchronized (index) {
+                // Emptied and dropped by another writer after we looked it up
+                if (index.retired) {
+                    continue;
+                }
+                if (previous != null) {
+                    for (String token : tokenize(previous.getTitle())) {
+                        index.remove(token, previous.getId());
+                    }
+                    index.titleLengths.remove(previous.getId());
+                }
+                if (current != null) {
+                    List<String> tokens = tokenize(current.getTitle());
+                    for (String token : tokens) {
+                        index.add(token, current.getId());
+                    }
+                    if (!tokens.isEmpty()) {
+                        index.titleLengths.put(current.getId(), current.getTitle().length());
+                    }
+                }
+                if (index.postings.isEmpty()) {
+                    index.retired = true;
+                    users.remove(any.getUserId(), index);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching tasks for the user, best match first.
+     *
+     * @param resolver looks up the current snapshot for a task id; ids resolving to
+     *                 {@code null} were deleted concurrently and are skipped
+     */
+    List<Task> search(String userId, String query, int limit, Function<String, Task> resolver) {
+        UserIndex index = users.get(userId);
+        List<String> terms = tokenize(query);
+        if (index == null || terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Every term must match, so the term with the fewest postings drives the walk. Counting
+        // a term stops as soon as it cannot be the fewest.
+        String driver = terms.get(0);
+        if (terms.size() > 1) {
+            long fewest = Long.MAX_VALUE;
+            for (String term : terms) {
+                long count = index.countUpTo(term, fewest);
+                if (count == 0) {
+                    return Collections.emptyList();
+                }
+                if (count < fewest) {
+                    fewest = count;
+                    driver = term;
+                }
+            }
+        }
+        List<TermPostings> others = new ArrayList<>(terms.size() - 1);
+        for (String term : terms) {
+            if (!term.equals(driver)) {
+                others.add(index.postings(term));
+            }
+        }
+        Set<String> exact = index.postings.get(driver);
+
+        Comparator<Hit> ranking = Comparator.comparingInt(Hit::score).reversed()
+                .thenComparingInt(Hit::titleLength)
+                .thenComparing(Hit::taskId);
+
+        // Keep only the best `limit` hits; the heap's head is the worst hit kept so far
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit, ranking.reversed());
+        Set<String> seen = new HashSet<>();
+        int matched = 0;
+        walk:
+        for (Iterator<Set<String>> sets = index.setsUnder(driver); sets.hasNext(); ) {
+            Set<String> ids = sets.next();
+            int driverScore = ids == exact ? EXACT_MATCH_SCORE : PREFIX_MATCH_SCORE;
+            for (String taskId : ids) {
+                // A task with several tokens under the driver is scored by the first, the best;
+                // the exact token's set comes first and holds each task once
+                if (ids != exact && ((exact != null && exact.contains(taskId)) || !seen.add(taskId))) {
+                    continue;
+                }
+                int score = driverScore;
+                for (TermPostings other : others) {
+                    int termScore = other.score(taskId);
+                    if (termScore == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += termScore;
+                }
+                Integer titleLength = index.titleLengths.get(taskId);
+                // Removed concurrently
+                if (score == 0 || titleLength == null) {
+                    continue;
+                }
+                Hit hit = new Hit(taskId, titleLength, score);
+                if (best.size() < limit) {
+                    best.add(hit);
+                } else if (ranking.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+                if (++matched == MAX_CANDIDATES) {
+                    break walk;
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(ranking);
+        List<Task> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            Task task = resolver.apply(hit.taskId());
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    // Number of users with at least one indexed title
+    int userCount() {
+        return users.size();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private record Hit(String taskId, int titleLength, int score) {
+    }
+
+    /**
+     * The posting sets of every token a term is a prefix of, exact token first.
+     *
+     * @param exact the postings of the token equal to the term, or {@code null}
+     */
+    private record TermPostings(Set<String> exact, List<Set<String>> sets) {
+
+        // Exact or prefix score of the term for the task, or 0 if none of its tokens match
+        int score(String taskId) {
+            if (exact != null && exact.contains(taskId)) {
+                return EXACT_MATCH_SCORE;
+            }
+            for (Set<String> ids : sets) {
+                if (ids != exact && ids.contains(taskId)) {
+                    return PREFIX_MATCH_SCORE;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+    private static final class UserIndex {
+        private final ConcurrentSkipListMap<String, Set<String>> postings = new ConcurrentSkipListMap<>();
+        // Ranks ties without resolving the task
+        private final Map<String, Integer> titleLengths = new ConcurrentHashMap<>();
+        // Only accessed while holding the index's monitor
+        private boolean retired;
+
+        void add(String token, String taskId) {
+            postings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(taskId);
+        }
+
+        void remove(String token, String taskId) {
+            Set<String> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(taskId);
+                if (ids.isEmpty()) {
+                    postings.remove(token, ids);
+                }
+            }
+        }
+
+        // Postings under the term, counted only until they reach the cap
+        long countUpTo(String term, long cap) {
+            long count = 0;
+            for (Set<String> ids : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+                count += ids.size();
+                if (count >= cap) {
+                    return cap;
+                }
+            }
+            return count;
+        }
+
+        // Posting sets of every token the term is a prefix of, the exact token's first
+        Iterator<Set<String>> setsUnder(String term) {
+            return Stream.concat(Stream.ofNullable(postings.get(term)),
+                    postings.subMap(term, false, term + Character.MAX_VALUE, true).values().stream()).iterator();
+        }
+
+        // The term's posting sets for probing; a term spread over many tokens has its prefix
+        // sets folded into one, so a probe is a single lookup however many tokens match
+        TermPostings postings(String term) {
+            Set<String> exact = postings.get(term);
+            Collection<Set<String>> prefixed = postings.subMap(term, false, term + Character.MAX_VALUE, true).values();
+            List<Set<String>> sets = new ArrayList<>();
+            if (exact != null) {
+                sets.add(exact);
+            }
+            if (prefixed.size() <= MAX_TOKENS_PER_PROBE) {
+                sets.addAll(prefixed);
+            } else {
+                Set<String> folded = new HashSet<>();
+                prefixed.forEach(folded::addAll);
+                sets.add(folded);
+            }
+            return new TermPostings(exact, sets);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.project.taskmanager.infrastructure.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Starts and stops flight recordings on demand:
+ * <ul>
+ *     <li>{@code GET /actuator/flightrecorder} lists the recordings in this JVM</li>
+ *     <li>{@code POST /actuator/flightrecorder} starts one with the {@code default} or
+ *     {@code profile} settings</li>
+ *     <li>{@code POST /actuator/flightrecorder/{id}} stops it and writes it to the recordings
+ *     directory</li>
+ *     <li>{@code GET /actuator/flightrecorder/{id}} downloads it, as a snapshot while it is
+ *     still running</li>
+ *     <li>{@code DELETE /actuator/flightrecorder/{id}} discards it and its file</li>
+ * </ul>
+ * Recordings include the application's own events under "Task Manager". Events that capture
+ * environment variables, system properties and JVM arguments are turned off, since they can
+ * hold credentials.
+ */
+@Slf4j
+@WebEndpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "default";
+    private static final String APPLICATION_EVENT_PREFIX = "com.project.taskmanager.";
+    private static final List<String> APPLICATION_EVENTS = List.of(
+            "RepositoryOperation", "TaskSort", "TaskMapping", "TaskSerialization",
+            "ReminderScan", "ReminderDispatch");
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private final Path directory;
+
+    public FlightRecorderEndpoint(Path directory) {
+        this.directory = directory.toAbsolutePath();
+    }
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(this::infoOf)
+                .toList();
+    }
+
+    /**
+     * @param settings        {@code default} (about 1% overhead) or {@code profile} (about 2%,
+     *                        adds allocation and method sampling)
+     * @param durationSeconds stops the recording after this long; it runs until stopped if absent
+     * @param maxAgeSeconds   keeps only the most recent data, for a recording left running as a
+     *                        rolling buffer
+     * @param thresholdMillis records application events only when they take at least this long
+     */
+    @WriteOperation
+    public RecordingInfo start(@Nullable String settings, @Nullable Long durationSeconds,
+                               @Nullable Long maxAgeSeconds, @Nullable Long thresholdMillis) {
+        String settingsName = settings != null ? settings : DEFAULT_SETTINGS;
+        Recording recording = new Recording(configuration(settingsName));
+        try {
+            recording.setName("task-manager-" + recording.getId());
+            recording.setToDisk(true);
+            SENSITIVE_EVENTS.forEach(recording::disable);
+            Duration threshold = Duration.ofMillis(thresholdMillis != null ? Math.max(thresholdMillis, 0) : 0);
+            APPLICATION_EVENTS.forEach(event ->
+                    recording.enable(APPLICATION_EVENT_PREFIX + event).withThreshold(threshold));
+            if (durationSeconds != null) {
+                recording.setDuration(Duration.ofSeconds(durationSeconds));
+            }
+            if (maxAgeSeconds != null) {
+                recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds));
+            }
+            recording.start();
+        } catch (RuntimeException e) {
+            recording.close();
+            throw e;
+        }
+        log.info("Started flight recording {} with {} settings", recording.getId(), settingsName);
+        return infoOf(recording);
+    }
+
+    // No destination is set on the recording: the recorder closes a recording once it has
+    // written it there, after which it could no longer be downloaded or listed
+    @WriteOperation
+    public WebEndpointResponse<RecordingInfo> stop(@Selector long id) {
+        Optional<Recording> found = find(id);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Recording recording = found.get();
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            write(recording);
+            log.info("Stopped flight recording {}, written to {}", id, fileOf(id));
+        }
+        return new WebEndpointResponse<>(infoOf(recording));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        Optional<Recording> found = find(id);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Recording recording = found.get();
+        Path file = fileOf(id);
+        // A running recording is copied as it stands without being stopped
+        if (recording.getState() == RecordingState.RUNNING || !Files.exists(file)) {
+            write(recording);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> discard(@Selector long id) {
+        Optional<Recording> found = find(id);
+        if (found.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        found.get().close();
+        try {
+            Files.deleteIfExists(fileOf(id));
+        } catch (IOException e) {
+            log.warn("Failed to delete the file of flight recording {}", id, e);
+        }
+        log.info("Discarded flight recording {}", id);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    // Only the configurations shipped with the JDK, never a path to a settings file
+    private static Configuration configuration(String name) {
+        List<Configuration> configurations = Configuration.getConfigurations();
+        return configurations.stream()
+                .filter(configuration -> configuration.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new InvalidEndpointRequestException("Unknown flight recorder settings: " + name,
+                        "Settings must be one of " + configurations.stream().map(Configuration::getName).toList()));
+    }
+
+    private void write(Recording recording) {
+        try {
+            Files.createDirectories(directory);
+            recording.dump(fileOf(recording.getId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path fileOf(long id) {
+        return directory.resolve("recording-" + id + ".jfr");
+    }
+
+    private RecordingInfo infoOf(Recording recording) {
+        Path file = fileOf(recording.getId());
+        return new RecordingInfo(recording.getId(), recording.getName(), recording.getState(),
+                recording.getStartTime(), recording.getStopTime(), recording.getDuration(),
+                recording.getMaxAge(), recording.getSize(), Files.exists(file) ? file.toString() : null);
+    }
+
+    private static Optional<Recording> find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    /**
+     * @param file the recording as last written to the recordings directory, if it has been
+     */
+    public record RecordingInfo(long id, String name, RecordingState state, Instant startTime,
+                                Instant stopTime, Duration duration, Duration maxAge, long size,
+                                String file) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.taskmanager.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of requests being processed at once. A request is either admitted
+ * immediately or refused; nothing waits in a queue.
+ */
+public class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightLimiter(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.taskmanager.infrastructure.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets keyed by an arbitrary string.
+ * <p>
+ * Each bucket is a single timestamp, the time at which it would be full again (the GCRA form of
+ * a token bucket), so taking a token is one compare-and-set. A bucket whose timestamp has passed
+ * is full and indistinguishable from a missing one; such buckets are dropped by a periodic sweep,
+ * which keeps memory proportional to the number of recently active keys. The table is also
+ * capped: a new key that finds it full after a sweep is refused rather than tracked.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long TABLE_FULL_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextSweep;
+
+    public TokenBucketRateLimiter(int maxKeys, long sweepIntervalMillis) {
+        this(maxKeys, sweepIntervalMillis, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int maxKeys, long sweepIntervalMillis, LongSupplier nanoClock) {
+        this.maxKeys = maxKeys;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong() + sweepIntervalNanos);
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}, which refills at {@code permitsPerSecond}
+     * and holds at most {@code burst} tokens.
+     *
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(String key, double permitsPerSecond, int burst) {
+        long now = nanoClock.getAsLong();
+        maybeSweep(now);
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                sweep(now);
+                if (buckets.size() >= maxKeys) {
+                    return TABLE_FULL_RETRY_NANOS;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        long capacity = interval * burst;
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + interval;
+            long excess = next - now - capacity;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    int trackedKeys() {
+        return buckets.size();
+    }
+
+    private void maybeSweep(long now) {
+        long due = nextSweep.get();
+        // Only the caller that moves the deadline forward sweeps
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + sweepIntervalNanos)) {
+            sweep(now);
+        }
+    }
+
+    // A token taken between the check and the removal is forgiven; the key starts over full
+    private void sweep(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.domain.entity.Task;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Appends one line per reminder to a local file.
+ */
+public class FileReminderSink implements ReminderSink {
+
+    private final Path file;
+
+    public FileReminderSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return 1;
+    }
+
+    @Override
+    public synchronized void deliver(Task task) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(String.join("\t",
+                    Instant.now().toString(),
+                    task.getId(),
+                    task.getUserId(),
+                    String.valueOf(task.getDueDate()),
+                    String.valueOf(task.getPriority().getValue()),
+                    String.valueOf(task.getCategory()),
+                    task.getTitle()));
+            writer.newLine();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one attempt to deliver a reminder to a sink, including the wait for
+ * the sink's concurrency permit.
+ */
+@Name("com.project.taskmanager.ReminderDispatch")
+@Label("Reminder Dispatch")
+@Category({"Task Manager", "Reminders"})
+@Description("An attempt to deliver a reminder to one sink")
+@StackTrace(false)
+class ReminderDispatchEvent extends TimedEvent {
+
+    @Label("Sink")
+    String sink;
+
+    @Label("Task Id")
+    String taskId;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Delivered")
+    boolean delivered;
+}
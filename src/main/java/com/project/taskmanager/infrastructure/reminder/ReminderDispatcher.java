@@ -0,0 +1,317 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import com.project.taskmanager.domain.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Moves due tasks from the reminder scanner to the {@link ReminderSink}s.
+ * <p>
+ * The scanner hands tasks over through a bounded queue. When it is full the
+ * {@link RejectionPolicy} decides whether the scanner waits or the task is left for the next
+ * scan; either way a slow sink cannot make work pile up in memory. A task that is already queued
+ * or being delivered is not queued again, so repeated scans of the same overdue tasks do not
+ * multiply the backlog. A fixed set of workers
+ * claims each task, then delivers it to every sink. Each sink has its own concurrency limit.
+ * A failed delivery is retried with exponential backoff; once the attempts are exhausted the
+ * reminder is appended to a dead-letter file.
+ */
+@Slf4j
+public class ReminderDispatcher {
+
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final List<ReminderSink> sinks;
+    private final Map<ReminderSink, Semaphore> permits = new IdentityHashMap<>();
+    private final BlockingQueue<Task> queue;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final RetryPolicy retryPolicy;
+    private final Path deadLetterFile;
+    private final Thread[] workers;
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private volatile boolean running;
+    private volatile Function<Task, Optional<Task>> claim;
+
+    public ReminderDispatcher(List<ReminderSink> sinks, int workerCount, int queueCapacity,
+                              RejectionPolicy rejectionPolicy, RetryPolicy retryPolicy, Path deadLetterFile) {
+        this.sinks = List.copyOf(sinks);
+        this.sinks.forEach(sink -> permits.put(sink, new Semaphore(sink.maxConcurrency())));
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.rejectionPolicy = rejectionPolicy;
+        this.retryPolicy = retryPolicy;
+        this.deadLetterFile = deadLetterFile;
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Thread(this::workLoop, "reminder-dispatch-" + (i + 1));
+            workers[i].setDaemon(true);
+        }
+    }
+
+    /**
+     * Starts the workers. {@code claim} is applied to each task before delivery and returns the
+     * task to deliver, or empty if the reminder no longer applies.
+     */
+    public void start(Function<Task, Optional<Task>> claim) {
+        this.claim = claim;
+        this.running = true;
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Queues a task for delivery unless it is already queued or being delivered. When the queue
+     * is full, {@link RejectionPolicy#BLOCK} waits for room and {@link RejectionPolicy#DROP}
+     * gives up on the task.
+     *
+     * @return whether the task was queued
+     */
+    public boolean dispatch(Task task) throws InterruptedException {
+        if (!inFlight.add(task.getId())) {
+            deduplicated.increment();
+            return false;
+        }
+        boolean accepted = false;
+        try {
+            if (rejectionPolicy == RejectionPolicy.BLOCK) {
+                queue.put(task);
+                accepted = true;
+            } else {
+                accepted = queue.offer(task);
+            }
+        } finally {
+            if (accepted) {
+                queued.increment();
+            } else {
+                inFlight.remove(task.getId());
+            }
+        }
+        if (!accepted) {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    public int queuedReminders() {
+        return queue.size();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Tasks queued or being delivered.
+     */
+    public int inFlightReminders() {
+        return inFlight.size();
+    }
+
+    public long queuedTotal() {
+        return queued.sum();
+    }
+
+    public long deduplicatedTotal() {
+        return deduplicated.sum();
+    }
+
+    public long droppedTotal() {
+        return dropped.sum();
+    }
+
+    public long deliveredTotal() {
+        return delivered.sum();
+    }
+
+    public long retriedTotal() {
+        return retried.sum();
+    }
+
+    public long deadLetteredTotal() {
+        return deadLettered.sum();
+    }
+
+    /**
+     * Stops taking new work once the queue is drained, interrupting deliveries that are still
+     * running after the timeout; their reminders go to the dead-letter file.
+     */
+    public void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MILLIS;
+        try {
+            for (Thread worker : workers) {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+            for (Thread worker : workers) {
+                if (worker.isAlive()) {
+                    worker.interrupt();
+                    worker.join(POLL_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void workLoop() {
+        while (running || !queue.isEmpty()) {
+            Task task;
+            try {
+                task = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            try {
+                claim.apply(task).ifPresent(this::deliver);
+            } catch (Exception e) {
+                log.error("Error processing reminder for task {}", task.getId(), e);
+            } finally {
+                inFlight.remove(task.getId());
+            }
+        }
+    }
+
+    private void deliver(Task task) {
+        for (ReminderSink sink : sinks) {
+            deliver(sink, task);
+        }
+        log.debug("Reminder sent for task: {} - '{}'", task.getId(), task.getTitle());
+    }
+
+    private void deliver(ReminderSink sink, Task task) {
+        Semaphore permit = permits.get(sink);
+        Exception failure = null;
+        for (int attempt = 1; attempt <= retryPolicy.maxAttempts(); attempt++) {
+            ReminderDispatchEvent event = TimedEvent.start(new ReminderDispatchEvent());
+            try {
+                permit.acquire();
+                try {
+                    sink.deliver(task);
+                    delivered.increment();
+                    event.delivered = true;
+                    return;
+                } finally {
+                    permit.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                deadLetter(sink, task, attempt, e);
+                return;
+            } catch (Exception e) {
+                failure = e;
+                log.warn("Delivery of reminder for task {} to {} failed (attempt {} of {}): {}",
+                        task.getId(), sink.name(), attempt, retryPolicy.maxAttempts(), e.getMessage());
+            } finally {
+                record(event, sink, task, attempt);
+            }
+
+            if (attempt < retryPolicy.maxAttempts()) {
+                retried.increment();
+                try {
+                    // The sink's permit is not held while backing off
+                    TimeUnit.MILLISECONDS.sleep(retryPolicy.backoffMillis(attempt));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    deadLetter(sink, task, attempt, e);
+                    return;
+                }
+            }
+        }
+        deadLetter(sink, task, retryPolicy.maxAttempts(), failure);
+    }
+
+    // Ends the event before the backoff, so an attempt's duration is the wait for a permit plus
+    // the delivery itself
+    private static void record(ReminderDispatchEvent event, ReminderSink sink, Task task, int attempt) {
+        if (event.ended()) {
+            event.sink = sink.name();
+            event.taskId = task.getId();
+            event.attempt = attempt;
+            event.commit();
+        }
+    }
+
+    private synchronized void deadLetter(ReminderSink sink, Task task, int attempts, Exception failure) {
+        deadLettered.increment();
+        String reason = failure != null ? failure.toString() : "unknown";
+        log.error("Giving up on reminder for task {} to {} after {} attempts: {}",
+                task.getId(), sink.name(), attempts, reason);
+        try {
+            Path parent = deadLetterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(String.join("\t",
+                        Instant.now().toString(),
+                        sink.name(),
+                        task.getId(),
+                        task.getUserId(),
+                        String.valueOf(attempts),
+                        reason.replace('\t', ' ').replace('\n', ' '),
+                        task.getTitle()));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.error("Could not write dead letter for task {} to {}", task.getId(), deadLetterFile, e);
+        }
+    }
+
+    /**
+     * What {@link #dispatch} does when the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Wait for room, slowing the scanner down to the delivery rate.
+         */
+        BLOCK,
+        /**
+         * Skip the task. It has not been claimed, so the next scan picks it up again.
+         */
+        DROP
+    }
+
+    /**
+     * Exponential backoff: the delay doubles after every failed attempt, up to {@code maxBackoffMillis}.
+     */
+    public record RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+
+        long backoffMillis(int failedAttempts) {
+            int shift = Math.min(failedAttempts - 1, 30);
+            return Math.min(initialBackoffMillis << shift, maxBackoffMillis);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.infrastructure.service.ReminderService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes reminder scanning and dispatch figures, mainly to size the dispatch queue and the
+ * worker count: a queue that is often full, frequent skipped ticks or a growing dropped count
+ * all mean delivery cannot keep up with scanning.
+ */
+public class ReminderMetrics implements MeterBinder {
+
+    private final ReminderService reminderService;
+    private final ReminderDispatcher dispatcher;
+
+    public ReminderMetrics(ReminderService reminderService, ReminderDispatcher dispatcher) {
+        this.reminderService = reminderService;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reminder.queue.size", dispatcher, ReminderDispatcher::queuedReminders)
+                .description("Reminders waiting for a dispatch worker")
+                .register(registry);
+        Gauge.builder("reminder.queue.capacity", dispatcher, ReminderDispatcher::queueCapacity)
+                .register(registry);
+        Gauge.builder("reminder.in-flight", dispatcher, ReminderDispatcher::inFlightReminders)
+                .description("Reminders queued or being delivered")
+                .register(registry);
+
+        FunctionCounter.builder("reminder.queued", dispatcher, ReminderDispatcher::queuedTotal)
+                .register(registry);
+        FunctionCounter.builder("reminder.deduplicated", dispatcher, ReminderDispatcher::deduplicatedTotal)
+                .description("Due tasks not queued again because they were already in flight")
+                .register(registry);
+        FunctionCounter.builder("reminder.dropped", dispatcher, ReminderDispatcher::droppedTotal)
+                .description("Due tasks left for the next scan because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("reminder.delivered", dispatcher, ReminderDispatcher::deliveredTotal)
+                .description("Successful deliveries, counted per sink")
+                .register(registry);
+        FunctionCounter.builder("reminder.retried", dispatcher, ReminderDispatcher::retriedTotal)
+                .register(registry);
+        FunctionCounter.builder("reminder.dead-lettered", dispatcher, ReminderDispatcher::deadLetteredTotal)
+                .register(registry);
+
+        FunctionCounter.builder("reminder.scans", reminderService, ReminderService::getScans)
+                .register(registry);
+        FunctionCounter.builder("reminder.scans.skipped", reminderService, ReminderService::getSkippedTicks)
+                .description("Scheduled scans skipped because the previous scan was still running")
+                .register(registry);
+        TimeGauge.builder("reminder.scan.last.duration", reminderService, TimeUnit.NANOSECONDS,
+                        ReminderService::getLastScanNanos)
+                .register(registry);
+    }
+}
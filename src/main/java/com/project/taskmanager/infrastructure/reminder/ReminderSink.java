@@ -0,0 +1,22 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.domain.entity.Task;
+
+/**
+ * Destination for task reminders. Implementations throw to signal a failed delivery, which the
+ * {@link ReminderDispatcher} retries with backoff.
+ */
+public interface ReminderSink {
+
+    /**
+     * Short identifier used in logs and dead-letter records.
+     */
+    String name();
+
+    /**
+     * Deliveries to this sink that may run at the same time.
+     */
+    int maxConcurrency();
+
+    void deliver(Task task) throws Exception;
+}
@@ -0,0 +1,54 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.domain.entity.Task;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for an HTTP webhook. It simulates the call's latency and a share of failed
+ * responses, so retries and backpressure can be exercised without a real endpoint.
+ */
+@Slf4j
+public class WebhookReminderSink implements ReminderSink {
+
+    private final String url;
+    private final long latencyMillis;
+    private final double failureRate;
+    private final int maxConcurrency;
+    private final AtomicLong delivered = new AtomicLong();
+
+    public WebhookReminderSink(String url, long latencyMillis, double failureRate, int maxConcurrency) {
+        this.url = url;
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void deliver(Task task) throws IOException, InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IOException("POST " + url + " failed with status 503");
+        }
+        delivered.incrementAndGet();
+        log.debug("POST {} reminder for task {}", url, task.getId());
+    }
+
+    public long getDelivered() {
+        return delivered.get();
+    }
+}
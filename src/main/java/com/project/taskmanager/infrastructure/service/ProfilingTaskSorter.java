@@ -0,0 +1,39 @@
+package com.project.taskmanager.infrastructure.service;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.service.TaskSorter;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sorts through a delegate and emits a {@link TaskSortEvent} for each sort, naming the criteria
+ * when the comparator came from {@link TaskSortingService}.
+ */
+public class ProfilingTaskSorter implements TaskSorter {
+
+    private static final String CUSTOM_CRITERIA = "CUSTOM";
+
+    private final TaskSorter delegate;
+    private final TaskSortingService taskSortingService;
+
+    public ProfilingTaskSorter(TaskSorter delegate, TaskSortingService taskSortingService) {
+        this.delegate = delegate;
+        this.taskSortingService = taskSortingService;
+    }
+
+    @Override
+    public List<Task> sort(List<Task> tasks, Comparator<Task> comparator) {
+        TaskSortEvent event = TimedEvent.start(new TaskSortEvent());
+        List<Task> sorted = delegate.sort(tasks, comparator);
+        if (event.ended()) {
+            event.criteria = taskSortingService.criteriaOf(comparator)
+                    .map(Enum::name)
+                    .orElse(CUSTOM_CRITERIA);
+            event.taskCount = tasks.size();
+            event.commit();
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.taskmanager.infrastructure.service;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for one reminder scan, from finding the due tasks to queueing the last
+ * of them.
+ */
+@Name("com.project.taskmanager.ReminderScan")
+@Label("Reminder Scan")
+@Category({"Task Manager", "Reminders"})
+@Description("A scan for due tasks and the time spent queueing them for delivery")
+@StackTrace(false)
+class ReminderScanEvent extends TimedEvent {
+
+    @Label("Due Tasks")
+    int dueTasks;
+
+    @Label("Queued")
+    @Description("Due tasks accepted by the dispatcher, excluding those already in flight or dropped")
+    int queued;
+}
@@ -1,113 +1,176 @@
 package com.project.taskmanager.infrastructure.service;
 
+import com.project.taskmanager.application.profiling.TimedEvent;
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.infrastructure.reminder.ReminderDispatcher;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantLock;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scans for due tasks on a fixed schedule and hands them to the {@link ReminderDispatcher}.
+ * <p>
+ * Scans run on their own thread, apart from the schedule. A scan can take longer than the
+ * interval when the dispatcher pushes back; ticks that arrive meanwhile are skipped and counted
+ * rather than queued up behind it.
+ */
 @Slf4j
 public class ReminderService {
 
     private final TaskRepository taskRepository;
+    private final ReminderDispatcher dispatcher;
+    private final Clock clock;
     private final ScheduledExecutorService scheduledExecutor;
-    private final ExecutorService reminderExecutor;
-    private final ConcurrentHashMap<String, ReentrantLock> taskLocks;
+    private final ExecutorService scanExecutor;
+    private final long initialDelaySeconds;
     private final long checkIntervalSeconds;
+    private final AtomicBoolean scanning = new AtomicBoolean();
+    private final LongAdder scans = new LongAdder();
+    private final LongAdder skippedTicks = new LongAdder();
+    private volatile long lastScanNanos;
+
+    public ReminderService(TaskRepository taskRepository, ReminderDispatcher dispatcher, long checkIntervalSeconds) {
+        this(taskRepository, dispatcher, 0, checkIntervalSeconds);
+    }
+
+    /**
+     * @param initialDelaySeconds delay before the first scan, so it does not compete with the
+     *                            rest of startup for CPU
+     */
+    public ReminderService(TaskRepository taskRepository, ReminderDispatcher dispatcher, long initialDelaySeconds,
+                           long checkIntervalSeconds) {
+        this(taskRepository, dispatcher, Clock.systemDefaultZone(), initialDelaySeconds, checkIntervalSeconds);
+    }
 
-    public ReminderService(TaskRepository taskRepository, int threadPoolSize, long checkIntervalSeconds) {
+    public ReminderService(TaskRepository taskRepository, ReminderDispatcher dispatcher, Clock clock,
+                           long initialDelaySeconds, long checkIntervalSeconds) {
         this.taskRepository = taskRepository;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
         this.scheduledExecutor = Executors.newScheduledThreadPool(1);
-        this.reminderExecutor = Executors.newFixedThreadPool(threadPoolSize);
-        this.taskLocks = new ConcurrentHashMap<>();
+        this.scanExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.initialDelaySeconds = initialDelaySeconds;
         this.checkIntervalSeconds = checkIntervalSeconds;
     }
 
     public void start() {
-        log.info("Starting Reminder Service with check interval of {} seconds", checkIntervalSeconds);
+        log.info("Starting Reminder Service with check interval of {} seconds, first scan in {} seconds",
+                checkIntervalSeconds, initialDelaySeconds);
 
+        dispatcher.start(this::claimReminder);
         scheduledExecutor.scheduleAtFixedRate(
-                this::checkAndSendReminders,
-                0,
+                this::tick,
+                initialDelaySeconds,
                 checkIntervalSeconds,
                 TimeUnit.SECONDS
         );
     }
 
-    private void checkAndSendReminders() {
-        try {
-            List<Task> dueTasks = taskRepository.findDueTasks();
-            log.debug("Found {} due tasks to process", dueTasks.size());
+    public long getScans() {
+        return scans.sum();
+    }
 
-            for (Task task : dueTasks) {
-                reminderExecutor.submit(() -> processReminder(task));
-            }
-        } catch (Exception e) {
-            log.error("Error checking for due tasks", e);
+    public long getSkippedTicks() {
+        return skippedTicks.sum();
+    }
+
+    public long getLastScanNanos() {
+        return lastScanNanos;
+    }
+
+    // Never queues more than one scan: a tick only submits one when none is running
+    private void tick() {
+        if (!scanning.compareAndSet(false, true)) {
+            skippedTicks.increment();
+            log.warn("Skipping reminder scan, the previous scan is still running");
+            return;
+        }
+        try {
+            scanExecutor.execute(this::scan);
+        } catch (RejectedExecutionException e) {
+            scanning.set(false);
         }
     }
 
-    private void processReminder(Task task) {
-        ReentrantLock lock = taskLocks.computeIfAbsent(task.getId(), k -> new ReentrantLock());
+    private void scan() {
+        long start = System.nanoTime();
+        try {
+            checkAndSendReminders();
+        } finally {
+            lastScanNanos = System.nanoTime() - start;
+            scans.increment();
+            scanning.set(false);
+        }
+    }
 
+    private void checkAndSendReminders() {
+        ReminderScanEvent event = TimedEvent.start(new ReminderScanEvent());
         try {
-            if (lock.tryLock(5, TimeUnit.SECONDS)) {
-                try {
-                    Task currentTask = taskRepository.findById(task.getId()).orElse(null);
-
-                    if (currentTask != null && currentTask.isDue()) {
-                        sendReminder(currentTask);
-                        currentTask.markReminderSent();
-                        taskRepository.update(currentTask);
-
-                        log.info("Reminder sent for task: {} - '{}'",
-                                currentTask.getId(), currentTask.getTitle());
-                    }
-                } finally {
-                    lock.unlock();
+            List<Task> dueTasks = taskRepository.findDueTasks();
+            log.debug("Found {} due tasks to process", dueTasks.size());
+            event.dueTasks = dueTasks.size();
+
+            for (Task task : dueTasks) {
+                // May block while the dispatcher is saturated, so scanning keeps pace with delivery
+                if (dispatcher.dispatch(task)) {
+                    event.queued++;
                 }
-            } else {
-                log.warn("Could not acquire lock for task {} within timeout", task.getId());
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            log.error("Interrupted while waiting for lock on task {}", task.getId(), e);
+            log.warn("Interrupted while queueing reminders");
         } catch (Exception e) {
-            log.error("Error processing reminder for task {}", task.getId(), e);
+            log.error("Error checking for due tasks", e);
         } finally {
-            taskLocks.remove(task.getId());
+            if (event.ended()) {
+                event.commit();
+            }
         }
     }
 
-    private void sendReminder(Task task) {
-        log.info("REMINDER: Task '{}' (ID: {}) is due! Priority: {}, Category: {}",
-                task.getTitle(),
-                task.getId(),
-                task.getPriority().getValue(),
-                task.getCategory());
+    // Claim the reminder before sending it; losing the swap means the task changed
+    // concurrently and the next scan will re-evaluate it.
+    private Optional<Task> claimReminder(Task task) {
+        Task currentTask = taskRepository.findById(task.getId()).orElse(null);
+        Instant now = clock.instant();
+        if (currentTask != null && currentTask.isDue(now)
+                && taskRepository.compareAndUpdate(currentTask.withReminderSent(now), currentTask.getVersion())) {
+            return Optional.of(currentTask);
+        }
+        return Optional.empty();
     }
 
     public void shutdown() {
         log.info("Shutting down Reminder Service");
 
         scheduledExecutor.shutdown();
-        reminderExecutor.shutdown();
+        scanExecutor.shutdown();
 
         try {
             if (!scheduledExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
                 scheduledExecutor.shutdownNow();
             }
-            if (!reminderExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
-                reminderExecutor.shutdownNow();
+            if (!scanExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                scanExecutor.shutdownNow();
             }
         } catch (InterruptedException e) {
             scheduledExecutor.shutdownNow();
-            reminderExecutor.shutdownNow();
+            scanExecutor.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        dispatcher.shutdown();
 
         log.info("Reminder Service shut down complete");
     }
-}
\ No newline at end of file
+}
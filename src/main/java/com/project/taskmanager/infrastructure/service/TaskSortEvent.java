@@ -0,0 +1,26 @@
+package com.project.taskmanager.infrastructure.service;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for sorting one listing.
+ */
+@Name("com.project.taskmanager.TaskSort")
+@Label("Task Sort")
+@Category({"Task Manager", "Listing"})
+@Description("Sorting the tasks of a listing")
+@StackTrace(false)
+class TaskSortEvent extends TimedEvent {
+
+    @Label("Criteria")
+    @Description("Sort criteria, or CUSTOM for a comparator not obtained from TaskSortingService")
+    String criteria;
+
+    @Label("Task Count")
+    int taskCount;
+}
@@ -4,6 +4,8 @@ package com.project.taskmanager.infrastructure.service;
 import com.project.taskmanager.domain.entity.Task;
 
 import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class TaskSortingService {
@@ -47,6 +49,19 @@ public class TaskSortingService {
         }
     }
 
+    /**
+     * Returns the criteria whose comparator this is, or empty for a comparator built elsewhere or
+     * combined from several criteria.
+     */
+    public Optional<SortCriteria> criteriaOf(Comparator<Task> comparator) {
+        for (Map.Entry<SortCriteria, Comparator<Task>> entry : comparators.entrySet()) {
+            if (entry.getValue() == comparator) {
+                return Optional.of(entry.getKey());
+            }
+        }
+        return Optional.empty();
+    }
+
     public Comparator<Task> getMultiCriteriaComparator(SortCriteria... criteriaArray) {
         if (criteriaArray == null || criteriaArray.length == 0) {
             return getComparator(SortCriteria.CREATED_AT);
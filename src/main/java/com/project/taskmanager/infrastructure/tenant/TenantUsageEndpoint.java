@@ -0,0 +1,44 @@
+package com.project.taskmanager.infrastructure.tenant;
+
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Actuator view of per-user storage: {@code /actuator/tenants} lists the largest users by
+ * estimated footprint, {@code /actuator/tenants/{userId}} shows one user.
+ */
+@Endpoint(id = "tenants")
+public class TenantUsageEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TenantQuota tenantQuota;
+
+    public TenantUsageEndpoint(TaskRepository taskRepository, TenantQuota tenantQuota) {
+        this.taskRepository = taskRepository;
+        this.tenantQuota = tenantQuota;
+    }
+
+    @ReadOperation
+    public TenantsReport largest(@Nullable Integer limit) {
+        int effectiveLimit = limit != null ? Math.min(Math.max(limit, 1), MAX_LIMIT) : DEFAULT_LIMIT;
+        return new TenantsReport(tenantQuota, taskRepository.findLargestTenants(effectiveLimit));
+    }
+
+    @ReadOperation
+    public TenantUsage tenant(@Selector String userId) {
+        return taskRepository.getUsage(userId);
+    }
+
+    public record TenantsReport(TenantQuota quota, List<TenantUsage> largest) {
+    }
+}
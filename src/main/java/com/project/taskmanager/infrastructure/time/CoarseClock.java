@@ -0,0 +1,74 @@
+package com.project.taskmanager.infrastructure.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Clock} that returns a time cached by a background ticker instead of asking the system
+ * clock on every read.
+ * <p>
+ * The ticker copies the source clock's instant every {@code tick}, so a read costs one volatile
+ * load and lags real time by at most a tick. The cached time never moves backwards: if the
+ * source steps back, this clock holds still until the source catches up. Views from
+ * {@link #withZone} share the ticker; {@link #close} stops it for all of them.
+ */
+public class CoarseClock extends Clock implements AutoCloseable {
+
+    private final AtomicReference<Instant> current;
+    private final ZoneId zone;
+    private final ScheduledExecutorService ticker;
+
+    public CoarseClock(Clock source, Duration tick) {
+        this.current = new AtomicReference<>(source.instant());
+        this.zone = source.getZone();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickNanos = tick.toNanos();
+        ticker.scheduleAtFixedRate(() -> advance(source.instant()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private CoarseClock(CoarseClock clock, ZoneId zone) {
+        this.current = clock.current;
+        this.zone = zone;
+        this.ticker = clock.ticker;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(this, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return current.get();
+    }
+
+    @Override
+    public long millis() {
+        return current.get().toEpochMilli();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    // Package-private so tests can step the clock without waiting for the ticker
+    void advance(Instant now) {
+        current.accumulateAndGet(now, (cached, next) -> next.isAfter(cached) ? next : cached);
+    }
+}
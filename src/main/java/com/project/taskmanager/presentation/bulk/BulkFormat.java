@@ -0,0 +1,91 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Record formats accepted by bulk import and produced by bulk export: one task per line as JSON,
+ * or CSV with a header row.
+ */
+public enum BulkFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    BulkFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static BulkFormat fromString(String format) {
+        for (BulkFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Invalid format: " + format + ". Must be ndjson or csv.");
+    }
+
+    /**
+     * Resolves the format of a request body from its Content-Type header.
+     */
+    public static BulkFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new IllegalArgumentException("Content-Type must be " + NDJSON.mediaType + " or " + CSV.mediaType);
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new IllegalArgumentException("Invalid Content-Type: " + contentType);
+        }
+        for (BulkFormat candidate : values()) {
+            if (candidate.mediaType.isCompatibleWith(mediaType) && !mediaType.isWildcardSubtype()) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported Content-Type: " + contentType + ". Must be "
+                + NDJSON.mediaType + " or " + CSV.mediaType);
+    }
+
+    /**
+     * Reads records from {@code in}, decoded with the charset of {@code contentType}, or UTF-8
+     * if it names none.
+     */
+    public TaskRowReader reader(InputStream in, String contentType, ObjectMapper objectMapper) {
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        InputStreamReader reader = new InputStreamReader(in, charset != null ? charset : StandardCharsets.UTF_8);
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskRowReader(reader, objectMapper);
+            case CSV -> new CsvTaskRowReader(reader);
+        };
+    }
+
+    /**
+     * Writes UTF-8 records to {@code out}.
+     */
+    public TaskRowWriter writer(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonTaskRowWriter(out, objectMapper);
+            case CSV -> new CsvTaskRowWriter(out);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.taskmanager.presentation.bulk;
+
+/**
+ * Columns of the CSV format, in export order. Imports match header names case-insensitively,
+ * need only the required columns and ignore the ones they do not use, so an export can be
+ * imported back as it is.
+ */
+enum CsvColumn {
+    ID("id", false),
+    TITLE("title", true),
+    PRIORITY("priority", true),
+    DUE_DATE("dueDate", true),
+    CATEGORY("category", true),
+    RECURRENCE_FREQUENCY("recurrenceFrequency", false),
+    RECURRENCE_INTERVAL("recurrenceInterval", false),
+    RECURRENCE_UNTIL("recurrenceUntil", false),
+    CREATED_AT("createdAt", false),
+    UPDATED_AT("updatedAt", false),
+    VERSION("version", false);
+
+    private static final CsvColumn[] VALUES = values();
+
+    private final String header;
+    private final boolean required;
+
+    CsvColumn(String header, boolean required) {
+        this.header = header;
+        this.required = required;
+    }
+
+    String header() {
+        return header;
+    }
+
+    boolean isRequired() {
+        return required;
+    }
+
+    static CsvColumn fromHeader(String header) {
+        for (CsvColumn column : VALUES) {
+            if (column.header.equalsIgnoreCase(header)) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
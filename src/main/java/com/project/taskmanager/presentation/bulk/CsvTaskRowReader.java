@@ -0,0 +1,202 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.RecurrenceRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads CSV as described by RFC 4180: comma-separated fields, optionally enclosed in double
+ * quotes, in which case they may contain commas, line breaks and doubled quotes. The first
+ * record is the header, see {@link CsvColumn}. Blank lines are skipped.
+ */
+public class CsvTaskRowReader implements TaskRowReader {
+
+    private final RecordInput input;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    // Field index of each column, -1 if the header does not have it
+    private final int[] columnIndexes = new int[CsvColumn.values().length];
+    private boolean headerRead;
+
+    public CsvTaskRowReader(Reader reader) {
+        this.input = new RecordInput(reader);
+        Arrays.fill(columnIndexes, -1);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (!headerRead && !readHeader()) {
+            return null;
+        }
+        while (true) {
+            long line = input.line();
+            RecordStatus status = readRecord();
+            if (status == RecordStatus.END) {
+                return null;
+            }
+            if (status == RecordStatus.TOO_LONG) {
+                return ImportRow.rejected(line, "Record exceeds " + RecordInput.MAX_RECORD_CHARS + " characters");
+            }
+            if (status == RecordStatus.UNTERMINATED_QUOTE) {
+                return ImportRow.rejected(line, "Quoted field is not closed");
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                return ImportRow.parsed(line, toRequest());
+            } catch (IllegalArgumentException e) {
+                return ImportRow.rejected(line, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private boolean readHeader() throws IOException {
+        headerRead = true;
+        RecordStatus status = readRecord();
+        if (status == RecordStatus.END) {
+            return false;
+        }
+        if (status != RecordStatus.RECORD) {
+            throw new IllegalArgumentException("Malformed CSV header");
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            CsvColumn column = CsvColumn.fromHeader(fields.get(i).trim());
+            if (column != null && columnIndexes[column.ordinal()] < 0) {
+                columnIndexes[column.ordinal()] = i;
+            }
+        }
+        Set<CsvColumn> missing = EnumSet.noneOf(CsvColumn.class);
+        for (CsvColumn column : CsvColumn.values()) {
+            if (column.isRequired() && columnIndexes[column.ordinal()] < 0) {
+                missing.add(column);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing required columns: "
+                    + missing.stream().map(CsvColumn::header).collect(Collectors.joining(", ")));
+        }
+        return true;
+    }
+
+    private CreateTaskRequest toRequest() {
+        CreateTaskRequest request = new CreateTaskRequest(value(CsvColumn.TITLE),
+                parseInteger(CsvColumn.PRIORITY), parseDateTime(CsvColumn.DUE_DATE), value(CsvColumn.CATEGORY));
+        String frequency = value(CsvColumn.RECURRENCE_FREQUENCY);
+        if (frequency != null) {
+            request.setRecurrence(new RecurrenceRequest(frequency.trim(), parseInteger(CsvColumn.RECURRENCE_INTERVAL),
+                    parseDateTime(CsvColumn.RECURRENCE_UNTIL)));
+        }
+        return request;
+    }
+
+    // Empty fields are absent values, so that validation reports them as missing
+    private String value(CsvColumn column) {
+        int index = columnIndexes[column.ordinal()];
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer parseInteger(CsvColumn column) {
+        String value = value(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column.header() + ": " + value);
+        }
+    }
+
+    private LocalDateTime parseDateTime(CsvColumn column) {
+        String value = value(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column.header() + ": " + value
+                    + ". Must be an ISO local date-time such as 2025-11-01T09:00:00");
+        }
+    }
+
+    // Reads one record into fields. Past MAX_RECORD_CHARS the rest of the record is consumed
+    // but not kept.
+    private RecordStatus readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int length = 0;
+        boolean quoted = false;
+        boolean read = false;
+        while (true) {
+            int c = input.read();
+            if (c == RecordInput.EOF) {
+                if (!read) {
+                    return RecordStatus.END;
+                }
+                if (quoted) {
+                    return RecordStatus.UNTERMINATED_QUOTE;
+                }
+                break;
+            }
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    int next = input.read();
+                    if (next != '"') {
+                        quoted = false;
+                        if (next != RecordInput.EOF) {
+                            input.unread(next);
+                        }
+                        continue;
+                    }
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                continue;
+            } else if (c == ',') {
+                if (length <= RecordInput.MAX_RECORD_CHARS) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                continue;
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                continue;
+            }
+            if (++length <= RecordInput.MAX_RECORD_CHARS) {
+                field.append((char) c);
+            }
+        }
+        if (length > RecordInput.MAX_RECORD_CHARS) {
+            return RecordStatus.TOO_LONG;
+        }
+        fields.add(field.toString());
+        return RecordStatus.RECORD;
+    }
+
+    private enum RecordStatus {
+        RECORD, TOO_LONG, UNTERMINATED_QUOTE, END
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.project.taskmanager.application.dto.RecurrenceResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a header row followed by one row per task, with the columns of {@link CsvColumn}.
+ * Line breaks are CRLF as RFC 4180 asks; fields containing commas, quotes or line breaks are
+ * quoted.
+ */
+public class CsvTaskRowWriter implements TaskRowWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer writer;
+
+    public CsvTaskRowWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        CsvColumn[] columns = CsvColumn.values();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns[i].header());
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        RecurrenceResponse recurrence = task.getRecurrence();
+        for (CsvColumn column : CsvColumn.values()) {
+            if (column.ordinal() > 0) {
+                writer.write(',');
+            }
+            switch (column) {
+                case ID -> writer.write(task.getId());
+                case TITLE -> writeText(task.getTitle());
+                case PRIORITY -> writer.write(Integer.toString(task.getPriority()));
+                case DUE_DATE -> writeDateTime(task.getDueDate());
+                case CATEGORY -> writer.write(task.getCategory());
+                case RECURRENCE_FREQUENCY -> {
+                    if (recurrence != null) {
+                        writer.write(recurrence.getFrequency());
+                    }
+                }
+                case RECURRENCE_INTERVAL -> {
+                    if (recurrence != null) {
+                        writer.write(Integer.toString(recurrence.getInterval()));
+                    }
+                }
+                case RECURRENCE_UNTIL -> writeDateTime(recurrence != null ? recurrence.getUntil() : null);
+                case CREATED_AT -> writeDateTime(task.getCreatedAt());
+                case UPDATED_AT -> writeDateTime(task.getUpdatedAt());
+                case VERSION -> writer.write(Long.toString(task.getVersion()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeDateTime(LocalDateTime dateTime) throws IOException {
+        if (dateTime != null) {
+            writer.write(dateTime.toString());
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        if (!needsQuotes(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    // Leading and trailing spaces are quoted too, so they survive readers that trim fields
+    private static boolean needsQuotes(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        if (text.charAt(0) == ' ' || text.charAt(text.length() - 1) == ' ') {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
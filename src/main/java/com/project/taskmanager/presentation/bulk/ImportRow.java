@@ -0,0 +1,23 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+
+/**
+ * One record of an import: the request it parsed to, or the reason it could not be parsed.
+ *
+ * @param line line on which the record starts, from 1
+ */
+public record ImportRow(long line, CreateTaskRequest request, String error) {
+
+    static ImportRow parsed(long line, CreateTaskRequest request) {
+        return new ImportRow(line, request, null);
+    }
+
+    static ImportRow rejected(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads one JSON object per line, with the fields of {@link CreateTaskRequest}. Unknown fields
+ * are ignored as configured on the application {@link ObjectMapper}, so exported records can be
+ * imported back. Blank lines are skipped. Each line is parsed straight from a reused buffer,
+ * without building a String per record.
+ */
+public class NdjsonTaskRowReader implements TaskRowReader {
+
+    private final RecordInput input;
+    private final ObjectReader objectReader;
+    private char[] record = new char[256];
+
+    public NdjsonTaskRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.input = new RecordInput(reader);
+        this.objectReader = objectMapper.readerFor(CreateTaskRequest.class);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (true) {
+            long line = input.line();
+            int length = readLine();
+            if (length < 0) {
+                return null;
+            }
+            if (length > RecordInput.MAX_RECORD_CHARS) {
+                return ImportRow.rejected(line, "Record exceeds " + RecordInput.MAX_RECORD_CHARS + " characters");
+            }
+            if (isBlank(length)) {
+                continue;
+            }
+            try (JsonParser parser = objectReader.createParser(record, 0, length)) {
+                CreateTaskRequest request = objectReader.readValue(parser);
+                if (request == null) {
+                    return ImportRow.rejected(line, "Record must be a JSON object");
+                }
+                // Reading from a parser does not check for trailing tokens, so do it here.
+                if (parser.nextToken() != null) {
+                    return ImportRow.rejected(line, "Malformed record: trailing content after the JSON object");
+                }
+                return ImportRow.parsed(line, request);
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(line, "Malformed record: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    // Reads the next line into record and returns its length, or -1 at the end of the input.
+    // Characters past MAX_RECORD_CHARS are counted but not kept.
+    private int readLine() throws IOException {
+        int length = 0;
+        int c;
+        while ((c = input.read()) != '\n') {
+            if (c == RecordInput.EOF) {
+                return length > 0 ? length : -1;
+            }
+            if (c != '\r' && length++ < RecordInput.MAX_RECORD_CHARS) {
+                if (length > record.length) {
+                    record = Arrays.copyOf(record, Math.min(record.length * 2, RecordInput.MAX_RECORD_CHARS));
+                }
+                record[length - 1] = (char) c;
+            }
+        }
+        return length;
+    }
+
+    private boolean isBlank(int length) {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(record[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
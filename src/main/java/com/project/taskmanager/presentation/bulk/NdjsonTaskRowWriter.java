@@ -0,0 +1,41 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.taskmanager.application.dto.TaskResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes each task as one line of JSON, in the same shape as the single-task responses of the
+ * API, through one generator so records are encoded straight into its buffer.
+ */
+public class NdjsonTaskRowWriter implements TaskRowWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonTaskRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        // Records are separated by the newline written after each one, not by the default space
+        this.generator.setRootValueSeparator(null);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Flushing is left to the caller; after every record it would cost a write per task
+        this.objectWriter = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        objectWriter.writeValue(generator, task);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
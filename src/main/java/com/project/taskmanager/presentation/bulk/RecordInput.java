@@ -0,0 +1,84 @@
+package com.project.taskmanager.presentation.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Character input for the record readers: buffered without the per-call locking of
+ * {@link java.io.BufferedReader}, with one character of pushback and a line count. A leading
+ * byte order mark is skipped.
+ */
+final class RecordInput {
+
+    static final int EOF = -1;
+
+    // Longest record accepted; longer ones are skipped and rejected so memory stays bounded
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private static final int NONE = -2;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int pushedBack = NONE;
+    private long line = 1;
+    private boolean started;
+
+    RecordInput(Reader reader) {
+        this.reader = reader;
+    }
+
+    int read() throws IOException {
+        int c;
+        if (pushedBack != NONE) {
+            c = pushedBack;
+            pushedBack = NONE;
+        } else {
+            if (position == limit && !fill()) {
+                return EOF;
+            }
+            c = buffer[position++];
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    void unread(int c) {
+        pushedBack = c;
+        if (c == '\n') {
+            line--;
+        }
+    }
+
+    /**
+     * Line of the next character to be read, from 1.
+     */
+    long line() {
+        return line;
+    }
+
+    void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        if (!started) {
+            started = true;
+            if (buffer[0] == BYTE_ORDER_MARK) {
+                position = 1;
+                return position < limit || fill();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.taskmanager.presentation.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads import records one at a time, holding at most one record in memory.
+ */
+public interface TaskRowReader extends Closeable {
+
+    /**
+     * Returns the next record, or {@code null} at the end of the input. A record that cannot be
+     * parsed is returned as rejected and reading carries on with the next one.
+     *
+     * @throws IllegalArgumentException if the input as a whole is unusable, e.g. a CSV header
+     *                                  without the required columns
+     */
+    ImportRow next() throws IOException;
+}
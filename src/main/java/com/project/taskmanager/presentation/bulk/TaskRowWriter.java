@@ -0,0 +1,15 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.project.taskmanager.application.dto.TaskResponse;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes export records one at a time through a buffer of its own. The underlying stream is
+ * left open; {@link #flush} must be called once the last record is written.
+ */
+public interface TaskRowWriter extends Flushable {
+
+    void write(TaskResponse task) throws IOException;
+}
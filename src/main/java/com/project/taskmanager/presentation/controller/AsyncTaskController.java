@@ -0,0 +1,140 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.dto.UpdateTaskRequest;
+import com.project.taskmanager.application.mapper.TaskMapper;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.usecase.CreateTaskAsyncUseCase;
+import com.project.taskmanager.domain.usecase.DeleteTaskAsyncUseCase;
+import com.project.taskmanager.domain.usecase.GetTasksAsyncUseCase;
+import com.project.taskmanager.domain.usecase.UpdateTaskAsyncUseCase;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.infrastructure.service.TaskSortingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Same contract as {@link TaskController}, served through the asynchronous use cases. Handlers
+ * return as soon as the work is scheduled, releasing the servlet thread while the repository
+ * works; the response is written when the future completes.
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/async/tasks")
+@RequiredArgsConstructor
+public class AsyncTaskController {
+
+    private final CreateTaskAsyncUseCase createTaskAsyncUseCase;
+    private final GetTasksAsyncUseCase getTasksAsyncUseCase;
+    private final UpdateTaskAsyncUseCase updateTaskAsyncUseCase;
+    private final DeleteTaskAsyncUseCase deleteTaskAsyncUseCase;
+    private final TaskSortingService taskSortingService;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<TaskResponse>> createTask(
+            @Valid @RequestBody CreateTaskRequest request,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        Priority priority = Priority.fromValue(request.getPriority());
+        Category category = Category.fromString(request.getCategory());
+
+        return createTaskAsyncUseCase.execute(request.getTitle(), priority,
+                        TaskRequestParams.toInstant(request.getDueDate(), zone), category, userId,
+                        TaskRequestParams.toRecurrence(request.getRecurrence(), zone))
+                .thenApply(task -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<TaskListResponse>> getTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDate,
+            @RequestParam(required = false, defaultValue = "CREATED_AT") String sortBy,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        Comparator<Task> comparator = taskSortingService.getComparator(sortBy);
+
+        return getTasksAsyncUseCase.execute(userId, TaskRequestParams.toInstant(startDate, zone),
+                        TaskRequestParams.toInstant(endDate, zone),
+                        TaskRequestParams.toFilter(priority, category, overdue), comparator)
+                .thenApply(tasks -> ResponseEntity.ok()
+                        .varyBy(TaskRequestParams.USER_ZONE_HEADER)
+                        .body(new TaskListResponse(TaskMapper.toResponseList(tasks, zone), zone)));
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<TaskResponse>> getTaskById(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        return getTasksAsyncUseCase.execute(userId, null, null, null, null)
+                .thenApply(tasks -> tasks.stream()
+                        .filter(t -> t.getId().equals(id))
+                        .findFirst()
+                        .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id)))
+                .thenApply(task -> ResponseEntity.ok()
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @PutMapping("/{id}")
+    public CompletableFuture<ResponseEntity<TaskResponse>> updateTask(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            @Valid @RequestBody UpdateTaskRequest request) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        Priority priority = request.getPriority() != null ?
+                Priority.fromValue(request.getPriority()) : null;
+        Category category = request.getCategory() != null ?
+                Category.fromString(request.getCategory()) : null;
+
+        return updateTaskAsyncUseCase.execute(id, userId, request.getTitle(), priority,
+                        TaskRequestParams.toInstant(request.getDueDate(), zone),
+                        category, TaskRequestParams.parseIfMatch(ifMatch))
+                .thenApply(task -> ResponseEntity.ok()
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> deleteTask(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        return deleteTaskAsyncUseCase.execute(id, userId, TaskRequestParams.parseIfMatch(ifMatch))
+                .thenApply(ignored -> ResponseEntity.noContent().<Void>build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.ImportTasksResponse;
+import com.project.taskmanager.application.mapper.TaskMapper;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import com.project.taskmanager.domain.usecase.ExportTasksUseCase;
+import com.project.taskmanager.domain.usecase.ImportTasksUseCase;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.presentation.bulk.BulkFormat;
+import com.project.taskmanager.presentation.bulk.ImportRow;
+import com.project.taskmanager.presentation.bulk.TaskRowReader;
+import com.project.taskmanager.presentation.bulk.TaskRowWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import and export of a user's tasks as NDJSON or CSV, streamed record by record in both
+ * directions so memory use does not depend on the number of tasks.
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class TaskBulkController {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ImportTasksUseCase importTasksUseCase;
+    private final ExportTasksUseCase exportTasksUseCase;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a task for every valid record of the body, validated like {@code POST /api/tasks}.
+     * Invalid records are skipped and reported. The import stops early only when the user's quota
+     * is reached: every record up to the quota is created, and the line at which the import
+     * stopped is reported.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ImportTasksResponse> importTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            HttpServletRequest request) throws IOException {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        BulkFormat format = BulkFormat.fromContentType(contentType);
+        ImportTasksUseCase.Session session = importTasksUseCase.start(userId);
+        ImportTasksResponse response = new ImportTasksResponse();
+        response.setComplete(true);
+
+        long line = 0;
+        try (TaskRowReader reader = format.reader(request.getInputStream(), contentType, objectMapper)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                line = row.line();
+                String error = row.isRejected() ? row.error() : importRow(session, row.request(), zone);
+                if (error != null) {
+                    reject(response, line, error);
+                }
+            }
+            session.finish();
+        } catch (TenantQuotaExceededException e) {
+            // Reported, but not counted as a rejected record
+            log.warn("Import for user {} stopped at line {}: {}", userId, line, e.getMessage());
+            response.setComplete(false);
+            response.getErrors().add(new ImportTasksResponse.ImportError(line, "Import stopped: " + e.getMessage()));
+        }
+
+        response.setImported(session.getImported());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams the user's tasks with times in the user's zone. Recurring tasks are exported once,
+     * as their series, so that importing the export recreates them.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        BulkFormat bulkFormat = BulkFormat.fromString(format);
+
+        StreamingResponseBody body = out -> {
+            TaskRowWriter writer = bulkFormat.writer(out, objectMapper);
+            try {
+                exportTasksUseCase.execute(userId, task -> {
+                    try {
+                        writer.write(TaskMapper.toUncachedResponse(task, zone));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                // Usually the client went away; the response is committed, so just stop
+                log.debug("Task export for user {} aborted: {}", userId, e.getMessage());
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(bulkFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + bulkFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // Returns why the record was not imported, or null if it was queued
+    private String importRow(ImportTasksUseCase.Session session, CreateTaskRequest request, ZoneId zone) {
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; "));
+        }
+        try {
+            session.add(
+                    request.getTitle(),
+                    Priority.fromValue(request.getPriority()),
+                    TaskRequestParams.toInstant(request.getDueDate(), zone),
+                    Category.fromString(request.getCategory()),
+                    TaskRequestParams.toRecurrence(request.getRecurrence(), zone)
+            );
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void reject(ImportTasksResponse response, long line, String message) {
+        response.setRejected(response.getRejected() + 1);
+        if (response.getErrors().size() < MAX_REPORTED_ERRORS) {
+            response.getErrors().add(new ImportTasksResponse.ImportError(line, message));
+        }
+    }
+}
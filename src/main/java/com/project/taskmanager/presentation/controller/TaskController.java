@@ -1,34 +1,42 @@
 package com.project.taskmanager.presentation.controller;
 
 import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.TaskCountResponse;
 import com.project.taskmanager.application.dto.TaskListResponse;
 import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.dto.TaskStatisticsResponse;
 import com.project.taskmanager.application.dto.UpdateTaskRequest;
 import com.project.taskmanager.application.mapper.TaskMapper;
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.usecase.CountTasksUseCase;
 import com.project.taskmanager.domain.usecase.CreateTaskUseCase;
 import com.project.taskmanager.domain.usecase.DeleteTaskUseCase;
+import com.project.taskmanager.domain.usecase.GetTaskStatisticsUseCase;
 import com.project.taskmanager.domain.usecase.GetTasksUseCase;
+import com.project.taskmanager.domain.usecase.SearchTasksUseCase;
 import com.project.taskmanager.domain.usecase.UpdateTaskUseCase;
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
 import com.project.taskmanager.infrastructure.service.TaskSortingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
 
-@Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
@@ -37,30 +45,33 @@ public class TaskController {
     private final GetTasksUseCase getTasksUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
+    private final SearchTasksUseCase searchTasksUseCase;
+    private final CountTasksUseCase countTasksUseCase;
+    private final GetTaskStatisticsUseCase getTaskStatisticsUseCase;
     private final TaskSortingService taskSortingService;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(
             @Valid @RequestBody CreateTaskRequest request,
-            @RequestHeader("X-User-Id") String userId) {
-
-        log.info("Creating task for user: {}", userId);
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
 
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
         Priority priority = Priority.fromValue(request.getPriority());
         Category category = Category.fromString(request.getCategory());
 
         Task task = createTaskUseCase.execute(
                 request.getTitle(),
                 priority,
-                request.getDueDate(),
+                TaskRequestParams.toInstant(request.getDueDate(), zone),
                 category,
-                userId
+                userId,
+                TaskRequestParams.toRecurrence(request.getRecurrence(), zone)
         );
 
-        log.info("Task created successfully: {}", task.getId());
-
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(TaskMapper.toResponse(task));
+                .eTag(String.valueOf(task.getVersion()))
+                .body(TaskMapper.toResponse(task, zone));
     }
 
     @GetMapping
@@ -70,45 +81,98 @@ public class TaskController {
             LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             LocalDateTime endDate,
-            @RequestParam(required = false, defaultValue = "CREATED_AT") String sortBy) {
-
-        log.info("Getting tasks for user: {} with sortBy: {}", userId, sortBy);
+            @RequestParam(required = false, defaultValue = "CREATED_AT") String sortBy,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            WebRequest webRequest) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        // Which tasks are overdue changes with the clock, not only with writes
+        String eTag = overdue == null ? listingETag(userId, zone) : null;
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
         Comparator<Task> comparator = taskSortingService.getComparator(sortBy);
+        TaskFilter filter = TaskRequestParams.toFilter(priority, category, overdue);
+
+        List<Task> tasks = getTasksUseCase.execute(userId, TaskRequestParams.toInstant(startDate, zone),
+                TaskRequestParams.toInstant(endDate, zone), filter, comparator);
+
+        TaskListResponse response = new TaskListResponse(TaskMapper.toResponseList(tasks, zone), zone);
 
-        List<Task> tasks = getTasksUseCase.execute(userId, startDate, endDate, comparator);
+        return listing(response, eTag);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<TaskCountResponse> countTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue) {
+
+        long count = countTasksUseCase.execute(userId, TaskRequestParams.toFilter(priority, category, overdue));
 
-        TaskListResponse response = new TaskListResponse(TaskMapper.toResponseList(tasks));
+        return ResponseEntity.ok(new TaskCountResponse(count));
+    }
 
-        log.info("Retrieved {} tasks for user: {}", response.getTotal(), userId);
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatisticsResponse> getStatistics(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(TaskMapper.toStatisticsResponse(
+                getTaskStatisticsUseCase.execute(userId, TaskRequestParams.parseZone(userZone))));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskListResponse> searchTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam("q") String query,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            WebRequest webRequest) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        String eTag = listingETag(userId, zone);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<Task> tasks = searchTasksUseCase.execute(userId, query, limit);
+
+        return listing(new TaskListResponse(TaskMapper.toResponseList(tasks, zone), zone), eTag);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTaskById(
             @PathVariable String id,
-            @RequestHeader("X-User-Id") String userId) {
-
-        log.info("Getting task {} for user: {}", id, userId);
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
 
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
         List<Task> userTasks = getTasksUseCase.execute(userId, null, null, null);
         Task task = userTasks.stream()
                 .filter(t -> t.getId().equals(id))
                 .findFirst()
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
 
-        return ResponseEntity.ok(TaskMapper.toResponse(task));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(task.getVersion()))
+                .body(TaskMapper.toResponse(task, zone));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable String id,
             @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
             @Valid @RequestBody UpdateTaskRequest request) {
 
-        log.info("Updating task {} for user: {}", id, userId);
-
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
         Priority priority = request.getPriority() != null ?
                 Priority.fromValue(request.getPriority()) : null;
         Category category = request.getCategory() != null ?
@@ -119,28 +183,40 @@ public class TaskController {
                 userId,
                 request.getTitle(),
                 priority,
-                request.getDueDate(),
-                category
+                TaskRequestParams.toInstant(request.getDueDate(), zone),
+                category,
+                TaskRequestParams.parseIfMatch(ifMatch)
         );
 
-        log.info("Task updated successfully: {}", id);
-
-        return ResponseEntity.ok(TaskMapper.toResponse(task));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(task.getVersion()))
+                .body(TaskMapper.toResponse(task, zone));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable String id,
-            @RequestHeader("X-User-Id") String userId) {
-
-        log.info("Deleting task {} for user: {}", id, userId);
-
-        deleteTaskUseCase.execute(id, userId);
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
 
-        log.info("Task deleted successfully: {}", id);
+        deleteTaskUseCase.execute(id, userId, TaskRequestParams.parseIfMatch(ifMatch));
 
         return ResponseEntity.noContent().build();
     }
 
+    // Weak because JSON and protobuf listings of the same tasks share it. Read before the
+    // listing, so a write racing with it can only make the tag stale, never too new.
+    private String listingETag(String userId, ZoneId zone) {
+        return TaskRequestParams.listingETag(getTasksUseCase.currentVersion(userId), zone);
+    }
+
+    private ResponseEntity<TaskListResponse> listing(TaskListResponse response, String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT, TaskRequestParams.USER_ZONE_HEADER);
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(response);
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.project.taskmanager.application.dto.RecurrenceRequest;
+import com.project.taskmanager.application.mapper.TaskMapper;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Request parameter parsing shared by the task controllers.
+ */
+final class TaskRequestParams {
+
+    static final String USER_ZONE_HEADER = "X-User-Zone";
+
+    private TaskRequestParams() {
+    }
+
+    /**
+     * Parses the zone the client reads and writes local times in. A missing header means UTC.
+     */
+    static ZoneId parseZone(String zone) {
+        if (zone == null || zone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(zone.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid " + USER_ZONE_HEADER + " header: " + zone);
+        }
+    }
+
+    /**
+     * Resolves a local time from the client in its zone. In a daylight saving gap the time is
+     * moved forward by the length of the gap; in an overlap the earlier offset is used.
+     */
+    static Instant toInstant(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime != null ? dateTime.atZone(zone).toInstant() : null;
+    }
+
+    static TaskFilter toFilter(List<Integer> priorities, List<String> categories, Boolean overdue) {
+        TaskFilter.TaskFilterBuilder filter = TaskFilter.builder().overdue(overdue);
+        if (priorities != null) {
+            priorities.forEach(value -> filter.priority(Priority.fromValue(value)));
+        }
+        if (categories != null) {
+            categories.forEach(value -> filter.category(Category.fromString(value)));
+        }
+        return filter.build();
+    }
+
+    static RecurrenceRule toRecurrence(RecurrenceRequest request, ZoneId zone) {
+        if (request == null) {
+            return null;
+        }
+        int interval = request.getInterval() != null ? request.getInterval() : 1;
+        return new RecurrenceRule(RecurrenceRule.Frequency.fromString(request.getFrequency()), interval,
+                toInstant(request.getUntil(), zone), zone);
+    }
+
+    /**
+     * Weak listing tag for the given modification stamp. The same tasks render differently in
+     * each zone, so a zone other than UTC is part of the tag.
+     */
+    static String listingETag(long version, ZoneId zone) {
+        String tag = TaskMapper.isUtc(zone) ? String.valueOf(version) : version + "-" + zone.getId();
+        return "W/\"" + tag + "\"";
+    }
+
+    /**
+     * Extracts the expected task version from an If-Match header. A missing header or
+     * {@code *} means the write is unconditional.
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
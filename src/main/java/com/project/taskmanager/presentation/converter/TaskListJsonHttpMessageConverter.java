@@ -0,0 +1,186 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.application.cache.VersionedCache;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.mapper.TaskMapper;
+import com.project.taskmanager.application.profiling.TimedEvent;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes {@link TaskListResponse} as JSON by splicing pre-serialized task fragments.
+ * <p>
+ * Each task is serialized with the application {@link ObjectMapper} once per version and the
+ * resulting bytes are cached, so re-reading an unchanged listing only copies bytes instead of
+ * rebuilding the object tree and re-formatting dates. The output is byte-for-byte what Jackson
+ * would produce for the same response.
+ * <p>
+ * The envelope around the tasks comes from the same mapper: empty responses are serialized once
+ * at construction and diffed to find where the task array and the total go. If the mapping of
+ * {@link TaskListResponse} leaves no such places (an empty list or a zero total omitted, say),
+ * every response is written by the mapper directly.
+ */
+public class TaskListJsonHttpMessageConverter extends AbstractHttpMessageConverter<TaskListResponse> {
+
+    private final ObjectMapper objectMapper;
+    private final VersionedCache<byte[]> fragmentCache;
+    private final Envelope envelope;
+
+    public TaskListJsonHttpMessageConverter(ObjectMapper objectMapper, int cacheCapacity) {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+        this.fragmentCache = new VersionedCache<>(cacheCapacity);
+        this.envelope = Envelope.derive(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskListResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TaskListResponse readInternal(Class<? extends TaskListResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("TaskListResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TaskListResponse response, HttpOutputMessage outputMessage) throws IOException {
+        TaskSerializationEvent event = TimedEvent.start(new TaskSerializationEvent());
+        OutputStream out = outputMessage.getBody();
+        List<TaskResponse> tasks = response.getTasks();
+        long bytes;
+
+        if (tasks == null || envelope == null) {
+            // Nothing to splice, or no place to splice it into
+            bytes = write(out, objectMapper.writeValueAsBytes(response));
+        } else {
+            bytes = write(out, envelope.beforeFirst);
+            bytes += envelope.tasksFirst ? writeTasks(out, tasks, response.getZone()) : writeTotal(out, response);
+            bytes += write(out, envelope.between);
+            bytes += envelope.tasksFirst ? writeTotal(out, response) : writeTasks(out, tasks, response.getZone());
+            bytes += write(out, envelope.afterLast);
+        }
+        if (event.ended()) {
+            event.format = "json";
+            event.taskCount = tasks != null ? tasks.size() : 0;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private long writeTasks(OutputStream out, List<TaskResponse> tasks, ZoneId zone) throws IOException {
+        out.write('[');
+        long bytes = 2;
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+                bytes++;
+            }
+            bytes += write(out, fragmentFor(tasks.get(i), zone));
+        }
+        out.write(']');
+        return bytes;
+    }
+
+    private static int writeTotal(OutputStream out, TaskListResponse response) throws IOException {
+        return write(out, Integer.toString(response.getTotal()).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static int write(OutputStream out, byte[] bytes) throws IOException {
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    private byte[] fragmentFor(TaskResponse task, ZoneId zone) throws IOException {
+        // Version 0 responses do not come from a stored snapshot, so they are never cached
+        if (task.getVersion() == 0) {
+            return objectMapper.writeValueAsBytes(task);
+        }
+        // The same version renders differently in each zone the user asks for
+        String key = TaskMapper.cacheKey(task.getId(), zone);
+        byte[] fragment = fragmentCache.get(key, task.getVersion());
+        if (fragment == null) {
+            fragment = objectMapper.writeValueAsBytes(task);
+            fragmentCache.put(key, task.getVersion(), fragment);
+        }
+        return fragment;
+    }
+
+    /**
+     * The bytes the mapper writes around the task array and the total, in the order it writes
+     * them.
+     */
+    private static final class Envelope {
+
+        private final byte[] beforeFirst;
+        private final byte[] between;
+        private final byte[] afterLast;
+        private final boolean tasksFirst;
+
+        private Envelope(byte[] beforeFirst, byte[] between, byte[] afterLast, boolean tasksFirst) {
+            this.beforeFirst = beforeFirst;
+            this.between = between;
+            this.afterLast = afterLast;
+            this.tasksFirst = tasksFirst;
+        }
+
+        // Returns null when the mapper does not write both an empty task array and a zero total
+        static Envelope derive(ObjectMapper objectMapper) {
+            byte[] empty = serialize(objectMapper, Collections.emptyList(), 0);
+            // Changing one value at a time shows where that value starts in the empty response
+            int tasksAt = Arrays.mismatch(empty, serialize(objectMapper, null, 0));
+            int totalAt = Arrays.mismatch(empty, serialize(objectMapper, Collections.emptyList(), 1));
+            if (tasksAt < 0 || totalAt < 0
+                    || !startsWith(empty, tasksAt, "[]") || !startsWith(empty, totalAt, "0")) {
+                return null;
+            }
+
+            boolean tasksFirst = tasksAt < totalAt;
+            int firstAt = Math.min(tasksAt, totalAt);
+            int firstEnd = firstAt + (tasksFirst ? 2 : 1);
+            int secondAt = Math.max(tasksAt, totalAt);
+            int secondEnd = secondAt + (tasksFirst ? 1 : 2);
+            return new Envelope(
+                    Arrays.copyOfRange(empty, 0, firstAt),
+                    Arrays.copyOfRange(empty, firstEnd, secondAt),
+                    Arrays.copyOfRange(empty, secondEnd, empty.length),
+                    tasksFirst);
+        }
+
+        private static byte[] serialize(ObjectMapper objectMapper, List<TaskResponse> tasks, int total) {
+            TaskListResponse response = new TaskListResponse();
+            response.setTasks(tasks);
+            response.setTotal(total);
+            try {
+                return objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Cannot serialize an empty TaskListResponse", ex);
+            }
+        }
+
+        private static boolean startsWith(byte[] bytes, int offset, String expected) {
+            byte[] prefix = expected.getBytes(StandardCharsets.US_ASCII);
+            return offset + prefix.length <= bytes.length
+                    && Arrays.equals(bytes, offset, offset + prefix.length, prefix, 0, prefix.length);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.project.taskmanager.application.dto.RecurrenceResponse;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.profiling.TimedEvent;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes {@link TaskListResponse} in the protobuf wire format described by
+ * {@code proto/task_list.proto}, for clients that send {@code Accept: application/x-protobuf}.
+ * <p>
+ * Timestamps are epoch milliseconds of the stored instants, whatever zone the request asked
+ * for; only the JSON form is rendered in the user's zone. Priority, category and frequency are
+ * small integers, and the user id is written once for the whole list instead of
+ * once per task. The encoder is hand-written, so no protobuf runtime is needed on the server.
+ */
+public class TaskListProtobufHttpMessageConverter extends AbstractHttpMessageConverter<TaskListResponse> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    // TaskList fields
+    private static final int LIST_TASKS = 1;
+    private static final int LIST_TOTAL = 2;
+    private static final int LIST_USER_ID = 3;
+
+    // Task fields
+    private static final int TASK_ID = 1;
+    private static final int TASK_TITLE = 2;
+    private static final int TASK_PRIORITY = 3;
+    private static final int TASK_DUE_DATE = 4;
+    private static final int TASK_CATEGORY = 5;
+    private static final int TASK_USER_ID = 6;
+    private static final int TASK_CREATED_AT = 7;
+    private static final int TASK_UPDATED_AT = 8;
+    private static final int TASK_VERSION = 9;
+    private static final int TASK_SERIES_ID = 10;
+    private static final int TASK_RECURRENCE = 11;
+
+    // Recurrence fields
+    private static final int RECURRENCE_FREQUENCY = 1;
+    private static final int RECURRENCE_INTERVAL = 2;
+    private static final int RECURRENCE_UNTIL = 3;
+    private static final int RECURRENCE_ZONE = 4;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    public TaskListProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TaskListResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected TaskListResponse readInternal(Class<? extends TaskListResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("TaskListResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(TaskListResponse response, HttpOutputMessage outputMessage) throws IOException {
+        TaskSerializationEvent event = TimedEvent.start(new TaskSerializationEvent());
+        byte[] encoded = encode(response);
+        outputMessage.getBody().write(encoded);
+        if (event.ended()) {
+            event.format = "protobuf";
+            event.taskCount = response.getTasks() != null ? response.getTasks().size() : 0;
+            event.bytes = encoded.length;
+            event.commit();
+        }
+    }
+
+    /**
+     * Encodes a listing as a {@code TaskList} message.
+     */
+    static byte[] encode(TaskListResponse response) {
+        List<TaskResponse> tasks = response.getTasks();
+        String sharedUserId = tasks != null && !tasks.isEmpty() ? tasks.get(0).getUserId() : null;
+
+        ProtoOutput out = new ProtoOutput(tasks != null ? tasks.size() * 96 + 16 : 16);
+        if (tasks != null) {
+            ProtoOutput task = new ProtoOutput(128);
+            for (TaskResponse item : tasks) {
+                task.reset();
+                encodeTask(item, sharedUserId, task);
+                out.writeMessage(LIST_TASKS, task);
+            }
+        }
+        out.writeVarint(LIST_TOTAL, response.getTotal());
+        out.writeString(LIST_USER_ID, sharedUserId);
+        return out.toByteArray();
+    }
+
+    private static void encodeTask(TaskResponse task, String sharedUserId, ProtoOutput out) {
+        out.writeString(TASK_ID, task.getId());
+        out.writeString(TASK_TITLE, task.getTitle());
+        out.writeVarint(TASK_PRIORITY, task.getPriority());
+        out.writeTimestamp(TASK_DUE_DATE, task.getDueInstant());
+        if (task.getCategory() != null) {
+            out.writeVarint(TASK_CATEGORY, Category.valueOf(task.getCategory()).ordinal() + 1);
+        }
+        if (!Objects.equals(task.getUserId(), sharedUserId)) {
+            out.writeString(TASK_USER_ID, task.getUserId());
+        }
+        out.writeTimestamp(TASK_CREATED_AT, task.getCreatedInstant());
+        out.writeTimestamp(TASK_UPDATED_AT, task.getUpdatedInstant());
+        out.writeVarint(TASK_VERSION, task.getVersion());
+        out.writeString(TASK_SERIES_ID, task.getSeriesId());
+
+        RecurrenceResponse recurrence = task.getRecurrence();
+        if (recurrence != null) {
+            ProtoOutput rule = new ProtoOutput(24);
+            rule.writeVarint(RECURRENCE_FREQUENCY,
+                    RecurrenceRule.Frequency.valueOf(recurrence.getFrequency()).ordinal() + 1);
+            rule.writeVarint(RECURRENCE_INTERVAL, recurrence.getInterval());
+            rule.writeTimestamp(RECURRENCE_UNTIL, recurrence.getUntilInstant());
+            rule.writeString(RECURRENCE_ZONE, recurrence.getZone());
+            out.writeMessage(TASK_RECURRENCE, rule);
+        }
+    }
+
+    /**
+     * Growable buffer with just the protobuf primitives this format needs. Zero values and
+     * {@code null}s are skipped, as proto3 does for scalar fields.
+     */
+    private static final class ProtoOutput {
+
+        private byte[] buffer;
+        private int size;
+
+        ProtoOutput(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeVarint(int field, long value) {
+            if (value != 0) {
+                writeTag(field, WIRE_VARINT);
+                writeRawVarint(value);
+            }
+        }
+
+        void writeTimestamp(int field, Instant instant) {
+            if (instant != null) {
+                writeTag(field, WIRE_VARINT);
+                writeRawVarint(instant.toEpochMilli());
+            }
+        }
+
+        void writeString(int field, String value) {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(field, WIRE_LENGTH_DELIMITED);
+            writeRawVarint(bytes.length);
+            writeRaw(bytes, bytes.length);
+        }
+
+        void writeMessage(int field, ProtoOutput message) {
+            writeTag(field, WIRE_LENGTH_DELIMITED);
+            writeRawVarint(message.size);
+            writeRaw(message.buffer, message.size);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void writeTag(int field, int wireType) {
+            writeRawVarint((long) field << 3 | wireType);
+        }
+
+        private void writeRawVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeRaw(byte[] bytes, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, 0, buffer, size, length);
+            size += length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+}
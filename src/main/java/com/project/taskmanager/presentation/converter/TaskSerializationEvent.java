@@ -0,0 +1,31 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.project.taskmanager.application.profiling.TimedEvent;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for writing one task listing to the response, including the time spent
+ * blocked on a slow client.
+ */
+@Name("com.project.taskmanager.TaskSerialization")
+@Label("Task List Serialization")
+@Category({"Task Manager", "Listing"})
+@Description("Writing a task listing to the response body")
+@StackTrace(false)
+class TaskSerializationEvent extends TimedEvent {
+
+    @Label("Format")
+    String format;
+
+    @Label("Task Count")
+    int taskCount;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,79 @@
+package com.project.taskmanager.presentation.interceptor;
+
+import com.project.taskmanager.infrastructure.config.AccessLogProperties;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one logfmt line per sampled request to the {@code access} logger, with endpoint,
+ * status, latency and user.
+ * <p>
+ * Each endpoint is sampled at its configured rate. Server errors and requests slower than the
+ * threshold are always logged, since those are the ones worth reading. The decision is made when
+ * the request completes, so an unsampled request costs a timestamp and a request attribute. As
+ * with rate limiting, the clock keeps running through the asynchronous part of
+ * {@code /api/async/tasks} handlers.
+ */
+public class AccessLogInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_NANOS = AccessLogInterceptor.class.getName() + ".STARTED_NANOS";
+
+    private final AccessLogProperties properties;
+    private final Logger accessLog;
+    private final long slowThresholdNanos;
+
+    public AccessLogInterceptor(AccessLogProperties properties) {
+        this(properties, LoggerFactory.getLogger("access"));
+    }
+
+    AccessLogInterceptor(AccessLogProperties properties, Logger accessLog) {
+        this.properties = properties;
+        this.accessLog = accessLog;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMillis());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST && handler instanceof HandlerMethod) {
+            request.setAttribute(STARTED_NANOS, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(STARTED_NANOS) instanceof Long startedNanos)
+                || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        request.removeAttribute(STARTED_NANOS);
+        long latencyNanos = System.nanoTime() - startedNanos;
+        String endpoint = method.getMethod().getName();
+        int status = response.getStatus();
+        // An exception that reached this point was not handled, whatever the status says so far
+        boolean failed = ex != null || status >= 500;
+        if (!shouldLog(endpoint, failed, latencyNanos) || !accessLog.isInfoEnabled()) {
+            return;
+        }
+        accessLog.info("endpoint={} method={} path={} status={} latencyMicros={} user={}",
+                endpoint, request.getMethod(), request.getRequestURI(), status,
+                TimeUnit.NANOSECONDS.toMicros(latencyNanos), request.getHeader("X-User-Id"));
+    }
+
+    private boolean shouldLog(String endpoint, boolean failed, long latencyNanos) {
+        if (failed || latencyNanos >= slowThresholdNanos) {
+            return true;
+        }
+        double rate = properties.sampleRateFor(endpoint);
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.taskmanager.presentation.interceptor;
+
+import com.project.taskmanager.infrastructure.config.RateLimitProperties;
+import com.project.taskmanager.infrastructure.ratelimit.InFlightLimiter;
+import com.project.taskmanager.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.project.taskmanager.presentation.exception.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the per-user limit of the target endpoint, then global admission control.
+ * <p>
+ * Limits are looked up by handler method name, so {@code getTasks} configures the listing of
+ * every controller, but each controller method has its own bucket: a user's
+ * {@code /api/tasks} and {@code /api/async/tasks} listings are throttled separately.
+ * <p>
+ * Requests without an {@code X-User-Id} header are only subject to admission control. An
+ * admitted request holds its slot until it completes, including the asynchronous part of
+ * {@code /api/async/tasks} handlers, which is why the slot is released on the final dispatch
+ * rather than when the handler method returns.
+ */
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ADMITTED = RateLimitInterceptor.class.getName() + ".ADMITTED";
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final InFlightLimiter inFlightLimiter;
+
+    public RateLimitInterceptor(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter,
+                                InFlightLimiter inFlightLimiter) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.inFlightLimiter = inFlightLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async dispatches resume a request that was already counted
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+
+        String userId = request.getHeader("X-User-Id");
+        if (userId != null) {
+            String endpoint = method.getMethod().getName();
+            RateLimitProperties.Limit limit = properties.limitFor(endpoint);
+            String bucket = userId + ':' + method.getBeanType().getName() + '#' + endpoint;
+            long waitNanos = rateLimiter.tryAcquire(bucket, limit.getRequestsPerSecond(), limit.getBurst());
+            if (waitNanos > 0) {
+                throw new RateLimitExceededException("Rate limit exceeded for " + endpoint,
+                        Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+            }
+        }
+
+        if (!inFlightLimiter.tryAcquire()) {
+            throw new RateLimitExceededException("Server is at capacity, please retry later",
+                    properties.getAdmissionRetryAfterSeconds());
+        }
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            inFlightLimiter.release();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerReactiveTaskRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T12:00:00Z");
+
+    private Scheduler scheduler;
+    private WalkRecordingRepository delegate;
+    private SchedulerReactiveTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newSingle("test-repository");
+        delegate = new WalkRecordingRepository();
+        repository = new SchedulerReactiveTaskRepository(delegate, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void testFindByUserId_StreamsTheWalkOnTheScheduler() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            delegate.save(newTask("task-" + i, "user1"));
+        }
+        delegate.save(newTask("other", "user2"));
+
+        // Act
+        List<Task> tasks = repository.findByUserId("user1").collectList().block();
+
+        // Assert
+        assertNotNull(tasks);
+        assertEquals(3, tasks.size());
+        assertEquals(3, delegate.visited.get());
+        assertEquals(0, delegate.listed.get());
+        assertEquals(1, delegate.walkThreads.size());
+        assertTrue(delegate.walkThreads.iterator().next().startsWith("test-repository"));
+    }
+
+    @Test
+    void testFindByUserId_CancellingStopsTheWalk() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            delegate.save(newTask("task-" + i, "user1"));
+        }
+
+        // Act
+        List<Task> first = repository.findByUserId("user1").take(5).collectList().block();
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(5, first.size());
+        assertTrue(delegate.visited.get() <= 6, "walked " + delegate.visited.get() + " tasks");
+    }
+
+    private static Task newTask(String title, String userId) {
+        return new Task(title + "-id", title, Priority.MEDIUM, null, Category.WORK, userId, null, CREATED_AT);
+    }
+
+    private static class WalkRecordingRepository extends InMemoryTaskRepository {
+        final AtomicInteger visited = new AtomicInteger();
+        final AtomicInteger listed = new AtomicInteger();
+        final Set<String> walkThreads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public List<Task> findByUserId(String userId) {
+            listed.incrementAndGet();
+            return super.findByUserId(userId);
+        }
+
+        @Override
+        public void forEachByUserId(String userId, Consumer<Task> action) {
+            walkThreads.add(Thread.currentThread().getName());
+            super.forEachByUserId(userId, task -> {
+                visited.incrementAndGet();
+                action.accept(task);
+            });
+        }
+    }
+}
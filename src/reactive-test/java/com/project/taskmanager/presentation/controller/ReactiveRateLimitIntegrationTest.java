@@ -0,0 +1,42 @@
+package com.project.taskmanager.presentation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "tasks.rate-limit.endpoints.getTasks.requests-per-second=1",
+        "tasks.rate-limit.endpoints.getTasks.burst=2"
+})
+@AutoConfigureWebTestClient
+class ReactiveRateLimitIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testGetTasks_ReturnsTooManyRequestsWithRetryAfter() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/api/tasks").header("X-User-Id", "noisyUser")
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        webTestClient.get().uri("/api/tasks").header("X-User-Id", "noisyUser")
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().valueEquals("Retry-After", "1")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(429);
+
+        webTestClient.get().uri("/api/tasks").header("X-User-Id", "quietUser")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/tasks/count").header("X-User-Id", "noisyUser")
+                .exchange()
+                .expectStatus().isOk();
+    }
+}
@@ -0,0 +1,215 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.dto.UpdateTaskRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "tasks.stats.consistency-check=true"
+})
+@AutoConfigureWebTestClient
+class ReactiveTaskControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testTaskLifecycle() {
+        CreateTaskRequest createRequest = new CreateTaskRequest(
+                "Reactive Task", 3, LocalDateTime.now().plusDays(1), "WORK");
+
+        TaskResponse created = webTestClient.post().uri("/api/tasks")
+                .header("X-User-Id", "reactiveUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("ETag", "\"1\"")
+                .expectBody(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(created);
+        assertEquals("Reactive Task", created.getTitle());
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setPriority(5);
+
+        webTestClient.put().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "reactiveUser")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.priority").isEqualTo(5)
+                .jsonPath("$.version").isEqualTo(2);
+
+        webTestClient.put().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "reactiveUser")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateRequest)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        webTestClient.get().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "otherUser")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.delete().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "otherUser")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.delete().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "reactiveUser")
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/tasks/" + created.getId())
+                .header("X-User-Id", "reactiveUser")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetTasks_JsonAndStreamed() {
+        for (int priority = 1; priority <= 3; priority++) {
+            webTestClient.post().uri("/api/tasks")
+                    .header("X-User-Id", "streamUser")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CreateTaskRequest("Task " + priority, priority,
+                            LocalDateTime.now().plusDays(priority), "WORK"))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        webTestClient.get().uri("/api/tasks?sortBy=PRIORITY&priority=2&priority=3")
+                .header("X-User-Id", "streamUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2)
+                .jsonPath("$.tasks[0].priority").isEqualTo(3);
+
+        List<TaskResponse> streamed = webTestClient.get().uri("/api/tasks?sortBy=PRIORITY")
+                .header("X-User-Id", "streamUser")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(streamed);
+        assertEquals(3, streamed.size());
+        assertEquals(3, streamed.get(0).getPriority());
+
+        webTestClient.get().uri("/api/tasks/count?category=WORK")
+                .header("X-User-Id", "streamUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.count").isEqualTo(3);
+
+        webTestClient.get().uri("/api/tasks/stats")
+                .header("X-User-Id", "streamUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(3);
+
+        webTestClient.get().uri("/api/tasks/search?q=task")
+                .header("X-User-Id", "streamUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(3);
+    }
+
+    @Test
+    void testGetTasks_NotModifiedUntilUserWrites() {
+        CreateTaskRequest request = new CreateTaskRequest("Poll me", 3,
+                LocalDateTime.now().plusDays(1), "WORK");
+        webTestClient.post().uri("/api/tasks")
+                .header("X-User-Id", "reactiveEtagUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+
+        String eTag = webTestClient.get().uri("/api/tasks")
+                .header("X-User-Id", "reactiveEtagUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("W/\""));
+
+        webTestClient.get().uri("/api/tasks")
+                .header("X-User-Id", "reactiveEtagUser")
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+        webTestClient.get().uri("/api/tasks/search?q=poll")
+                .header("X-User-Id", "reactiveEtagUser")
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.post().uri("/api/tasks")
+                .header("X-User-Id", "reactiveEtagUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated();
+        webTestClient.get().uri("/api/tasks")
+                .header("X-User-Id", "reactiveEtagUser")
+                .header("If-None-Match", eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(2);
+
+        // Overdue listings depend on the clock, so they carry no validator
+        webTestClient.get().uri("/api/tasks?overdue=false")
+                .header("X-User-Id", "reactiveEtagUser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("ETag");
+    }
+
+    @Test
+    void testCreateTask_ValidationError() {
+        CreateTaskRequest request = new CreateTaskRequest("", 6, null, "WORK");
+
+        webTestClient.post().uri("/api/tasks")
+                .header("X-User-Id", "reactiveUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation failed");
+    }
+}
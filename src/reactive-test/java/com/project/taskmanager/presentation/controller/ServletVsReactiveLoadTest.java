@@ -0,0 +1,169 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.project.taskmanager.TaskManagerApplication;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the same listing request against the servlet and the reactive stack with a large number
+ * of concurrent connections and prints throughput and latency percentiles for each.
+ * <p>
+ * Client and server share one machine, so the numbers are only meaningful relative to each other.
+ * Opening 10,000 connections needs about twice as many file descriptors (see {@code ulimit -n}).
+ * <pre>
+ * mvn -Preactive test -Dtest=ServletVsReactiveLoadTest -Dload-test=true \
+ *     -Dload-test.connections=10000 -Dload-test.rounds=5 -Dload-test.tasks=200
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+class ServletVsReactiveLoadTest {
+
+    private static final String USER_ID = "load-user";
+
+    private final int connections = Integer.getInteger("load-test.connections", 10_000);
+    private final int rounds = Integer.getInteger("load-test.rounds", 5);
+    private final int tasksPerUser = Integer.getInteger("load-test.tasks", 200);
+
+    @Test
+    void compareServletAndReactiveStacks() {
+        LoadResult servlet = run(WebApplicationType.SERVLET);
+        LoadResult reactive = run(WebApplicationType.REACTIVE);
+
+        System.out.printf("%nGET /api/tasks (%d tasks), %d concurrent connections, %d requests per stack%n",
+                tasksPerUser, connections, connections * rounds);
+        System.out.println(LoadResult.HEADER);
+        System.out.println(servlet);
+        System.out.println(reactive);
+
+        assertTrue(servlet.completed() > 0, "servlet stack served no requests");
+        assertTrue(reactive.completed() > 0, "reactive stack served no requests");
+    }
+
+    private LoadResult run(WebApplicationType type) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(type)
+                .properties(
+                        "server.port=0",
+                        // Let Tomcat hold every connection, so only the threading model differs
+                        "server.tomcat.max-connections=" + (connections + 1000),
+                        "server.tomcat.accept-count=" + connections,
+                        "tasks.rate-limit.enabled=false",
+                        "reminder.check-interval-seconds=3600",
+                        "logging.level.com.project.taskmanager=WARN")
+                .run()) {
+
+            seed(context.getBean(TaskRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            // Warm up with a single round, then measure
+            drive(type, port, connections);
+            return drive(type, port, connections * rounds);
+        }
+    }
+
+    private void seed(TaskRepository taskRepository) {
+        Priority[] priorities = Priority.values();
+        Category[] categories = Category.values();
+        Instant now = Instant.now();
+        for (int i = 0; i < tasksPerUser; i++) {
+            taskRepository.save(new Task("load-task-" + i, "Load task " + i, priorities[i % priorities.length],
+                    now.plus(i, ChronoUnit.HOURS), categories[i % categories.length], USER_ID, null, now));
+        }
+    }
+
+    private LoadResult drive(WebApplicationType type, int port, int requests) {
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(2))
+                .build();
+        // Separate event loops, so the client does not compete with the reactive server's own
+        LoopResources loops = LoopResources.create("load-client", Runtime.getRuntime().availableProcessors(), true);
+        try {
+            HttpClient client = HttpClient.create(provider)
+                    .runOn(loops)
+                    .baseUrl("http://localhost:" + port)
+                    .headers(headers -> headers.add("X-User-Id", USER_ID))
+                    .responseTimeout(Duration.ofSeconds(60));
+
+            long[] latencies = new long[requests];
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+
+            long start = System.nanoTime();
+            Flux.range(0, requests)
+                    .flatMap(i -> Mono.defer(() -> {
+                        long sent = System.nanoTime();
+                        return client.get().uri("/api/tasks")
+                                .responseSingle((response, body) -> body.asByteArray()
+                                        .thenReturn(response.status().code()))
+                                .doOnNext(status -> {
+                                    if (status == 200) {
+                                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                                    } else {
+                                        failed.incrementAndGet();
+                                    }
+                                });
+                    }).onErrorResume(e -> {
+                        failed.incrementAndGet();
+                        return Mono.empty();
+                    }), connections)
+                    .blockLast();
+            long elapsed = System.nanoTime() - start;
+
+            return LoadResult.of(type, Arrays.copyOf(latencies, completed.get()), failed.get(), elapsed);
+        } finally {
+            provider.disposeLater().block();
+            loops.disposeLater().block();
+        }
+    }
+
+    private record LoadResult(WebApplicationType type, int completed, int failed, double requestsPerSecond,
+                              double p50Millis, double p99Millis, double maxMillis) {
+
+        static final String HEADER = String.format("%-10s %10s %8s %10s %9s %9s %9s",
+                "stack", "completed", "failed", "req/s", "p50 ms", "p99 ms", "max ms");
+
+        static LoadResult of(WebApplicationType type, long[] latencies, int failed, long elapsedNanos) {
+            Arrays.sort(latencies);
+            return new LoadResult(type, latencies.length, failed,
+                    latencies.length / (elapsedNanos / 1e9),
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %10d %8d %10.0f %9.1f %9.1f %9.1f",
+                    type, completed, failed, requestsPerSecond, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
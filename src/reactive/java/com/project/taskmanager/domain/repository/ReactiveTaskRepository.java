@@ -0,0 +1,39 @@
+package com.project.taskmanager.domain.repository;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Reactive counterpart of {@link TaskRepository}. Nothing runs until the returned publisher is
+ * subscribed.
+ */
+public interface ReactiveTaskRepository {
+    Mono<Task> save(Task task);
+
+    /**
+     * See {@link TaskRepository#saveWithinQuota}; fails with
+     * {@link com.project.taskmanager.domain.exceptions.TenantQuotaExceededException} if the
+     * task does not fit.
+     */
+    Mono<Task> saveWithinQuota(Task task, TenantQuota quota);
+    Mono<Task> findById(String id);
+    Flux<Task> findByUserId(String userId);
+    Flux<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate);
+    Flux<Task> findByUserIdAndFilter(String userId, TaskFilter filter);
+    Mono<Long> countByUserIdAndFilter(String userId, TaskFilter filter);
+    Mono<TaskStatistics> getStatistics(String userId, ZoneId zone);
+    Flux<Task> searchByTitle(String userId, String query, int limit);
+    Mono<Boolean> compareAndUpdate(Task task, long expectedVersion);
+    Mono<Void> delete(String id);
+    Mono<Boolean> compareAndDelete(String id, long expectedVersion);
+    Mono<Long> getModificationStamp(String userId);
+    Mono<TenantUsage> getUsage(String userId);
+}
@@ -0,0 +1,15 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class CountTasksReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+
+    public Mono<Long> execute(String userId, TaskFilter filter) {
+        return taskRepository.countByUserIdAndFilter(userId, filter != null ? filter : TaskFilter.builder().build());
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+
+@RequiredArgsConstructor
+public class CreateTaskReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+    private final TenantQuota tenantQuota;
+    private final TaskIdGenerator idGenerator;
+    private final Clock clock;
+
+    public CreateTaskReactiveUseCase(ReactiveTaskRepository taskRepository) {
+        this(taskRepository, TenantQuota.UNLIMITED);
+    }
+
+    public CreateTaskReactiveUseCase(ReactiveTaskRepository taskRepository, TenantQuota tenantQuota) {
+        this(taskRepository, tenantQuota, TaskIdGenerator.RANDOM_UUID);
+    }
+
+    public CreateTaskReactiveUseCase(ReactiveTaskRepository taskRepository, TenantQuota tenantQuota, TaskIdGenerator idGenerator) {
+        this(taskRepository, tenantQuota, idGenerator, Clock.systemDefaultZone());
+    }
+
+    public Mono<Task> execute(String title, Priority priority, Instant dueDate,
+                              Category category, String userId) {
+        return execute(title, priority, dueDate, category, userId, null);
+    }
+
+    public Mono<Task> execute(String title, Priority priority, Instant dueDate,
+                              Category category, String userId, RecurrenceRule recurrence) {
+        return Mono.defer(() -> {
+            Task task = new Task(idGenerator.nextId(), title, priority, dueDate, category, userId, recurrence,
+                    clock.instant());
+            return taskRepository.saveWithinQuota(task, tenantQuota);
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
+import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class DeleteTaskReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+
+    public Mono<Void> execute(String taskId, String userId, Long expectedVersion) {
+        return taskRepository.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with id: " + taskId)))
+                .flatMap(task -> {
+                    if (!task.getUserId().equals(userId)) {
+                        return Mono.error(new UnauthorizedAccessException("User not authorized to delete this task"));
+                    }
+
+                    if (expectedVersion == null) {
+                        return taskRepository.delete(taskId);
+                    }
+                    return taskRepository.compareAndDelete(taskId, expectedVersion)
+                            .flatMap(removed -> removed
+                                    ? Mono.<Void>empty()
+                                    : Mono.error(new TaskVersionConflictException("Task " + taskId
+                                            + " does not match expected version " + expectedVersion)));
+                });
+    }
+}
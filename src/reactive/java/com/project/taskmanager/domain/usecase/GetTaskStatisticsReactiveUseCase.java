@@ -0,0 +1,22 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+@RequiredArgsConstructor
+public class GetTaskStatisticsReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+
+    public Mono<TaskStatistics> execute(String userId) {
+        return execute(userId, ZoneOffset.UTC);
+    }
+
+    public Mono<TaskStatistics> execute(String userId, ZoneId zone) {
+        return taskRepository.getStatistics(userId, zone);
+    }
+}
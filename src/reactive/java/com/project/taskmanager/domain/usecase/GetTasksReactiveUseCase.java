@@ -0,0 +1,47 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+@RequiredArgsConstructor
+public class GetTasksReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+
+    public Flux<Task> execute(String userId, Instant startDate, Instant endDate,
+                              TaskFilter filter, Comparator<Task> comparator) {
+        Flux<Task> tasks;
+
+        if (filter != null && !filter.isEmpty()) {
+            tasks = taskRepository.findByUserIdAndFilter(userId, filter);
+            if (startDate != null && endDate != null) {
+                tasks = tasks.flatMapIterable(task -> task.occurrencesBetween(startDate, endDate));
+            }
+        } else if (startDate != null && endDate != null) {
+            tasks = taskRepository.findByUserIdAndDateRange(userId, startDate, endDate);
+        } else {
+            tasks = taskRepository.findByUserId(userId);
+        }
+
+        if (comparator != null) {
+            // Sorting needs every task before the first one can be emitted
+            return tasks.sort(comparator);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Returns a stamp that changes whenever any of the user's tasks changes, so a listing can
+     * be validated without being rebuilt.
+     */
+    public Mono<Long> currentVersion(String userId) {
+        return taskRepository.getModificationStamp(userId);
+    }
+}
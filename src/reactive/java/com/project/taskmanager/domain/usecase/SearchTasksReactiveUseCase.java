@@ -0,0 +1,22 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class SearchTasksReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+
+    public Flux<Task> execute(String userId, String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return Flux.error(new IllegalArgumentException("Search query cannot be empty"));
+        }
+        if (limit < 1 || limit > SearchTasksUseCase.MAX_LIMIT) {
+            return Flux.error(new IllegalArgumentException("Limit must be between 1 and "
+                    + SearchTasksUseCase.MAX_LIMIT));
+        }
+        return taskRepository.searchByTitle(userId, query.trim(), limit);
+    }
+}
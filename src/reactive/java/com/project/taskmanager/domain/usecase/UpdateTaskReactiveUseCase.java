@@ -0,0 +1,49 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
+import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Reactive variant of {@link UpdateTaskUseCase} with the same copy-on-write and retry semantics.
+ */
+@RequiredArgsConstructor
+public class UpdateTaskReactiveUseCase {
+    private final ReactiveTaskRepository taskRepository;
+    private final Clock clock;
+
+    public UpdateTaskReactiveUseCase(ReactiveTaskRepository taskRepository) {
+        this(taskRepository, Clock.systemDefaultZone());
+    }
+
+    public Mono<Task> execute(String taskId, String userId, String title, Priority priority,
+                              Instant dueDate, Category category, Long expectedVersion) {
+        return taskRepository.findById(taskId)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with id: " + taskId)))
+                .flatMap(task -> {
+                    if (!task.getUserId().equals(userId)) {
+                        return Mono.error(new UnauthorizedAccessException("User not authorized to update this task"));
+                    }
+
+                    if (expectedVersion != null && task.getVersion() != expectedVersion) {
+                        return Mono.error(new TaskVersionConflictException("Task " + taskId
+                                + " has been modified (current version: " + task.getVersion() + ")"));
+                    }
+
+                    Task updated = task.withUpdate(title, priority, dueDate, category, clock.instant());
+                    return taskRepository.compareAndUpdate(updated, task.getVersion())
+                            .flatMap(swapped -> swapped
+                                    ? Mono.just(updated)
+                                    : execute(taskId, userId, title, priority, dueDate, category, expectedVersion));
+                });
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.taskmanager.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.usecase.CountTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.CreateTaskReactiveUseCase;
+import com.project.taskmanager.domain.usecase.DeleteTaskReactiveUseCase;
+import com.project.taskmanager.domain.usecase.GetTaskStatisticsReactiveUseCase;
+import com.project.taskmanager.domain.usecase.GetTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.SearchTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.UpdateTaskReactiveUseCase;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.infrastructure.persistence.SchedulerReactiveTaskRepository;
+import com.project.taskmanager.infrastructure.ratelimit.InFlightLimiter;
+import com.project.taskmanager.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.project.taskmanager.presentation.filter.RateLimitWebFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class ReactiveConfig {
+
+    @Value("${tasks.reactive.scheduler-threads:8}")
+    private int schedulerThreads;
+
+    @Value("${tasks.reactive.queued-tasks-per-thread:1000}")
+    private int queuedTasksPerThread;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler taskRepositoryScheduler() {
+        log.info("Initializing reactive repository scheduler with {} threads and {} queued tasks per thread",
+                schedulerThreads, queuedTasksPerThread);
+        return Schedulers.newBoundedElastic(schedulerThreads, queuedTasksPerThread, "task-repository");
+    }
+
+    @Bean
+    public ReactiveTaskRepository reactiveTaskRepository(TaskRepository taskRepository,
+                                                         Scheduler taskRepositoryScheduler) {
+        return new SchedulerReactiveTaskRepository(taskRepository, taskRepositoryScheduler);
+    }
+
+    @Bean
+    public CreateTaskReactiveUseCase createTaskReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository,
+                                                               TenantQuota tenantQuota,
+                                                               TaskIdGenerator taskIdGenerator,
+                                                               Clock clock) {
+        return new CreateTaskReactiveUseCase(reactiveTaskRepository, tenantQuota, taskIdGenerator, clock);
+    }
+
+    @Bean
+    public GetTasksReactiveUseCase getTasksReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository) {
+        return new GetTasksReactiveUseCase(reactiveTaskRepository);
+    }
+
+    @Bean
+    public UpdateTaskReactiveUseCase updateTaskReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository,
+                                                               Clock clock) {
+        return new UpdateTaskReactiveUseCase(reactiveTaskRepository, clock);
+    }
+
+    @Bean
+    public DeleteTaskReactiveUseCase deleteTaskReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository) {
+        return new DeleteTaskReactiveUseCase(reactiveTaskRepository);
+    }
+
+    @Bean
+    public SearchTasksReactiveUseCase searchTasksReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository) {
+        return new SearchTasksReactiveUseCase(reactiveTaskRepository);
+    }
+
+    @Bean
+    public CountTasksReactiveUseCase countTasksReactiveUseCase(ReactiveTaskRepository reactiveTaskRepository) {
+        return new CountTasksReactiveUseCase(reactiveTaskRepository);
+    }
+
+    @Bean
+    public GetTaskStatisticsReactiveUseCase getTaskStatisticsReactiveUseCase(
+            ReactiveTaskRepository reactiveTaskRepository) {
+        return new GetTaskStatisticsReactiveUseCase(reactiveTaskRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "tasks.rate-limit", name = "enabled", matchIfMissing = true)
+    public RateLimitWebFilter rateLimitWebFilter(
+            RateLimitProperties rateLimitProperties,
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+            ObjectMapper objectMapper) {
+        return new RateLimitWebFilter(
+                rateLimitProperties,
+                new TokenBucketRateLimiter(rateLimitProperties.getMaxTrackedKeys(),
+                        rateLimitProperties.getSweepIntervalMillis()),
+                new InFlightLimiter(rateLimitProperties.getMaxInFlight()),
+                handlerMapping,
+                objectMapper);
+    }
+
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", CorsConfig.apiCorsConfiguration());
+        return new CorsWebFilter(source);
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.ReactiveTaskRepository;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Adapts a blocking {@link TaskRepository} to {@link ReactiveTaskRepository}.
+ * <p>
+ * Every call is moved onto the given scheduler so event-loop threads never run storage code.
+ * <p>
+ * A user's full listing is streamed: tasks are emitted while {@link TaskRepository#forEachByUserId}
+ * walks them, so the repository never builds a list of them, and the walk stops as soon as the
+ * subscriber cancels. The walk does not wait for demand, though; tasks the subscriber has not
+ * requested yet are buffered, since pausing it would hold storage locks for as long as a slow
+ * client takes. Filtered, date-range and search results come from the indexes as a list and are
+ * emitted from it.
+ */
+public class SchedulerReactiveTaskRepository implements ReactiveTaskRepository {
+
+    private final TaskRepository delegate;
+    private final Scheduler scheduler;
+
+    public SchedulerReactiveTaskRepository(TaskRepository delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        return one(() -> delegate.save(task));
+    }
+
+    @Override
+    public Mono<Task> saveWithinQuota(Task task, TenantQuota quota) {
+        return one(() -> delegate.saveWithinQuota(task, quota));
+    }
+
+    @Override
+    public Mono<Task> findById(String id) {
+        return one(() -> delegate.findById(id).orElse(null));
+    }
+
+    @Override
+    public Flux<Task> findByUserId(String userId) {
+        return Flux.<Task>create(sink -> {
+            try {
+                delegate.forEachByUserId(userId, task -> {
+                    if (sink.isCancelled()) {
+                        throw WalkCancelled.INSTANCE;
+                    }
+                    sink.next(task);
+                });
+                sink.complete();
+            } catch (WalkCancelled e) {
+                // Nobody is listening any more
+            }
+        }).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<Task> findByUserIdAndDateRange(String userId, Instant startDate, Instant endDate) {
+        return many(() -> delegate.findByUserIdAndDateRange(userId, startDate, endDate));
+    }
+
+    @Override
+    public Flux<Task> findByUserIdAndFilter(String userId, TaskFilter filter) {
+        return many(() -> delegate.findByUserIdAndFilter(userId, filter));
+    }
+
+    @Override
+    public Mono<Long> countByUserIdAndFilter(String userId, TaskFilter filter) {
+        return one(() -> delegate.countByUserIdAndFilter(userId, filter));
+    }
+
+    @Override
+    public Mono<TaskStatistics> getStatistics(String userId, ZoneId zone) {
+        return one(() -> delegate.getStatistics(userId, zone));
+    }
+
+    @Override
+    public Flux<Task> searchByTitle(String userId, String query, int limit) {
+        return many(() -> delegate.searchByTitle(userId, query, limit));
+    }
+
+    @Override
+    public Mono<Boolean> compareAndUpdate(Task task, long expectedVersion) {
+        return one(() -> delegate.compareAndUpdate(task, expectedVersion));
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        return Mono.<Void>fromRunnable(() -> delegate.delete(id)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Boolean> compareAndDelete(String id, long expectedVersion) {
+        return one(() -> delegate.compareAndDelete(id, expectedVersion));
+    }
+
+    @Override
+    public Mono<Long> getModificationStamp(String userId) {
+        return one(() -> delegate.getModificationStamp(userId));
+    }
+
+    @Override
+    public Mono<TenantUsage> getUsage(String userId) {
+        return one(() -> delegate.getUsage(userId));
+    }
+
+    // A null result completes empty
+    private <T> Mono<T> one(Callable<T> operation) {
+        return Mono.fromCallable(operation).subscribeOn(scheduler);
+    }
+
+    private <T> Flux<T> many(Callable<List<T>> query) {
+        return one(query).flatMapIterable(tasks -> tasks);
+    }
+
+    // Unwinds forEachByUserId once the subscriber has cancelled
+    private static final class WalkCancelled extends RuntimeException {
+        static final WalkCancelled INSTANCE = new WalkCancelled();
+
+        private WalkCancelled() {
+            super(null, null, false, false);
+        }
+    }
+}
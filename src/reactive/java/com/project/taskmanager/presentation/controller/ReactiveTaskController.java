@@ -0,0 +1,240 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.TaskCountResponse;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import com.project.taskmanager.application.dto.TaskStatisticsResponse;
+import com.project.taskmanager.application.dto.UpdateTaskRequest;
+import com.project.taskmanager.application.mapper.TaskMapper;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.usecase.CountTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.CreateTaskReactiveUseCase;
+import com.project.taskmanager.domain.usecase.DeleteTaskReactiveUseCase;
+import com.project.taskmanager.domain.usecase.GetTaskStatisticsReactiveUseCase;
+import com.project.taskmanager.domain.usecase.GetTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.SearchTasksReactiveUseCase;
+import com.project.taskmanager.domain.usecase.UpdateTaskReactiveUseCase;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.infrastructure.service.TaskSortingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * The endpoints of {@link TaskController} on Spring WebFlux, with the same per-user rate limits
+ * (applied by {@code RateLimitWebFilter}) and the same weak listing {@code ETag}s. The access log,
+ * protobuf listings and the async and bulk import/export endpoints exist only on the servlet
+ * stack.
+ * <p>
+ * Listings are also available as newline-delimited JSON: with
+ * {@code Accept: application/x-ndjson} tasks are mapped and written one by one instead of being
+ * collected into a single {@link TaskListResponse}. Every listing is sorted, and sorting needs
+ * all of the matching tasks before the first one is written, so they are still held in memory
+ * once; what streaming saves is the response document. NDJSON streams carry no {@code ETag}.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+
+    private final CreateTaskReactiveUseCase createTaskUseCase;
+    private final GetTasksReactiveUseCase getTasksUseCase;
+    private final UpdateTaskReactiveUseCase updateTaskUseCase;
+    private final DeleteTaskReactiveUseCase deleteTaskUseCase;
+    private final SearchTasksReactiveUseCase searchTasksUseCase;
+    private final CountTasksReactiveUseCase countTasksUseCase;
+    private final GetTaskStatisticsReactiveUseCase getTaskStatisticsUseCase;
+    private final TaskSortingService taskSortingService;
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(
+            @Valid @RequestBody CreateTaskRequest request,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        Priority priority = Priority.fromValue(request.getPriority());
+        Category category = Category.fromString(request.getCategory());
+
+        return createTaskUseCase.execute(request.getTitle(), priority,
+                        TaskRequestParams.toInstant(request.getDueDate(), zone), category, userId,
+                        TaskRequestParams.toRecurrence(request.getRecurrence(), zone))
+                .map(task -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<TaskListResponse>> getTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDate,
+            @RequestParam(required = false, defaultValue = "CREATED_AT") String sortBy,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            ServerWebExchange exchange) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        if (overdue != null) {
+            // Which tasks are overdue changes with the clock, not only with writes
+            return listTasks(userId, startDate, endDate, sortBy, priority, category, overdue, zone)
+                    .collectList()
+                    .map(tasks -> listing(new TaskListResponse(tasks, zone), null));
+        }
+        return listingETag(userId, zone).flatMap(eTag -> exchange.checkNotModified(eTag)
+                ? Mono.empty()
+                : listTasks(userId, startDate, endDate, sortBy, priority, category, null, zone)
+                        .collectList()
+                        .map(tasks -> listing(new TaskListResponse(tasks, zone), eTag)));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDate,
+            @RequestParam(required = false, defaultValue = "CREATED_AT") String sortBy,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        return listTasks(userId, startDate, endDate, sortBy, priority, category, overdue,
+                TaskRequestParams.parseZone(userZone));
+    }
+
+    @GetMapping("/count")
+    public Mono<ResponseEntity<TaskCountResponse>> countTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) Boolean overdue) {
+
+        return Mono.defer(() -> countTasksUseCase.execute(userId,
+                        TaskRequestParams.toFilter(priority, category, overdue)))
+                .map(count -> ResponseEntity.ok(new TaskCountResponse(count)));
+    }
+
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<TaskStatisticsResponse>> getStatistics(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        return getTaskStatisticsUseCase.execute(userId, TaskRequestParams.parseZone(userZone))
+                .map(statistics -> ResponseEntity.ok(TaskMapper.toStatisticsResponse(statistics)));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<TaskListResponse>> searchTasks(
+            @RequestHeader("X-User-Id") String userId,
+            @RequestParam("q") String query,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            ServerWebExchange exchange) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        return listingETag(userId, zone).flatMap(eTag -> exchange.checkNotModified(eTag)
+                ? Mono.empty()
+                : searchTasksUseCase.execute(userId, query, limit)
+                        .map(task -> TaskMapper.toResponse(task, zone))
+                        .collectList()
+                        .map(tasks -> listing(new TaskListResponse(tasks, zone), eTag)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        return getTasksUseCase.execute(userId, null, null, null, null)
+                .filter(task -> task.getId().equals(id))
+                .next()
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with id: " + id)))
+                .map(task -> ResponseEntity.ok()
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> updateTask(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = TaskRequestParams.USER_ZONE_HEADER, required = false) String userZone,
+            @Valid @RequestBody UpdateTaskRequest request) {
+
+        ZoneId zone = TaskRequestParams.parseZone(userZone);
+        Priority priority = request.getPriority() != null ?
+                Priority.fromValue(request.getPriority()) : null;
+        Category category = request.getCategory() != null ?
+                Category.fromString(request.getCategory()) : null;
+
+        return updateTaskUseCase.execute(id, userId, request.getTitle(), priority,
+                        TaskRequestParams.toInstant(request.getDueDate(), zone),
+                        category, TaskRequestParams.parseIfMatch(ifMatch))
+                .map(task -> ResponseEntity.ok()
+                        .eTag(String.valueOf(task.getVersion()))
+                        .body(TaskMapper.toResponse(task, zone)));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(
+            @PathVariable String id,
+            @RequestHeader("X-User-Id") String userId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+        return deleteTaskUseCase.execute(id, userId, TaskRequestParams.parseIfMatch(ifMatch))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    // Weak, as on the servlet stack. Read before the listing, so a write racing with it can only
+    // make the tag stale, never too new.
+    private Mono<String> listingETag(String userId, ZoneId zone) {
+        return getTasksUseCase.currentVersion(userId)
+                .map(version -> TaskRequestParams.listingETag(version, zone));
+    }
+
+    private ResponseEntity<TaskListResponse> listing(TaskListResponse response, String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT, TaskRequestParams.USER_ZONE_HEADER);
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(response);
+    }
+
+    private Flux<TaskResponse> listTasks(String userId, LocalDateTime startDate, LocalDateTime endDate,
+                                         String sortBy, List<Integer> priority, List<String> category,
+                                         Boolean overdue, ZoneId zone) {
+        return Flux.defer(() -> getTasksUseCase.execute(userId, TaskRequestParams.toInstant(startDate, zone),
+                        TaskRequestParams.toInstant(endDate, zone),
+                        TaskRequestParams.toFilter(priority, category, overdue),
+                        taskSortingService.getComparator(sortBy)))
+                .map(task -> TaskMapper.toResponse(task, zone));
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.taskmanager.presentation.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.infrastructure.config.RateLimitProperties;
+import com.project.taskmanager.infrastructure.ratelimit.InFlightLimiter;
+import com.project.taskmanager.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.project.taskmanager.presentation.exception.ErrorResponse;
+import com.project.taskmanager.presentation.exception.RateLimitExceededException;
+import com.project.taskmanager.presentation.interceptor.RateLimitInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The WebFlux counterpart of {@link RateLimitInterceptor}: applies the per-user limit of the
+ * target endpoint, then global admission control, with the same limits and bucket keys.
+ * <p>
+ * Filters run before the dispatcher picks a handler, so the target controller method is looked
+ * up here through the dispatcher's own {@link RequestMappingHandlerMapping}; requests that map to
+ * no controller method are only subject to admission control. Exception handlers never see
+ * errors raised by filters, so rejections are written here as the same 429
+ * {@link ErrorResponse} the servlet stack returns. An admitted request holds its slot until its
+ * response completes or is cancelled, which for a streamed listing is after its last task.
+ */
+@Slf4j
+public class RateLimitWebFilter implements WebFilter {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final InFlightLimiter inFlightLimiter;
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitWebFilter(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter,
+                              InFlightLimiter inFlightLimiter, RequestMappingHandlerMapping handlerMapping,
+                              ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.inFlightLimiter = inFlightLimiter;
+        this.handlerMapping = handlerMapping;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
+        if (userId == null) {
+            return admit(exchange, chain);
+        }
+
+        return handlerMapping.getHandler(exchange)
+                // Unmapped requests are answered by the dispatcher, with its own error status
+                .onErrorResume(ex -> Mono.empty())
+                .ofType(HandlerMethod.class)
+                .mapNotNull(method -> throttle(userId, method))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(rejection -> rejection.isPresent()
+                        ? reject(exchange, rejection.get())
+                        : admit(exchange, chain));
+    }
+
+    // Returns the rejection, or null when the user still has a token for the endpoint
+    private RateLimitExceededException throttle(String userId, HandlerMethod method) {
+        String endpoint = method.getMethod().getName();
+        RateLimitProperties.Limit limit = properties.limitFor(endpoint);
+        String bucket = userId + ':' + method.getBeanType().getName() + '#' + endpoint;
+        long waitNanos = rateLimiter.tryAcquire(bucket, limit.getRequestsPerSecond(), limit.getBurst());
+        if (waitNanos <= 0) {
+            return null;
+        }
+        return new RateLimitExceededException("Rate limit exceeded for " + endpoint,
+                Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!inFlightLimiter.tryAcquire()) {
+            return reject(exchange, new RateLimitExceededException("Server is at capacity, please retry later",
+                    properties.getAdmissionRetryAfterSeconds()));
+        }
+        return Mono.defer(() -> chain.filter(exchange))
+                .doFinally(signal -> inFlightLimiter.release());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, RateLimitExceededException rejection) {
+        // Debug only: a client being throttled would otherwise flood the log
+        log.debug("Request throttled: {}", rejection.getMessage());
+
+        ErrorResponse body = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                rejection.getMessage(),
+                null,
+                LocalDateTime.now()
+        );
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(rejection.getRetryAfterSeconds()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(body))
+                .flatMap(bytes -> response.writeWith(Mono.just(response.bufferFactory().wrap(bytes))));
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.taskmanager.application.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedCacheTest {
+
+    @Test
+    void testGet_ReturnsValueForMatchingVersion() {
+        // Arrange
+        VersionedCache<String> cache = new VersionedCache<>(16);
+        cache.put("task1", 1, "v1");
+
+        // Act & Assert
+        assertEquals("v1", cache.get("task1", 1));
+        assertNull(cache.get("task1", 2));
+        assertNull(cache.get("task2", 1));
+    }
+
+    @Test
+    void testComputeIfAbsent_ReloadsAfterVersionChange() {
+        // Arrange
+        VersionedCache<String> cache = new VersionedCache<>(16);
+
+        // Act
+        String first = cache.computeIfAbsent("task1", 1, () -> "v1");
+        String cached = cache.computeIfAbsent("task1", 1, () -> "unexpected");
+        String second = cache.computeIfAbsent("task1", 2, () -> "v2");
+
+        // Assert
+        assertEquals("v1", first);
+        assertEquals("v1", cached);
+        assertEquals("v2", second);
+        assertNull(cache.get("task1", 1));
+    }
+
+    @Test
+    void testCapacity_RoundsUpToPowerOfTwo() {
+        assertEquals(8, new VersionedCache<String>(5).capacity());
+        assertEquals(16, new VersionedCache<String>(16).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new VersionedCache<String>(0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.taskmanager.domain.entity;
+
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskTest {
+
+    private static final Instant FIRST = Instant.parse("2025-01-31T09:00:00Z");
+    private static final RecurrenceRule MONTHLY = new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, 1, null);
+
+    @Test
+    void testWithReminderSent_MonthlySeriesDoesNotDriftAfterShortMonth() {
+        // Arrange
+        Task task = new Task("task-1", "Pay rent", Priority.HIGH, FIRST, Category.PERSONAL, "user1", MONTHLY,
+                FIRST.minus(Duration.ofDays(1)));
+
+        // Act
+        Task february = task.withReminderSent(FIRST.plusSeconds(60));
+        Task march = february.withReminderSent(february.getDueDate().plusSeconds(60));
+        Task april = march.withReminderSent(march.getDueDate().plusSeconds(60));
+        Task may = april.withReminderSent(april.getDueDate().plusSeconds(60));
+
+        // Assert
+        assertEquals(Instant.parse("2025-02-28T09:00:00Z"), february.getDueDate());
+        assertEquals(Instant.parse("2025-03-31T09:00:00Z"), march.getDueDate());
+        assertEquals(Instant.parse("2025-04-30T09:00:00Z"), april.getDueDate());
+        assertEquals(Instant.parse("2025-05-31T09:00:00Z"), may.getDueDate());
+        assertEquals(FIRST, may.getSeriesStart());
+        assertFalse(may.isReminderSent());
+    }
+
+    @Test
+    void testOccurrencesBetween_ProjectionUnchangedByReminder() {
+        // Arrange
+        Task task = new Task("task-1", "Pay rent", Priority.HIGH, FIRST, Category.PERSONAL, "user1", MONTHLY,
+                FIRST.minus(Duration.ofDays(1)));
+        Instant start = Instant.parse("2025-03-01T00:00:00Z");
+        Instant end = Instant.parse("2025-06-30T23:59:00Z");
+
+        // Act
+        List<Instant> before = dueDates(task.occurrencesBetween(start, end));
+        Task reminded = task.withReminderSent(FIRST.plusSeconds(60));
+        List<Instant> after = dueDates(reminded.occurrencesBetween(start, end));
+        List<Instant> fromFebruary = dueDates(reminded.occurrencesBetween(FIRST, end));
+
+        // Assert
+        assertEquals(before, after);
+        assertEquals(Instant.parse("2025-03-31T09:00:00Z"), after.get(0));
+        assertEquals(Instant.parse("2025-02-28T09:00:00Z"), fromFebruary.get(0));
+        assertEquals(5, fromFebruary.size());
+    }
+
+    @Test
+    void testWithUpdate_NewDueDateRestartsSeries() {
+        // Arrange
+        Task task = new Task("task-1", "Pay rent", Priority.HIGH, FIRST, Category.PERSONAL, "user1", MONTHLY,
+                FIRST.minus(Duration.ofDays(1)));
+        Instant moved = Instant.parse("2025-02-15T09:00:00Z");
+
+        // Act
+        Task updated = task.withUpdate(null, null, moved, null, FIRST);
+        Task reminded = updated.withReminderSent(moved.plusSeconds(60));
+
+        // Assert
+        assertEquals(moved, updated.getSeriesStart());
+        assertEquals(Instant.parse("2025-03-15T09:00:00Z"), reminded.getDueDate());
+    }
+
+    private static List<Instant> dueDates(List<Task> occurrences) {
+        return occurrences.stream().map(Task::getDueDate).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CountTasksUseCaseTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private CountTasksUseCase countTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        countTasksUseCase = new CountTasksUseCase(taskRepository);
+    }
+
+    @Test
+    void testExecute_WithFilter() {
+        // Arrange
+        TaskFilter filter = TaskFilter.builder().category(Category.WORK).overdue(true).build();
+        when(taskRepository.countByUserIdAndFilter("user123", filter)).thenReturn(3L);
+
+        // Act
+        long result = countTasksUseCase.execute("user123", filter);
+
+        // Assert
+        assertEquals(3L, result);
+    }
+
+    @Test
+    void testExecute_NullFilterCountsEverything() {
+        // Act
+        countTasksUseCase.execute("user123", null);
+
+        // Assert
+        verify(taskRepository, times(1)).countByUserIdAndFilter(eq("user123"), argThat(TaskFilter::isEmpty));
+    }
+}
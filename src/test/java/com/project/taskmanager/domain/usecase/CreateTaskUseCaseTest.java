@@ -1,9 +1,11 @@
 package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -11,7 +13,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -34,11 +37,11 @@ class CreateTaskUseCaseTest {
         // Arrange
         String title = "Test Task";
         Priority priority = Priority.HIGH;
-        LocalDateTime dueDate = LocalDateTime.now().plusDays(1);
+        Instant dueDate = Instant.now().plus(1, ChronoUnit.DAYS);
         Category category = Category.WORK;
         String userId = "user123";
 
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.saveWithinQuota(any(Task.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
         Task result = createTaskUseCase.execute(title, priority, dueDate, category, userId);
@@ -50,6 +53,53 @@ class CreateTaskUseCaseTest {
         assertEquals(dueDate, result.getDueDate());
         assertEquals(category, result.getCategory());
         assertEquals(userId, result.getUserId());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).saveWithinQuota(any(Task.class), eq(TenantQuota.UNLIMITED));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExecute_UsesIdFromGenerator() {
+        // Arrange
+        CreateTaskUseCase withIds = new CreateTaskUseCase(taskRepository, TenantQuota.UNLIMITED, () -> "task-1");
+        when(taskRepository.saveWithinQuota(any(Task.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Task result = withIds.execute("Test Task", Priority.HIGH, Instant.now().plus(1, ChronoUnit.DAYS),
+                Category.WORK, "user123");
+
+        // Assert
+        assertEquals("task-1", result.getId());
+    }
+
+    @Test
+    void testExecute_QuotaExceeded_Propagates() {
+        // Arrange
+        TenantQuota quota = new TenantQuota(2, 0);
+        CreateTaskUseCase limited = new CreateTaskUseCase(taskRepository, quota);
+        when(taskRepository.saveWithinQuota(any(Task.class), eq(quota)))
+                .thenThrow(new TenantQuotaExceededException("Task quota exceeded for user user123"));
+
+        // Act & Assert
+        assertThrows(TenantQuotaExceededException.class, () -> limited.execute("Test Task", Priority.HIGH,
+                Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, "user123"));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void testExecute_ChecksQuotaInTheRepositoryWrite() {
+        // Arrange
+        TenantQuota quota = new TenantQuota(2, 4096);
+        CreateTaskUseCase limited = new CreateTaskUseCase(taskRepository, quota);
+        when(taskRepository.saveWithinQuota(any(Task.class), eq(quota)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Task result = limited.execute("Test Task", Priority.HIGH, Instant.now().plus(1, ChronoUnit.DAYS),
+                Category.WORK, "user123");
+
+        // Assert
+        assertNotNull(result);
+        verify(taskRepository, times(1)).saveWithinQuota(result, quota);
+        verify(taskRepository, never()).getUsage(any());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+}
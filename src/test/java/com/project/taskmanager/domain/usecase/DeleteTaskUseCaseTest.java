@@ -2,6 +2,7 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
 import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,4 +91,27 @@ class DeleteTaskUseCaseTest {
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, never()).delete(anyString());
     }
+
+    @Test
+    void testExecute_VersionMismatch() {
+        // Arrange
+        String taskId = "task123";
+        String userId = "user123";
+        Task task = Task.builder()
+                .id(taskId)
+                .userId(userId)
+                .title("Test Task")
+                .version(2)
+                .build();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.compareAndDelete(taskId, 1L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> {
+            deleteTaskUseCase.execute(taskId, userId, 1L);
+        });
+
+        verify(taskRepository, never()).delete(anyString());
+    }
 }
\ No newline at end of file
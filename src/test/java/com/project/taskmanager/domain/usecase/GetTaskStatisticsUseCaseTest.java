@@ -0,0 +1,47 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GetTaskStatisticsUseCaseTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private GetTaskStatisticsUseCase getTaskStatisticsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        getTaskStatisticsUseCase = new GetTaskStatisticsUseCase(taskRepository);
+    }
+
+    @Test
+    void testExecute_Success() {
+        // Arrange
+        TaskStatistics statistics = TaskStatistics.builder()
+                .total(4)
+                .byPriority(Collections.emptyMap())
+                .byCategory(Collections.emptyMap())
+                .overdue(1)
+                .build();
+        when(taskRepository.getStatistics("user123", ZoneOffset.UTC)).thenReturn(statistics);
+
+        // Act
+        TaskStatistics result = getTaskStatisticsUseCase.execute("user123");
+
+        // Assert
+        assertSame(statistics, result);
+        verify(taskRepository, times(1)).getStatistics("user123", ZoneOffset.UTC);
+    }
+}
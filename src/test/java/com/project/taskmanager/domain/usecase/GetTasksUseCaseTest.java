@@ -3,12 +3,15 @@ package com.project.taskmanager.domain.usecase;
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -56,11 +59,11 @@ class GetTasksUseCaseTest {
     void testExecute_WithDateRange_Success() {
         // Arrange
         String userId = "user123";
-        LocalDateTime startDate = LocalDateTime.now();
-        LocalDateTime endDate = LocalDateTime.now().plusDays(7);
+        Instant startDate = Instant.now();
+        Instant endDate = Instant.now().plus(7, ChronoUnit.DAYS);
         List<Task> mockTasks = Arrays.asList(
-                Task.builder().id("1").userId(userId).title("Task 1").dueDate(startDate.plusDays(1)).build(),
-                Task.builder().id("2").userId(userId).title("Task 2").dueDate(startDate.plusDays(3)).build()
+                Task.builder().id("1").userId(userId).title("Task 1").dueDate(startDate.plus(1, ChronoUnit.DAYS)).build(),
+                Task.builder().id("2").userId(userId).title("Task 2").dueDate(startDate.plus(3, ChronoUnit.DAYS)).build()
         );
 
         when(taskRepository.findByUserIdAndDateRange(userId, startDate, endDate)).thenReturn(mockTasks);
@@ -130,12 +133,12 @@ class GetTasksUseCaseTest {
     void testExecute_WithDateRangeAndComparator_Success() {
         // Arrange
         String userId = "user123";
-        LocalDateTime startDate = LocalDateTime.now();
-        LocalDateTime endDate = LocalDateTime.now().plusDays(7);
+        Instant startDate = Instant.now();
+        Instant endDate = Instant.now().plus(7, ChronoUnit.DAYS);
         List<Task> mockTasks = Arrays.asList(
-                Task.builder().id("1").userId(userId).title("Task C").dueDate(startDate.plusDays(1)).build(),
-                Task.builder().id("2").userId(userId).title("Task A").dueDate(startDate.plusDays(3)).build(),
-                Task.builder().id("3").userId(userId).title("Task B").dueDate(startDate.plusDays(5)).build()
+                Task.builder().id("1").userId(userId).title("Task C").dueDate(startDate.plus(1, ChronoUnit.DAYS)).build(),
+                Task.builder().id("2").userId(userId).title("Task A").dueDate(startDate.plus(3, ChronoUnit.DAYS)).build(),
+                Task.builder().id("3").userId(userId).title("Task B").dueDate(startDate.plus(5, ChronoUnit.DAYS)).build()
         );
 
         when(taskRepository.findByUserIdAndDateRange(userId, startDate, endDate)).thenReturn(mockTasks);
@@ -174,8 +177,8 @@ class GetTasksUseCaseTest {
     void testExecute_WithOnlyStartDate_UsesDateRange() {
         // Arrange
         String userId = "user123";
-        LocalDateTime startDate = LocalDateTime.now();
-        LocalDateTime endDate = LocalDateTime.now().plusDays(7);
+        Instant startDate = Instant.now();
+        Instant endDate = Instant.now().plus(7, ChronoUnit.DAYS);
         List<Task> mockTasks = Arrays.asList(
                 Task.builder().id("1").userId(userId).title("Task 1").build()
         );
@@ -190,4 +193,49 @@ class GetTasksUseCaseTest {
         assertEquals(1, result.size());
         verify(taskRepository, times(1)).findByUserIdAndDateRange(userId, startDate, endDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExecute_WithFilter_UsesFilteredLookup() {
+        // Arrange
+        String userId = "user123";
+        Instant startDate = Instant.now();
+        Instant endDate = Instant.now().plus(7, ChronoUnit.DAYS);
+        TaskFilter filter = TaskFilter.builder().priority(Priority.HIGH).build();
+        List<Task> mockTasks = Arrays.asList(
+                Task.builder().id("1").userId(userId).title("In range").dueDate(startDate.plus(1, ChronoUnit.DAYS)).build(),
+                Task.builder().id("2").userId(userId).title("Out of range").dueDate(endDate.plus(1, ChronoUnit.DAYS)).build()
+        );
+
+        when(taskRepository.findByUserIdAndFilter(userId, filter)).thenReturn(mockTasks);
+
+        // Act
+        List<Task> result = getTasksUseCase.execute(userId, startDate, endDate, filter, null);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("In range", result.get(0).getTitle());
+        verify(taskRepository, never()).findByUserIdAndDateRange(anyString(), any(), any());
+        verify(taskRepository, never()).findByUserId(anyString());
+    }
+
+    @Test
+    void testExecute_WithFilterAndDateRange_ExpandsRecurringTasks() {
+        // Arrange
+        String userId = "user123";
+        Instant startDate = Instant.now();
+        Instant endDate = startDate.plus(7, ChronoUnit.DAYS);
+        TaskFilter filter = TaskFilter.builder().priority(Priority.HIGH).build();
+        Task daily = Task.builder().id("1").userId(userId).title("Daily").dueDate(startDate.plus(1, ChronoUnit.HOURS))
+                .recurrence(new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null)).build();
+
+        when(taskRepository.findByUserIdAndFilter(userId, filter)).thenReturn(List.of(daily));
+
+        // Act
+        List<Task> result = getTasksUseCase.execute(userId, startDate, endDate, filter, null);
+
+        // Assert
+        assertEquals(7, result.size());
+        assertEquals("1", result.get(0).getId());
+        assertTrue(result.stream().allMatch(task -> task.getSeriesId().equals("1")));
+    }
+}
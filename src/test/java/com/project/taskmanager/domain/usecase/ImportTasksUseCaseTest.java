@@ -0,0 +1,137 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.service.TaskIdGenerator;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ImportTasksUseCaseTest {
+
+    private static final Instant DUE = Instant.now().plus(1, ChronoUnit.DAYS);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(taskRepository.getUsage("user1")).thenReturn(TenantUsage.empty("user1"));
+        when(taskRepository.saveAllWithinQuota(anyList(), any()))
+                .thenAnswer(invocation -> invocation.<List<Task>>getArgument(0).size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAdd_WritesFullBatchesAndRemainderOnFinish() {
+        // Arrange
+        ImportTasksUseCase.Session session = new ImportTasksUseCase(taskRepository, 2).start("user1");
+        ArgumentCaptor<List<Task>> batches = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            session.add("Task " + i, Priority.MEDIUM, DUE, Category.WORK, null);
+        }
+        long importedBeforeFinish = session.getImported();
+        long imported = session.finish();
+
+        // Assert
+        assertEquals(4, importedBeforeFinish);
+        assertEquals(5, imported);
+        verify(taskRepository, times(3)).saveAllWithinQuota(batches.capture(), any());
+        assertEquals(List.of(2, 2, 1), batches.getAllValues().stream().map(List::size).toList());
+        assertEquals("user1", batches.getAllValues().get(2).get(0).getUserId());
+        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testAdd_InvalidTitleIsNotQueued() {
+        // Arrange
+        ImportTasksUseCase.Session session = new ImportTasksUseCase(taskRepository, 10).start("user1");
+        session.add("Valid", Priority.MEDIUM, DUE, Category.WORK, null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> session.add("   ", Priority.MEDIUM, DUE, Category.WORK, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> session.add("x".repeat(201), Priority.MEDIUM, DUE, Category.WORK, null));
+        assertEquals(1, session.finish());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAdd_AdmitsTasksUpToQuotaAndRejectsTheFirstThatDoesNotFit() {
+        // Arrange
+        when(taskRepository.getUsage("user1")).thenReturn(new TenantUsage("user1", 8, 0));
+        ImportTasksUseCase useCase = new ImportTasksUseCase(taskRepository, new TenantQuota(10, 0),
+                TaskIdGenerator.RANDOM_UUID, Clock.systemUTC(), 100);
+        ImportTasksUseCase.Session session = useCase.start("user1");
+        ArgumentCaptor<List<Task>> batches = ArgumentCaptor.forClass(List.class);
+        session.add("First", Priority.MEDIUM, DUE, Category.WORK, null);
+        session.add("Second", Priority.MEDIUM, DUE, Category.WORK, null);
+        when(taskRepository.getUsage("user1")).thenReturn(new TenantUsage("user1", 10, 0));
+
+        // Act & Assert
+        assertThrows(TenantQuotaExceededException.class,
+                () -> session.add("Third", Priority.MEDIUM, DUE, Category.WORK, null));
+        assertEquals(2, session.getImported());
+        assertEquals(2, session.finish());
+        verify(taskRepository).saveAllWithinQuota(batches.capture(), any());
+        assertEquals(List.of("First", "Second"), batches.getValue().stream().map(Task::getTitle).toList());
+    }
+
+    @Test
+    void testAdd_StorageQuotaReachedAdmitsNothing() {
+        // Arrange
+        when(taskRepository.getUsage("user1")).thenReturn(new TenantUsage("user1", 1, 1000));
+        ImportTasksUseCase useCase = new ImportTasksUseCase(taskRepository, new TenantQuota(0, 1000),
+                TaskIdGenerator.RANDOM_UUID, Clock.systemUTC(), 100);
+        ImportTasksUseCase.Session session = useCase.start("user1");
+
+        // Act & Assert
+        assertThrows(TenantQuotaExceededException.class,
+                () -> session.add("First", Priority.MEDIUM, DUE, Category.WORK, null));
+        assertEquals(0, session.finish());
+        verify(taskRepository, never()).saveAllWithinQuota(anyList(), any());
+    }
+
+    @Test
+    void testFinish_RoomTakenByConcurrentCreatesStopsTheImport() {
+        // Arrange
+        TenantQuota quota = new TenantQuota(10, 0);
+        when(taskRepository.getUsage("user1")).thenReturn(new TenantUsage("user1", 7, 0));
+        ImportTasksUseCase useCase = new ImportTasksUseCase(taskRepository, quota,
+                TaskIdGenerator.RANDOM_UUID, Clock.systemUTC(), 100);
+        ImportTasksUseCase.Session session = useCase.start("user1");
+        for (String title : List.of("First", "Second", "Third")) {
+            session.add(title, Priority.MEDIUM, DUE, Category.WORK, null);
+        }
+        // Other requests of the user created two tasks meanwhile, so only one more fits
+        when(taskRepository.saveAllWithinQuota(anyList(), eq(quota))).thenReturn(1, 0);
+        when(taskRepository.getUsage("user1")).thenReturn(new TenantUsage("user1", 10, 0));
+
+        // Act & Assert
+        assertThrows(TenantQuotaExceededException.class, session::finish);
+        assertEquals(1, session.getImported());
+        verify(taskRepository, times(2)).saveAllWithinQuota(anyList(), eq(quota));
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchTasksUseCaseTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SearchTasksUseCase searchTasksUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchTasksUseCase = new SearchTasksUseCase(taskRepository);
+    }
+
+    @Test
+    void testExecute_Success() {
+        // Arrange
+        String userId = "user123";
+        List<Task> mockTasks = Collections.singletonList(
+                Task.builder().id("1").userId(userId).title("Buy groceries").build());
+
+        when(taskRepository.searchByTitle(userId, "groc", 10)).thenReturn(mockTasks);
+
+        // Act
+        List<Task> result = searchTasksUseCase.execute(userId, "  groc ", 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(taskRepository, times(1)).searchByTitle(userId, "groc", 10);
+    }
+
+    @Test
+    void testExecute_BlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> searchTasksUseCase.execute("user123", "  ", 10));
+        verify(taskRepository, never()).searchByTitle(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void testExecute_LimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> searchTasksUseCase.execute("user123", "task", 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> searchTasksUseCase.execute("user123", "task", SearchTasksUseCase.MAX_LIMIT + 1));
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.taskmanager.domain.usecase;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
+import com.project.taskmanager.domain.repository.AsyncTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UpdateTaskAsyncUseCaseTest {
+
+    @Mock
+    private AsyncTaskRepository taskRepository;
+
+    private UpdateTaskAsyncUseCase updateTaskAsyncUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        updateTaskAsyncUseCase = new UpdateTaskAsyncUseCase(taskRepository);
+    }
+
+    @Test
+    void testExecute_RetriesAfterConcurrentModification() {
+        // Arrange
+        String taskId = "task123";
+        String userId = "user123";
+        Task firstRead = Task.builder().id(taskId).userId(userId).title("Old Task").version(1).build();
+        Task secondRead = Task.builder().id(taskId).userId(userId).title("Concurrent Task").version(2).build();
+
+        when(taskRepository.findById(taskId)).thenReturn(
+                CompletableFuture.completedFuture(Optional.of(firstRead)),
+                CompletableFuture.completedFuture(Optional.of(secondRead)));
+        when(taskRepository.compareAndUpdate(any(Task.class), eq(1L)))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        when(taskRepository.compareAndUpdate(any(Task.class), eq(2L)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // Act
+        Task result = updateTaskAsyncUseCase.execute(taskId, userId, "Updated Task", null, null, null, null).join();
+
+        // Assert
+        assertEquals("Updated Task", result.getTitle());
+        assertEquals(3, result.getVersion());
+        verify(taskRepository, times(2)).findById(taskId);
+    }
+
+    @Test
+    void testExecute_VersionMismatch() {
+        // Arrange
+        Task task = Task.builder().id("task123").userId("user123").title("Old Task").version(2).build();
+        when(taskRepository.findById("task123")).thenReturn(CompletableFuture.completedFuture(Optional.of(task)));
+
+        // Act
+        CompletableFuture<Task> result = updateTaskAsyncUseCase.execute("task123", "user123", "Updated Task",
+                null, null, null, 1L);
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(TaskVersionConflictException.class, exception.getCause());
+        verify(taskRepository, never()).compareAndUpdate(any(Task.class), anyLong());
+    }
+
+    @Test
+    void testExecute_TaskNotFound() {
+        // Arrange
+        when(taskRepository.findById("missing")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        // Act
+        CompletableFuture<Task> result = updateTaskAsyncUseCase.execute("missing", "user123", "Updated Task",
+                null, null, null, null);
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(TaskNotFoundException.class, exception.getCause());
+    }
+}
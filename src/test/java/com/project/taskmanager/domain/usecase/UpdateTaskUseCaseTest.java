@@ -2,6 +2,7 @@ package com.project.taskmanager.domain.usecase;
 
 import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.exceptions.TaskNotFoundException;
+import com.project.taskmanager.domain.exceptions.TaskVersionConflictException;
 import com.project.taskmanager.domain.exceptions.UnauthorizedAccessException;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import com.project.taskmanager.domain.valueobject.Category;
@@ -12,7 +13,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,7 +42,7 @@ class UpdateTaskUseCaseTest {
         String userId = "user123";
         String newTitle = "Updated Task";
         Priority newPriority = Priority.HIGH;
-        LocalDateTime newDueDate = LocalDateTime.now().plusDays(5);
+        Instant newDueDate = Instant.now().plus(5, ChronoUnit.DAYS);
         Category newCategory = Category.PERSONAL;
 
         Task existingTask = Task.builder()
@@ -46,12 +50,12 @@ class UpdateTaskUseCaseTest {
                 .userId(userId)
                 .title("Old Task")
                 .priority(Priority.LOW)
-                .dueDate(LocalDateTime.now().plusDays(1))
+                .dueDate(Instant.now().plus(1, ChronoUnit.DAYS))
                 .category(Category.WORK)
                 .build();
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        doNothing().when(taskRepository).update(any(Task.class));
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
 
         // Act
         Task result = updateTaskUseCase.execute(taskId, userId, newTitle, newPriority, newDueDate, newCategory);
@@ -61,7 +65,31 @@ class UpdateTaskUseCaseTest {
         assertEquals(taskId, result.getId());
         assertEquals(userId, result.getUserId());
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).update(existingTask);
+        verify(taskRepository, times(1)).compareAndUpdate(any(Task.class), eq(existingTask.getVersion()));
+    }
+
+    @Test
+    void testExecute_StampsUpdateWithClockTime() {
+        // Arrange
+        Instant now = Instant.parse("2025-11-15T10:00:00Z");
+        UpdateTaskUseCase clocked = new UpdateTaskUseCase(taskRepository,
+                Clock.fixed(now, ZoneOffset.UTC));
+        Task existingTask = Task.builder()
+                .id("task123")
+                .userId("user123")
+                .title("Old Task")
+                .createdAt(now.minus(1, ChronoUnit.DAYS))
+                .updatedAt(now.minus(1, ChronoUnit.DAYS))
+                .build();
+        when(taskRepository.findById("task123")).thenReturn(Optional.of(existingTask));
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
+
+        // Act
+        Task result = clocked.execute("task123", "user123", "New Task", null, null, null);
+
+        // Assert
+        assertEquals(now, result.getUpdatedAt());
+        assertEquals(now.minus(1, ChronoUnit.DAYS), result.getCreatedAt());
     }
 
     @Test
@@ -71,7 +99,7 @@ class UpdateTaskUseCaseTest {
         String userId = "user123";
         String title = "Updated Task";
         Priority priority = Priority.HIGH;
-        LocalDateTime dueDate = LocalDateTime.now().plusDays(5);
+        Instant dueDate = Instant.now().plus(5, ChronoUnit.DAYS);
         Category category = Category.PERSONAL;
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
@@ -83,7 +111,7 @@ class UpdateTaskUseCaseTest {
 
         assertEquals("Task not found with id: " + taskId, exception.getMessage());
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).update(any(Task.class));
+        verify(taskRepository, never()).compareAndUpdate(any(Task.class), anyLong());
     }
 
     @Test
@@ -94,7 +122,7 @@ class UpdateTaskUseCaseTest {
         String differentUserId = "user456";
         String title = "Updated Task";
         Priority priority = Priority.HIGH;
-        LocalDateTime dueDate = LocalDateTime.now().plusDays(5);
+        Instant dueDate = Instant.now().plus(5, ChronoUnit.DAYS);
         Category category = Category.PERSONAL;
 
         Task existingTask = Task.builder()
@@ -102,7 +130,7 @@ class UpdateTaskUseCaseTest {
                 .userId(differentUserId)
                 .title("Old Task")
                 .priority(Priority.LOW)
-                .dueDate(LocalDateTime.now().plusDays(1))
+                .dueDate(Instant.now().plus(1, ChronoUnit.DAYS))
                 .category(Category.WORK)
                 .build();
 
@@ -115,7 +143,7 @@ class UpdateTaskUseCaseTest {
 
         assertEquals("User not authorized to update this task", exception.getMessage());
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).update(any(Task.class));
+        verify(taskRepository, never()).compareAndUpdate(any(Task.class), anyLong());
     }
 
     @Test
@@ -125,7 +153,7 @@ class UpdateTaskUseCaseTest {
         String userId = "user123";
         String newTitle = "Partially Updated Task";
         Priority originalPriority = Priority.MEDIUM;
-        LocalDateTime originalDueDate = LocalDateTime.now().plusDays(3);
+        Instant originalDueDate = Instant.now().plus(3, ChronoUnit.DAYS);
         Category originalCategory = Category.WORK;
 
         Task existingTask = Task.builder()
@@ -138,7 +166,7 @@ class UpdateTaskUseCaseTest {
                 .build();
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        doNothing().when(taskRepository).update(any(Task.class));
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
 
         // Act
         Task result = updateTaskUseCase.execute(taskId, userId, newTitle, originalPriority,
@@ -147,7 +175,7 @@ class UpdateTaskUseCaseTest {
         // Assert
         assertNotNull(result);
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).update(existingTask);
+        verify(taskRepository, times(1)).compareAndUpdate(any(Task.class), eq(existingTask.getVersion()));
     }
 
     @Test
@@ -157,7 +185,7 @@ class UpdateTaskUseCaseTest {
         String userId = "user123";
         String newTitle = "Completely Updated Task";
         Priority newPriority = Priority.HIGH;
-        LocalDateTime newDueDate = LocalDateTime.now().plusDays(10);
+        Instant newDueDate = Instant.now().plus(10, ChronoUnit.DAYS);
         Category newCategory = Category.SHOPPING;
 
         Task existingTask = Task.builder()
@@ -165,12 +193,12 @@ class UpdateTaskUseCaseTest {
                 .userId(userId)
                 .title("Original Task")
                 .priority(Priority.LOW)
-                .dueDate(LocalDateTime.now().plusDays(1))
+                .dueDate(Instant.now().plus(1, ChronoUnit.DAYS))
                 .category(Category.WORK)
                 .build();
 
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        doNothing().when(taskRepository).update(any(Task.class));
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
 
         // Act
         Task result = updateTaskUseCase.execute(taskId, userId, newTitle, newPriority, newDueDate, newCategory);
@@ -183,9 +211,77 @@ class UpdateTaskUseCaseTest {
         // Capture and verify the updated task
         ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).update(taskCaptor.capture());
+        verify(taskRepository, times(1)).compareAndUpdate(taskCaptor.capture(), eq(existingTask.getVersion()));
 
         Task capturedTask = taskCaptor.getValue();
-        assertEquals(existingTask, capturedTask);
+        assertEquals(newTitle, capturedTask.getTitle());
+        assertEquals(newPriority, capturedTask.getPriority());
+        assertEquals(newDueDate, capturedTask.getDueDate());
+        assertEquals(newCategory, capturedTask.getCategory());
+        assertEquals(existingTask.getVersion() + 1, capturedTask.getVersion());
+        assertEquals("Original Task", existingTask.getTitle());
+    }
+
+    @Test
+    void testExecute_VersionMismatch() {
+        // Arrange
+        String taskId = "task123";
+        String userId = "user123";
+
+        Task existingTask = Task.builder()
+                .id(taskId)
+                .userId(userId)
+                .title("Old Task")
+                .version(3)
+                .build();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> {
+            updateTaskUseCase.execute(taskId, userId, "Updated Task", null, null, null, 2L);
+        });
+
+        verify(taskRepository, never()).compareAndUpdate(any(Task.class), anyLong());
+    }
+
+    @Test
+    void testExecute_RetriesAfterConcurrentModification() {
+        // Arrange
+        String taskId = "task123";
+        String userId = "user123";
+
+        Task firstRead = Task.builder().id(taskId).userId(userId).title("Old Task").version(1).build();
+        Task secondRead = Task.builder().id(taskId).userId(userId).title("Concurrent Task").version(2).build();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(firstRead), Optional.of(secondRead));
+        when(taskRepository.compareAndUpdate(any(Task.class), eq(1L))).thenReturn(false);
+        when(taskRepository.compareAndUpdate(any(Task.class), eq(2L))).thenReturn(true);
+
+        // Act
+        Task result = updateTaskUseCase.execute(taskId, userId, "Updated Task", null, null, null);
+
+        // Assert
+        assertEquals("Updated Task", result.getTitle());
+        assertEquals(3, result.getVersion());
+        verify(taskRepository, times(2)).findById(taskId);
+    }
+
+    @Test
+    void testExecute_ConcurrentModificationWithExpectedVersion() {
+        // Arrange
+        String taskId = "task123";
+        String userId = "user123";
+
+        Task firstRead = Task.builder().id(taskId).userId(userId).title("Old Task").version(1).build();
+        Task secondRead = Task.builder().id(taskId).userId(userId).title("Concurrent Task").version(2).build();
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(firstRead), Optional.of(secondRead));
+        when(taskRepository.compareAndUpdate(any(Task.class), eq(1L))).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TaskVersionConflictException.class, () -> {
+            updateTaskUseCase.execute(taskId, userId, "Updated Task", null, null, null, 1L);
+        });
     }
 }
\ No newline at end of file
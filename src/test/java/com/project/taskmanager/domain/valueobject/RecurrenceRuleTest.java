@@ -0,0 +1,99 @@
+package com.project.taskmanager.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final Instant FIRST = Instant.parse("2025-01-31T09:00:00Z");
+    private static final Duration WEEK = Duration.ofDays(7);
+    private static final Duration DAY = Duration.ofDays(1);
+
+    @Test
+    void testOccurrencesBetween_WeeklyWithInterval() {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 2, null);
+
+        // Act
+        List<Instant> result = rule.occurrencesBetween(FIRST, FIRST.plus(WEEK.multipliedBy(3)),
+                FIRST.plus(WEEK.multipliedBy(9)), 100);
+
+        // Assert
+        assertEquals(List.of(FIRST.plus(WEEK.multipliedBy(4)), FIRST.plus(WEEK.multipliedBy(6)),
+                FIRST.plus(WEEK.multipliedBy(8))), result);
+    }
+
+    @Test
+    void testOccurrencesBetween_MonthlyClampsWithoutDrifting() {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.MONTHLY, 1, null);
+
+        // Act
+        List<Instant> result = rule.occurrencesBetween(FIRST, FIRST.plus(DAY),
+                Instant.parse("2025-04-30T23:59:00Z"), 100);
+
+        // Assert
+        assertEquals(List.of(
+                Instant.parse("2025-02-28T09:00:00Z"),
+                Instant.parse("2025-03-31T09:00:00Z"),
+                Instant.parse("2025-04-30T09:00:00Z")), result);
+    }
+
+    @Test
+    void testOccurrencesBetween_KeepsLocalTimeAcrossDaylightSavingChange() {
+        // Arrange: Berlin moves from UTC+1 to UTC+2 on 2025-03-30
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        Instant first = LocalDateTime.of(2025, 3, 28, 9, 0).atZone(berlin).toInstant();
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null, berlin);
+
+        // Act
+        List<Instant> result = rule.occurrencesBetween(first, first, Instant.parse("2025-03-31T12:00:00Z"), 100);
+
+        // Assert
+        assertEquals(List.of(
+                Instant.parse("2025-03-28T08:00:00Z"),
+                Instant.parse("2025-03-29T08:00:00Z"),
+                Instant.parse("2025-03-30T07:00:00Z"),
+                Instant.parse("2025-03-31T07:00:00Z")), result);
+        assertEquals(Instant.parse("2025-03-30T07:00:00Z"), rule.nextAfter(first, first.plus(Duration.ofDays(1))));
+    }
+
+    @Test
+    void testOccurrencesBetween_StopsAtUntilAndLimit() {
+        // Arrange
+        RecurrenceRule bounded = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, FIRST.plus(DAY.multipliedBy(2)));
+        RecurrenceRule unbounded = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null);
+
+        // Act
+        List<Instant> untilResult = bounded.occurrencesBetween(FIRST, FIRST, FIRST.plus(DAY.multipliedBy(365)), 100);
+        List<Instant> limitResult = unbounded.occurrencesBetween(FIRST, FIRST, FIRST.plus(DAY.multipliedBy(36500)), 10);
+
+        // Assert
+        assertEquals(3, untilResult.size());
+        assertEquals(10, limitResult.size());
+    }
+
+    @Test
+    void testNextAfter_SkipsToFirstOccurrenceAfterInstant() {
+        // Arrange
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 3, FIRST.plus(DAY.multipliedBy(9)));
+
+        // Act & Assert
+        assertEquals(FIRST.plus(DAY.multipliedBy(3)), rule.nextAfter(FIRST, FIRST));
+        assertEquals(FIRST.plus(DAY.multipliedBy(9)), rule.nextAfter(FIRST, FIRST.plus(DAY.multipliedBy(7))));
+        assertNull(rule.nextAfter(FIRST, FIRST.plus(DAY.multipliedBy(9))));
+    }
+
+    @Test
+    void testConstructor_RejectsNonPositiveInterval() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 0, null));
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.taskmanager.infrastructure.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UlidTaskIdGeneratorTest {
+
+    @Test
+    void testNextId_EncodesTimestampInFirstTenCharacters() {
+        // Arrange
+        UlidTaskIdGenerator generator = new UlidTaskIdGenerator(() -> 1_469_918_176_385L);
+
+        // Act
+        String id = generator.nextId();
+
+        // Assert
+        assertEquals(UlidTaskIdGenerator.LENGTH, id.length());
+        assertEquals("01ARYZ6S41", id.substring(0, 10));
+        assertTrue(UlidTaskIdGenerator.isUlid(id));
+    }
+
+    @Test
+    void testNextId_StrictlyIncreasingWithinAMillisecondAndWhenClockGoesBack() {
+        // Arrange
+        AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+        UlidTaskIdGenerator generator = new UlidTaskIdGenerator(millis::get);
+        List<String> ids = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 70_000; i++) {
+            ids.add(generator.nextId());
+        }
+        millis.addAndGet(-5);
+        ids.add(generator.nextId());
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "id " + i + " sorts after its predecessor");
+        }
+    }
+
+    @Test
+    void testNextId_UniqueAcrossThreads() {
+        // Arrange
+        UlidTaskIdGenerator generator = new UlidTaskIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        // Assert
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void testToBytes_RoundTripsAndKeepsOrder() {
+        // Arrange
+        UlidTaskIdGenerator generator = new UlidTaskIdGenerator();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            String id = generator.nextId();
+
+            // Act
+            byte[] bytes = UlidTaskIdGenerator.toBytes(id);
+
+            // Assert
+            assertEquals(UlidTaskIdGenerator.BINARY_LENGTH, bytes.length);
+            assertEquals(id, UlidTaskIdGenerator.fromBytes(bytes));
+            assertTrue(seen.add(id));
+        }
+        assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", UlidTaskIdGenerator.fromBytes(
+                UlidTaskIdGenerator.toBytes("7ZZZZZZZZZZZZZZZZZZZZZZZZZ")));
+    }
+
+    @Test
+    void testIsUlid_RejectsOtherIds() {
+        assertFalse(UlidTaskIdGenerator.isUlid("3f2504e0-4f89-11d3-9a0c-0305e82c3301"));
+        assertFalse(UlidTaskIdGenerator.isUlid("81ARYZ6S41TSV4RRFFQ69G5FAV"));
+        assertFalse(UlidTaskIdGenerator.isUlid("01aryz6s41tsv4rrffq69g5fav"));
+        assertFalse(UlidTaskIdGenerator.isUlid("01ARYZ6S41TSV4RRFFQ69G5FA@"));
+        assertFalse(UlidTaskIdGenerator.isUlid(null));
+    }
+}
@@ -0,0 +1,221 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CoalescingTaskRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+    private static final Instant UPDATED_AT = Instant.parse("2025-11-15T12:00:00Z");
+
+    private CoalescingTaskRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.close();
+        }
+    }
+
+    @Test
+    void testConcurrentWrites_AppliedInBatchesStoredOnceEach() throws Exception {
+        // Arrange
+        BatchingRepository delegate = new BatchingRepository();
+        repository = new CoalescingTaskRepository(delegate, 32, 2_000, 1024);
+        int writers = 16;
+        int writesPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int w = 0; w < writers; w++) {
+            String userId = "user" + w;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < writesPerWriter; i++) {
+                    Task saved = repository.save(newTask("Task " + i, userId));
+                    // A returned write is visible and its batch already stored
+                    assertTrue(repository.findById(saved.getId()).isPresent());
+                    assertTrue(delegate.batches.get() > 0);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        int total = writers * writesPerWriter;
+        for (int w = 0; w < writers; w++) {
+            assertEquals(writesPerWriter, repository.findByUserId("user" + w).size());
+        }
+        assertEquals(repository.batchesApplied(), delegate.batches.get());
+        assertTrue(repository.batchesApplied() < total,
+                "expected writes to share batches, got " + repository.batchesApplied() + " batches");
+    }
+
+    @Test
+    void testCompareAndUpdate_ReturnsDelegateResult() {
+        // Arrange
+        repository = new CoalescingTaskRepository(new InMemoryTaskRepository(), 8, 0, 16);
+        Task task = repository.save(newTask("Original", "user1"));
+        Task updated = task.withUpdate("Updated", null, null, null, UPDATED_AT);
+
+        // Act & Assert
+        assertTrue(repository.compareAndUpdate(updated, task.getVersion()));
+        assertFalse(repository.compareAndUpdate(task.withUpdate("Stale", null, null, null, UPDATED_AT), task.getVersion()));
+        assertTrue(repository.compareAndDelete(task.getId(), updated.getVersion()));
+        assertTrue(repository.findById(task.getId()).isEmpty());
+    }
+
+    @Test
+    void testWriteFailure_OnlyFailsThatCaller() {
+        // Arrange
+        TaskRepository delegate = mock(TaskRepository.class);
+        doCallRealMethod().when(delegate).inBatch(any());
+        Task failing = newTask("Failing", "user1");
+        Task succeeding = newTask("Succeeding", "user1");
+        when(delegate.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            if (task == failing) {
+                throw new IllegalArgumentException("rejected");
+            }
+            return task;
+        });
+        repository = new CoalescingTaskRepository(delegate, 8, 0, 16);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> repository.save(failing));
+        assertEquals("rejected", exception.getMessage());
+        assertSame(succeeding, repository.save(succeeding));
+    }
+
+    @Test
+    void testBatchFailure_FailsWritesInBatch() {
+        // Arrange
+        BatchingRepository delegate = new BatchingRepository();
+        delegate.failBatch.set(true);
+        repository = new CoalescingTaskRepository(delegate, 8, 0, 16);
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> repository.save(newTask("Task", "user1")));
+    }
+
+    @Test
+    void testShutdown_RejectsFurtherWrites() {
+        // Arrange
+        repository = new CoalescingTaskRepository(new InMemoryTaskRepository(), 8, 0, 16);
+        repository.save(newTask("Before", "user1"));
+
+        // Act
+        repository.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> repository.save(newTask("After", "user1")));
+        assertEquals(1, repository.findByUserId("user1").size());
+    }
+
+    @Test
+    void testShutdown_RacingWritersEitherSucceedOrFail() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            // Arrange
+            InMemoryTaskRepository delegate = new InMemoryTaskRepository();
+            repository = new CoalescingTaskRepository(delegate, 4, 50, 8);
+            int writers = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(writers);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Task>>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String userId = "user" + w;
+                futures.add(executor.submit(() -> {
+                    List<Task> saved = new ArrayList<>();
+                    start.await();
+                    try {
+                        while (true) {
+                            saved.add(repository.save(newTask("Task", userId)));
+                        }
+                    } catch (IllegalStateException e) {
+                        return saved;
+                    }
+                }));
+            }
+
+            // Act
+            start.countDown();
+            Thread.sleep(round % 5);
+            repository.close();
+
+            // Assert: no writer is left waiting, and every acknowledged write was applied
+            for (Future<List<Task>> future : futures) {
+                for (Task task : future.get(5, TimeUnit.SECONDS)) {
+                    assertTrue(delegate.findById(task.getId()).isPresent());
+                }
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInterruptedApplier_FailsWritesInsteadOfHanging() throws Exception {
+        // Arrange
+        repository = new CoalescingTaskRepository(new InMemoryTaskRepository(), 8, 0, 16);
+        Thread applier = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("task-write-coalescer") && thread.isAlive())
+                .findFirst()
+                .orElseThrow();
+
+        // Act
+        applier.interrupt();
+        applier.join(5_000);
+
+        // Assert
+        assertFalse(applier.isAlive());
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrows(IllegalStateException.class, () -> repository.save(newTask("Task", "user1"))));
+    }
+
+    private static Task newTask(String title, String userId) {
+        return new Task(UUID.randomUUID().toString(), title, Priority.MEDIUM, Instant.now().plus(1, ChronoUnit.DAYS),
+                Category.WORK, userId, null, CREATED_AT);
+    }
+
+    // Stands in for a durable store that syncs once per batch
+    private static final class BatchingRepository extends InMemoryTaskRepository {
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicBoolean failBatch = new AtomicBoolean();
+
+        @Override
+        public void inBatch(Runnable writes) {
+            writes.run();
+            if (failBatch.get()) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+            batches.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.domain.valueobject.TenantUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+    private static final Instant UPDATED_AT = Instant.parse("2025-11-15T12:00:00Z");
+
+    private InMemoryTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryTaskRepository();
+    }
+
+    @Test
+    void testCompareAndUpdate_RejectsStaleVersion() {
+        // Arrange
+        Task task = repository.save(newTask("Original", "user1"));
+        Task first = task.withUpdate("First", null, null, null, UPDATED_AT);
+        Task second = task.withUpdate("Second", null, null, null, UPDATED_AT);
+
+        // Act & Assert
+        assertTrue(repository.compareAndUpdate(first, task.getVersion()));
+        assertFalse(repository.compareAndUpdate(second, task.getVersion()));
+        assertEquals("First", repository.findById(task.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    void testSearchByTitle_PrefixMatchingAndRanking() {
+        // Arrange
+        repository.save(newTask("Buy groceries for the week", "user1"));
+        repository.save(newTask("Groceries", "user1"));
+        repository.save(newTask("Grocery store receipts", "user1"));
+        repository.save(newTask("Prepare report", "user1"));
+
+        // Act
+        List<Task> result = repository.searchByTitle("user1", "groceries", 10);
+        List<Task> typeAhead = repository.searchByTitle("user1", "gro", 10);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Groceries", result.get(0).getTitle());
+        assertEquals("Buy groceries for the week", result.get(1).getTitle());
+        assertEquals(3, typeAhead.size());
+    }
+
+    @Test
+    void testSearchByTitle_RequiresAllTerms() {
+        // Arrange
+        repository.save(newTask("Buy milk", "user1"));
+        repository.save(newTask("Buy bread", "user1"));
+
+        // Act
+        List<Task> result = repository.searchByTitle("user1", "buy mi", 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Buy milk", result.get(0).getTitle());
+    }
+
+    @Test
+    void testSearchByTitle_ScopedToUser() {
+        // Arrange
+        repository.save(newTask("Shared title", "user1"));
+        repository.save(newTask("Shared title", "user2"));
+
+        // Act
+        List<Task> result = repository.searchByTitle("user2", "shared", 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("user2", result.get(0).getUserId());
+    }
+
+    @Test
+    void testSearchByTitle_FollowsUpdatesAndDeletes() {
+        // Arrange
+        Task task = repository.save(newTask("Call plumber", "user1"));
+        Task renamed = task.withUpdate("Call electrician", null, null, null, UPDATED_AT);
+        repository.compareAndUpdate(renamed, task.getVersion());
+
+        // Act & Assert
+        assertTrue(repository.searchByTitle("user1", "plumber", 10).isEmpty());
+        assertEquals(1, repository.searchByTitle("user1", "electrician", 10).size());
+
+        repository.delete(task.getId());
+        assertTrue(repository.searchByTitle("user1", "call", 10).isEmpty());
+    }
+
+    @Test
+    void testSearchByTitle_RespectsLimit() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            repository.save(newTask("Task number " + i, "user1"));
+        }
+
+        // Act
+        List<Task> result = repository.searchByTitle("user1", "task", 5);
+
+        // Assert
+        assertEquals(5, result.size());
+    }
+
+    @Test
+    void testFindByUserIdAndFilter_CombinesAttributes() {
+        // Arrange
+        Instant past = Instant.now().minus(1, ChronoUnit.DAYS);
+        Instant future = Instant.now().plus(1, ChronoUnit.DAYS);
+        repository.save(newTask("High work overdue", Priority.HIGH, past, Category.WORK, "user1"));
+        repository.save(newTask("High work upcoming", Priority.HIGH, future, Category.WORK, "user1"));
+        repository.save(newTask("Highest work overdue", Priority.HIGHEST, past, Category.WORK, "user1"));
+        repository.save(newTask("High health overdue", Priority.HIGH, past, Category.HEALTH, "user1"));
+        repository.save(newTask("Other user", Priority.HIGH, past, Category.WORK, "user2"));
+
+        TaskFilter highWorkOverdue = TaskFilter.builder()
+                .priority(Priority.HIGH)
+                .category(Category.WORK)
+                .overdue(true)
+                .build();
+        TaskFilter highOrHighestWork = TaskFilter.builder()
+                .priority(Priority.HIGH)
+                .priority(Priority.HIGHEST)
+                .category(Category.WORK)
+                .build();
+
+        // Act
+        List<Task> result = repository.findByUserIdAndFilter("user1", highWorkOverdue);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("High work overdue", result.get(0).getTitle());
+        assertEquals(1, repository.countByUserIdAndFilter("user1", highWorkOverdue));
+        assertEquals(3, repository.countByUserIdAndFilter("user1", highOrHighestWork));
+        assertEquals(1, repository.countByUserIdAndFilter("user1",
+                TaskFilter.builder().overdue(false).build()));
+    }
+
+    @Test
+    void testFindByUserIdAndFilter_FollowsUpdatesAndDeletes() {
+        // Arrange
+        Task task = repository.save(newTask("Movable", "user1"));
+        TaskFilter work = TaskFilter.builder().category(Category.WORK).build();
+        TaskFilter health = TaskFilter.builder().category(Category.HEALTH).build();
+
+        // Act
+        repository.compareAndUpdate(task.withUpdate(null, null, null, Category.HEALTH, UPDATED_AT), task.getVersion());
+
+        // Assert
+        assertEquals(0, repository.countByUserIdAndFilter("user1", work));
+        List<Task> moved = repository.findByUserIdAndFilter("user1", health);
+        assertEquals(1, moved.size());
+        assertEquals(task.getVersion() + 1, moved.get(0).getVersion());
+
+        repository.delete(task.getId());
+        assertEquals(0, repository.countByUserIdAndFilter("user1", health));
+    }
+
+    @Test
+    void testFindByUserIdAndFilter_GrowsAndReusesOrdinals() {
+        // Arrange
+        List<Task> saved = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Priority priority = i % 2 == 0 ? Priority.LOW : Priority.HIGH;
+            saved.add(repository.save(newTask("Task " + i, priority,
+                    Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, "user1")));
+        }
+        for (int i = 0; i < 100; i++) {
+            repository.delete(saved.get(i).getId());
+        }
+        for (int i = 0; i < 50; i++) {
+            repository.save(newTask("Replacement " + i, Priority.LOW,
+                    Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, "user1"));
+        }
+
+        // Act
+        long low = repository.countByUserIdAndFilter("user1", TaskFilter.builder().priority(Priority.LOW).build());
+        long all = repository.countByUserIdAndFilter("user1", TaskFilter.builder().build());
+
+        // Assert
+        assertEquals(150, low);
+        assertEquals(250, all);
+        assertEquals(250, repository.findByUserIdAndFilter("user1", TaskFilter.builder().build()).size());
+    }
+
+    @Test
+    void testGetStatistics_CountsByAttribute() {
+        // Arrange
+        Instant now = Instant.now();
+        repository.save(newTask("Overdue", Priority.HIGH, now.minus(2, ChronoUnit.DAYS), Category.WORK, "user1"));
+        repository.save(newTask("Later today", Priority.HIGH, now.plusSeconds(5), Category.HEALTH, "user1"));
+        Task reminded = repository.save(
+                newTask("Reminded", Priority.LOW, now.minus(1, ChronoUnit.MINUTES), Category.WORK, "user1"));
+        repository.compareAndUpdate(reminded.withReminderSent(now), reminded.getVersion());
+        repository.save(newTask("Other user", Priority.HIGH, now.minus(2, ChronoUnit.DAYS), Category.WORK, "user2"));
+
+        // Act
+        TaskStatistics statistics = repository.getStatistics("user1", ZoneOffset.UTC);
+
+        // Assert
+        assertEquals(3, statistics.getTotal());
+        assertEquals(2L, statistics.getByPriority().get(Priority.HIGH));
+        assertEquals(1L, statistics.getByPriority().get(Priority.LOW));
+        assertEquals(2L, statistics.getByCategory().get(Category.WORK));
+        assertEquals(2, statistics.getOverdue());
+        assertEquals(1, statistics.getReminderSent());
+        assertEquals(0, repository.getStatistics("unknown", ZoneOffset.UTC).getTotal());
+    }
+
+    @Test
+    void testGetStatistics_OverdueAdvancesWithTime() throws InterruptedException {
+        // Arrange
+        Task task = repository.save(newTask("Soon", Priority.MEDIUM,
+                Instant.now().plusNanos(50_000_000), Category.WORK, "user1"));
+        assertEquals(0, repository.getStatistics("user1", ZoneOffset.UTC).getOverdue());
+
+        // Act
+        Thread.sleep(100);
+
+        // Assert
+        assertEquals(1, repository.getStatistics("user1", ZoneOffset.UTC).getOverdue());
+        repository.delete(task.getId());
+        assertEquals(0, repository.getStatistics("user1", ZoneOffset.UTC).getOverdue());
+    }
+
+    @Test
+    void testGetStatistics_CountsDueTodayOnTheCalendarOfTheRequestedZone() {
+        // Arrange: 22:00 UTC is already the next morning in Tokyo and Kathmandu (UTC+05:45)
+        Instant now = Instant.parse("2025-11-15T22:00:00Z");
+        InMemoryTaskRepository clocked = new InMemoryTaskRepository(true, Clock.fixed(now, ZoneOffset.UTC));
+        for (String due : List.of("2025-11-15T10:00:00Z", "2025-11-15T18:00:00Z",
+                "2025-11-15T23:30:00Z", "2025-11-16T05:00:00Z")) {
+            clocked.save(newTask("Due " + due, Priority.MEDIUM, Instant.parse(due), Category.WORK, "user1"));
+        }
+
+        // Act & Assert
+        assertEquals(3, clocked.getStatistics("user1", ZoneOffset.UTC).getDueToday());
+        assertEquals(3, clocked.getStatistics("user1", ZoneId.of("Asia/Tokyo")).getDueToday());
+        assertEquals(2, clocked.getStatistics("user1", ZoneId.of("Asia/Kathmandu")).getDueToday());
+    }
+
+    @Test
+    void testGetStatistics_ConsistentWithScanAfterRandomWrites() {
+        // Arrange
+        InMemoryTaskRepository verifying = new InMemoryTaskRepository(true);
+        Random random = new Random(42);
+        List<Task> live = new ArrayList<>();
+        Instant now = Instant.now();
+
+        // Act
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || live.isEmpty()) {
+                live.add(verifying.save(newTask("Task " + i,
+                        Priority.values()[random.nextInt(Priority.values().length)],
+                        now.plus(random.nextInt(96) - 48, ChronoUnit.HOURS),
+                        Category.values()[random.nextInt(Category.values().length)], "user1")));
+            } else {
+                int index = random.nextInt(live.size());
+                Task task = live.get(index);
+                Task changed = switch (operation) {
+                    case 1 -> task.withReminderSent(now);
+                    case 2 -> task.withUpdate(null, Priority.values()[random.nextInt(Priority.values().length)],
+                            now.plus(random.nextInt(96) - 48, ChronoUnit.HOURS), Category.values()[random.nextInt(Category.values().length)],
+                            now);
+                    default -> null;
+                };
+                if (changed == null) {
+                    verifying.delete(task.getId());
+                    live.remove(index);
+                } else {
+                    assertTrue(verifying.compareAndUpdate(changed, task.getVersion()));
+                    live.set(index, changed);
+                }
+            }
+            if (i % 100 == 0) {
+                verifying.getStatistics("user1", ZoneOffset.UTC);
+            }
+        }
+
+        // Assert
+        assertEquals(live.size(), verifying.getStatistics("user1", ZoneOffset.UTC).getTotal());
+    }
+
+    @Test
+    void testFindByUserIdAndDateRange_ExpandsRecurringTask() {
+        // Arrange
+        Instant first = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        Task weekly = repository.save(newTask("Team sync", Priority.MEDIUM, first, Category.WORK, "user1",
+                new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 1, null)));
+
+        // Act
+        List<Task> result = repository.findByUserIdAndDateRange("user1", first.minus(1, ChronoUnit.DAYS), first.plus(28, ChronoUnit.DAYS));
+
+        // Assert
+        assertEquals(5, result.size());
+        assertSame(weekly, result.get(0));
+        assertEquals(first.plus(28, ChronoUnit.DAYS), result.get(4).getDueDate());
+        assertTrue(result.stream().allMatch(task -> task.getSeriesId().equals(weekly.getId())));
+        assertEquals(5, result.stream().map(Task::getId).distinct().count());
+        assertEquals(1, repository.findByUserId("user1").size());
+    }
+
+    @Test
+    void testFindDueTasks_JudgesEveryTaskAgainstTheRepositoryClock() {
+        // Arrange
+        Instant now = Instant.parse("2025-11-15T10:00:00Z");
+        InMemoryTaskRepository clocked = new InMemoryTaskRepository(false,
+                Clock.fixed(now, ZoneOffset.UTC));
+        Task past = clocked.save(
+                newTask("Past", Priority.HIGH, now.minus(1, ChronoUnit.MINUTES), Category.WORK, "user1"));
+        clocked.save(newTask("At now", Priority.HIGH, now, Category.WORK, "user1"));
+        clocked.save(newTask("Future", Priority.HIGH, now.plus(1, ChronoUnit.MINUTES), Category.WORK, "user1"));
+
+        // Act
+        List<Task> due = clocked.findDueTasks();
+
+        // Assert
+        assertEquals(List.of(past.getId()), due.stream().map(Task::getId).toList());
+        assertEquals(1, clocked.getStatistics("user1", ZoneOffset.UTC).getOverdue());
+    }
+
+    @Test
+    void testCompareAndUpdate_ReminderOnRecurringTaskArmsNextOccurrence() {
+        // Arrange
+        Instant now = Instant.now();
+        Instant first = now.minus(2, ChronoUnit.DAYS).minus(1, ChronoUnit.HOURS);
+        Task daily = repository.save(newTask("Stand-up", Priority.MEDIUM, first, Category.WORK, "user1",
+                new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null)));
+
+        // Act
+        boolean claimed = repository.compareAndUpdate(daily.withReminderSent(now), daily.getVersion());
+
+        // Assert
+        Task stored = repository.findById(daily.getId()).orElseThrow();
+        assertTrue(claimed);
+        assertFalse(stored.isReminderSent());
+        assertEquals(first.plus(3, ChronoUnit.DAYS), stored.getDueDate());
+        assertTrue(repository.findDueTasks().isEmpty());
+    }
+
+    @Test
+    void testGetUsage_TracksWritesAndRanksLargestTenants() {
+        // Arrange
+        Task first = repository.save(newTask("First", "small"));
+        Task second = repository.save(newTask("Second", "small"));
+        for (int i = 0; i < 5; i++) {
+            repository.save(newTask("Task " + i, "large"));
+        }
+        repository.save(newTask("Only", "medium"));
+        repository.save(newTask("Gone", "medium"));
+        repository.delete(repository.findByUserId("medium").get(0).getId());
+
+        // Act
+        repository.update(first.withUpdate("A much longer title than before", null, null, null, UPDATED_AT));
+        repository.delete(second.getId());
+        TenantUsage small = repository.getUsage("small");
+        List<TenantUsage> largest = repository.findLargestTenants(2);
+
+        // Assert
+        Task updated = repository.findById(first.getId()).orElseThrow();
+        assertEquals(1, small.getTaskCount());
+        assertEquals(TenantUsageIndex.estimateBytes(updated), small.getEstimatedBytes());
+        assertEquals(List.of("large", "small"), largest.stream().map(TenantUsage::getUserId).toList());
+        assertEquals(5, largest.get(0).getTaskCount());
+        assertEquals(0, repository.getUsage("unknown").getTaskCount());
+    }
+
+    @Test
+    void testGetModificationStamp_AdvancesOnEveryWriteForThatUserOnly() {
+        // Arrange
+        Task task = repository.save(newTask("Original", "user1"));
+        long afterSave = repository.getModificationStamp("user1");
+        long otherBefore = repository.getModificationStamp("user2");
+
+        // Act
+        boolean staleUpdate = repository.compareAndUpdate(task.withUpdate("Stale", null, null, null, UPDATED_AT),
+                task.getVersion() + 1);
+        long afterRejectedUpdate = repository.getModificationStamp("user1");
+        repository.update(task.withUpdate("Renamed", null, null, null, UPDATED_AT));
+        long afterUpdate = repository.getModificationStamp("user1");
+        repository.delete(task.getId());
+        long afterDelete = repository.getModificationStamp("user1");
+
+        // Assert
+        assertFalse(staleUpdate);
+        assertEquals(0, otherBefore);
+        assertNotEquals(0, afterSave);
+        assertEquals(afterSave, afterRejectedUpdate);
+        assertTrue(afterUpdate > afterSave);
+        assertTrue(afterDelete > afterUpdate);
+        assertEquals(0, repository.getModificationStamp("user2"));
+    }
+
+    @Test
+    void testForEachByUserId_VisitsEveryTaskAcrossChunks() {
+        // Arrange, more tasks than one chunk of the bitmap index, with gaps left by deletes
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            batch.add(newTask("Task " + i, "user1"));
+        }
+        repository.saveAll(batch);
+        repository.save(newTask("Someone else's", "user2"));
+        for (int i = 0; i < 600; i += 3) {
+            repository.delete(batch.get(i).getId());
+        }
+
+        // Act
+        Set<String> visited = new HashSet<>();
+        repository.forEachByUserId("user1", task -> assertTrue(visited.add(task.getId())));
+
+        // Assert
+        assertEquals(400, visited.size());
+        assertEquals(repository.findByUserId("user1").stream().map(Task::getId).collect(Collectors.toSet()), visited);
+        assertEquals(400, repository.getUsage("user1").getTaskCount());
+    }
+
+    @Test
+    void testSaveWithinQuota_ConcurrentCreatesNeverOvershoot() throws Exception {
+        // Arrange
+        TenantQuota quota = new TenantQuota(50, 0);
+        int threads = 8;
+        int createsPerThread = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < createsPerThread; i++) {
+                    try {
+                        repository.saveWithinQuota(newTask("Task", "user1"), quota);
+                        saved.incrementAndGet();
+                    } catch (TenantQuotaExceededException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(50, saved.get());
+        assertEquals(threads * createsPerThread - 50, rejected.get());
+        assertEquals(50, repository.getUsage("user1").getTaskCount());
+        assertEquals(50, repository.findByUserId("user1").size());
+    }
+
+    @Test
+    void testSaveAllWithinQuota_SavesTheLeadingTasksThatFit() {
+        // Arrange
+        repository.save(newTask("Existing", "user1"));
+        List<Task> batch = List.of(newTask("First", "user1"), newTask("Second", "user1"),
+                newTask("Third", "user1"), newTask("Fourth", "user1"));
+
+        // Act
+        int saved = repository.saveAllWithinQuota(batch, new TenantQuota(3, 0));
+
+        // Assert
+        assertEquals(2, saved);
+        assertEquals(Set.of("Existing", "First", "Second"), repository.findByUserId("user1").stream()
+                .map(Task::getTitle).collect(Collectors.toSet()));
+        assertEquals(0, repository.saveAllWithinQuota(batch.subList(2, 4), new TenantQuota(3, 0)));
+    }
+
+    private static Task newTask(String title, String userId) {
+        return newTask(title, Priority.MEDIUM, Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, userId);
+    }
+
+    private static Task newTask(String title, Priority priority, Instant dueDate, Category category, String userId) {
+        return newTask(title, priority, dueDate, category, userId, null);
+    }
+
+    private static Task newTask(String title, Priority priority, Instant dueDate, Category category, String userId,
+                                RecurrenceRule recurrence) {
+        return new Task(UUID.randomUUID().toString(), title, priority, dueDate, category, userId, recurrence,
+                CREATED_AT);
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilingTaskRepositoryTest {
+
+    private static final String EVENT_NAME = "com.project.taskmanager.RepositoryOperation";
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final ProfilingTaskRepository repository = new ProfilingTaskRepository(new InMemoryTaskRepository());
+
+    @Test
+    void testOperations_RecordedWithUserAndResultCount() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("repository.jfr");
+        List<RecordedEvent> events;
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+            Task saved = repository.save(newTask("First", "profiled-user"));
+            repository.save(newTask("Second", "profiled-user"));
+            repository.findByUserId("profiled-user");
+            repository.findById(saved.getId());
+            repository.findByUserId("profiled-nobody");
+            recording.stop();
+            recording.dump(file);
+        }
+        events = eventsFor(file);
+
+        // Assert
+        assertEquals(5, events.size());
+        Map<String, List<RecordedEvent>> byOperation = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getString("operation")));
+        assertEquals(2, byOperation.get("save").size());
+        assertEquals(2, byOperation.get("findByUserId").size());
+        Map<String, Long> countsByUser = byOperation.get("findByUserId").stream()
+                .collect(Collectors.toMap(event -> event.getString("userId"), event -> event.getLong("resultCount")));
+        assertEquals(Map.of("profiled-user", 2L, "profiled-nobody", 0L), countsByUser);
+        RecordedEvent findById = byOperation.get("findById").get(0);
+        assertEquals("profiled-user", findById.getString("userId"));
+        assertEquals(1, findById.getLong("resultCount"));
+        assertTrue(events.stream().noneMatch(event -> event.getDuration().isNegative()));
+    }
+
+    @Test
+    void testForEachByUserId_CountsVisitedTasks() throws Exception {
+        // Arrange
+        repository.saveAll(List.of(newTask("One", "profiled-user"), newTask("Two", "profiled-user"),
+                newTask("Three", "profiled-user")));
+        Path file = tempDir.resolve("iteration.jfr");
+        int[] visited = new int[1];
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME);
+            recording.start();
+            repository.forEachByUserId("profiled-user", task -> visited[0]++);
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, RecordedEvent> byOperation = eventsFor(file).stream()
+                .collect(Collectors.toMap(event -> event.getString("operation"), Function.identity()));
+
+        // Assert
+        assertEquals(3, visited[0]);
+        assertEquals(3, byOperation.get("forEachByUserId").getLong("resultCount"));
+    }
+
+    @Test
+    void testOperations_PassThroughWithoutRecording() {
+        // Act
+        Task saved = repository.save(newTask("Unrecorded", "profiled-user"));
+
+        // Assert
+        assertEquals(saved, repository.findById(saved.getId()).orElseThrow());
+        assertEquals(1, repository.findByUserId("profiled-user").size());
+    }
+
+    @Test
+    void testClose_ClosesTheDecoratedRepository() {
+        // Arrange
+        CoalescingTaskRepository coalescing = new CoalescingTaskRepository(new InMemoryTaskRepository(), 8, 100, 8);
+        ProfilingTaskRepository profiling = new ProfilingTaskRepository(coalescing);
+
+        // Act
+        profiling.close();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> coalescing.save(newTask("Late", "profiled-user")));
+    }
+
+    // Other tests may leave a reminder scanner running in this JVM, whose queries would be
+    // recorded too
+    private static List<RecordedEvent> eventsFor(Path file) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+                .filter(event -> {
+                    String userId = event.getString("userId");
+                    return userId != null && userId.startsWith("profiled-");
+                })
+                .toList();
+    }
+
+    private Task newTask(String title, String userId) {
+        return new Task(UUID.randomUUID().toString(), title, Priority.MEDIUM, Instant.now().plus(1, ChronoUnit.DAYS),
+                Category.WORK, userId, null, CREATED_AT);
+    }
+}
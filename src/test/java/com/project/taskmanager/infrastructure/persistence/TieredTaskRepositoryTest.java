@@ -0,0 +1,399 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.exceptions.TenantQuotaExceededException;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.domain.valueobject.RecurrenceRule;
+import com.project.taskmanager.domain.valueobject.TaskFilter;
+import com.project.taskmanager.domain.valueobject.TaskStatistics;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.infrastructure.id.UlidTaskIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredTaskRepositoryTest {
+
+    private static final Instant LONG_AGO = Instant.now().minus(90, ChronoUnit.DAYS);
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryTaskRepository hot;
+    private TieredTaskRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        hot = new InMemoryTaskRepository(true);
+        repository = new TieredTaskRepository(hot, new ColdTaskStore(tempDir, 4096), Duration.ofDays(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void testDemote_MovesOnlyColdTasksAndKeepsThemVisible() {
+        // Arrange
+        Task cold = repository.save(oldTask("Filed report", "user1", true));
+        Task awaitingReminder = repository.save(oldTask("Overdue, not reminded", "user1", false));
+        Task upcoming = repository.save(new Task(UUID.randomUUID().toString(), "Upcoming", Priority.HIGH,
+                Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, "user1", null, Instant.now()));
+
+        // Act
+        int demoted = repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Assert
+        assertEquals(1, demoted);
+        assertEquals(1, repository.coldTaskCount());
+        assertTrue(hot.findById(cold.getId()).isEmpty());
+        assertTrue(hot.findById(awaitingReminder.getId()).isPresent());
+        assertTrue(hot.findById(upcoming.getId()).isPresent());
+        assertEquals(3, repository.findByUserId("user1").size());
+        assertEquals(1, repository.findDueTasks().size());
+        assertEquals(2, repository.countByUserIdAndFilter("user1", TaskFilter.builder().overdue(true).build()));
+        assertEquals(List.of(cold.getId()), repository.searchByTitle("user1", "filed rep", 10).stream()
+                .map(Task::getId).toList());
+        assertEquals(3, repository.getUsage("user1").getTaskCount());
+    }
+
+    @Test
+    void testColdQueries_ReadOnlyTheRecordsTheyReturn() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            repository.save(oldTask("Filed report " + i, "user1", true));
+        }
+        Instant dentistDay = LONG_AGO.plus(1, ChronoUnit.DAYS);
+        for (int i = 0; i < 2; i++) {
+            repository.save(new Task(UUID.randomUUID().toString(), "Dentist appointment", Priority.HIGH, dentistDay,
+                    Category.HEALTH, "user1", LONG_AGO, LONG_AGO, true, 1));
+        }
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        TaskFilter highPriority = TaskFilter.builder().priorities(Set.of(Priority.HIGH)).build();
+        long before = repository.coldRecordsRead();
+
+        // Act
+        long count = repository.countByUserIdAndFilter("user1", highPriority);
+        TaskStatistics statistics = repository.getStatistics("user1", ZoneOffset.UTC);
+        long readForCounts = repository.coldRecordsRead() - before;
+        List<Task> filtered = repository.findByUserIdAndFilter("user1", highPriority);
+        List<Task> inRange = repository.findByUserIdAndDateRange("user1", dentistDay.minusSeconds(1),
+                dentistDay.plusSeconds(1));
+        List<Task> found = repository.searchByTitle("user1", "dentist", 1);
+
+        // Assert
+        assertEquals(2, count);
+        assertEquals(12, statistics.getTotal());
+        assertEquals(0, readForCounts);
+        assertEquals(2, filtered.size());
+        assertEquals(2, inRange.size());
+        assertEquals("Dentist appointment", found.get(0).getTitle());
+        assertEquals(5, repository.coldRecordsRead() - before);
+    }
+
+    @Test
+    void testForEachByUserId_CoversBothTiersOnce() {
+        // Arrange
+        Task cold = repository.save(oldTask("Filed report", "user1", true));
+        Task hotTask = repository.save(new Task(UUID.randomUUID().toString(), "Upcoming", Priority.HIGH,
+                Instant.now().plus(1, ChronoUnit.DAYS), Category.WORK, "user1", null, Instant.now()));
+        repository.save(oldTask("Someone else's", "user2", true));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Act
+        List<String> visited = new ArrayList<>();
+        repository.forEachByUserId("user1", task -> visited.add(task.getId()));
+
+        // Assert
+        assertEquals(2, visited.size());
+        assertTrue(visited.containsAll(List.of(cold.getId(), hotTask.getId())));
+        assertEquals(2, repository.coldTaskCount(), "Exporting must not promote cold tasks");
+    }
+
+    @Test
+    void testStatistics_CombineBothTiers() {
+        // Arrange
+        repository.save(oldTask("Cold", "user1", true));
+        repository.save(new Task(UUID.randomUUID().toString(), "Hot", Priority.LOW,
+                Instant.now().plus(2, ChronoUnit.DAYS), Category.HEALTH, "user1", null, Instant.now()));
+        TaskStatistics before = repository.getStatistics("user1", ZoneOffset.UTC);
+
+        // Act
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        TaskStatistics after = repository.getStatistics("user1", ZoneOffset.UTC);
+
+        // Assert
+        assertEquals(1, repository.coldTaskCount());
+        assertEquals(before, after);
+    }
+
+    @Test
+    void testFindById_PromotesColdTaskUnchanged() {
+        // Arrange
+        Task cold = repository.save(new Task(UUID.randomUUID().toString(), "Weekly review", Priority.MEDIUM,
+                LONG_AGO, Category.PERSONAL, "user1", LONG_AGO, LONG_AGO, true, 7,
+                new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 2, LONG_AGO.plus(28, ChronoUnit.DAYS))));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Act
+        Task promoted = repository.findById(cold.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(0, repository.coldTaskCount());
+        assertEquals(1, repository.promotedTotal());
+        assertTrue(hot.findById(cold.getId()).isPresent());
+        assertEquals(cold.getTitle(), promoted.getTitle());
+        assertEquals(cold.getDueDate(), promoted.getDueDate());
+        assertEquals(cold.getPriority(), promoted.getPriority());
+        assertEquals(cold.getCategory(), promoted.getCategory());
+        assertEquals(cold.getCreatedAt(), promoted.getCreatedAt());
+        assertEquals(cold.getVersion(), promoted.getVersion());
+        assertEquals(cold.getRecurrence(), promoted.getRecurrence());
+        assertTrue(promoted.isReminderSent());
+    }
+
+    @Test
+    void testFindById_KeepsUlidAndOtherIdsThroughColdStorage() {
+        // Arrange
+        String ulid = new UlidTaskIdGenerator().nextId();
+        repository.save(new Task(ulid, "Ulid", Priority.MEDIUM, LONG_AGO, Category.WORK, "user1",
+                LONG_AGO, LONG_AGO, true, 1));
+        Task uuid = repository.save(oldTask("Uuid", "user1", true));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Act & Assert
+        assertEquals(2, repository.coldTaskCount());
+        assertEquals(ulid, repository.findById(ulid).orElseThrow().getId());
+        assertEquals(uuid.getId(), repository.findById(uuid.getId()).orElseThrow().getId());
+    }
+
+    @Test
+    void testCompareAndUpdate_OnColdTaskChecksVersion() {
+        // Arrange
+        Instant now = Instant.now();
+        Task cold = repository.save(oldTask("Archived", "user1", true));
+        repository.demoteColderThan(now.minus(30, ChronoUnit.DAYS));
+
+        // Act
+        boolean stale = repository.compareAndUpdate(cold.withUpdate("Stale", null, null, null, now), cold.getVersion() + 1);
+        boolean current = repository.compareAndUpdate(cold.withUpdate("Renamed", null, null, null, now), cold.getVersion());
+
+        // Assert
+        assertFalse(stale);
+        assertTrue(current);
+        assertEquals("Renamed", repository.findById(cold.getId()).orElseThrow().getTitle());
+        assertEquals(0, repository.coldTaskCount());
+    }
+
+    @Test
+    void testDelete_OfColdTaskAdvancesModificationStamp() {
+        // Arrange
+        Task cold = repository.save(oldTask("Archived", "user1", true));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        long before = repository.getModificationStamp("user1");
+
+        // Act
+        repository.delete(cold.getId());
+
+        // Assert
+        assertTrue(repository.getModificationStamp("user1") > before);
+        assertTrue(repository.findByUserId("user1").isEmpty());
+    }
+
+    @Test
+    void testDelete_RemovesColdTaskAndCompactionReclaimsSegments() throws Exception {
+        // Arrange
+        List<Task> tasks = Stream.generate(() -> repository.save(oldTask("Old task", "user1", true)))
+                .limit(200)
+                .toList();
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        long segmentsBefore = segmentFiles();
+
+        // Act
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i % 10 != 0) {
+                repository.delete(tasks.get(i).getId());
+            }
+        }
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Assert
+        assertEquals(20, repository.coldTaskCount());
+        assertEquals(20, repository.findByUserId("user1").size());
+        assertTrue(segmentsBefore > 1);
+        assertTrue(segmentFiles() < segmentsBefore);
+    }
+
+    @Test
+    void testCompaction_MovesSurvivorsOfManySegmentsAcrossBatches() throws Exception {
+        // Arrange
+        List<Task> tasks = Stream.generate(() -> repository.save(oldTask("Old task", "user1", true)))
+                .limit(2000)
+                .toList();
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        long segmentsBefore = segmentFiles();
+        List<Task> survivors = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i % 3 == 0) {
+                survivors.add(tasks.get(i));
+            } else {
+                repository.delete(tasks.get(i).getId());
+            }
+        }
+
+        // Act
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+
+        // Assert
+        assertTrue(survivors.size() > 256);
+        assertEquals(survivors.size(), repository.coldTaskCount());
+        assertTrue(segmentFiles() < segmentsBefore * 2 / 3);
+        for (Task survivor : survivors) {
+            assertEquals(survivor.getTitle(), repository.findById(survivor.getId()).orElseThrow().getTitle());
+        }
+    }
+
+    @Test
+    void testPromote_EmptyingSegmentsDoesNotBreakConcurrentListings() throws Exception {
+        // Arrange
+        List<Task> tasks = Stream.generate(() -> repository.save(oldTask("Old task", "user1", true)))
+                .limit(2000)
+                .toList();
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        long segmentsBefore = segmentFiles();
+        int listers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(listers + 1);
+        AtomicBoolean promoting = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int l = 0; l < listers; l++) {
+            futures.add(executor.submit(() -> {
+                while (promoting.get()) {
+                    for (Task task : repository.findByUserId("user1")) {
+                        assertEquals("Old task", task.getTitle());
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> promoter = executor.submit(() -> {
+            try {
+                for (Task task : tasks) {
+                    assertTrue(repository.findById(task.getId()).isPresent());
+                }
+            } finally {
+                promoting.set(false);
+            }
+            return null;
+        });
+        promoter.get(30, TimeUnit.SECONDS);
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(0, repository.coldTaskCount());
+        assertEquals(tasks.size(), repository.findByUserId("user1").size());
+        // Emptied segments wait for the next compaction
+        assertEquals(segmentsBefore, segmentFiles());
+    }
+
+    @Test
+    void testInBatch_HoldsTheTierLockForTheWholeBatch() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<Future<Integer>> demotion = new ArrayList<>();
+
+        // Act
+        repository.inBatch(() -> {
+            repository.save(oldTask("First", "user1", true));
+            repository.save(oldTask("Second", "user1", true));
+            demotion.add(executor.submit(() -> repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS))));
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertFalse(demotion.get(0).isDone());
+        });
+        int demoted = demotion.get(0).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertEquals(2, demoted);
+        assertEquals(2, repository.coldTaskCount());
+    }
+
+    @Test
+    void testSaveWithinQuota_CountsTasksInBothTiers() {
+        // Arrange
+        repository.save(oldTask("Filed report", "user1", true));
+        repository.save(oldTask("Filed invoice", "user1", true));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        TenantQuota quota = new TenantQuota(3, 0);
+
+        // Act
+        repository.saveWithinQuota(oldTask("Fits", "user1", false), quota);
+
+        // Assert
+        assertEquals(2, repository.coldTaskCount());
+        assertThrows(TenantQuotaExceededException.class,
+                () -> repository.saveWithinQuota(oldTask("Too many", "user1", false), quota));
+        assertEquals(0, repository.saveAllWithinQuota(List.of(oldTask("Too many", "user1", false)), quota));
+        assertEquals(3, repository.getUsage("user1").getTaskCount());
+    }
+
+    @Test
+    void testClose_DeletesSegmentsButLeavesOtherStoresAlone() throws Exception {
+        // Arrange
+        repository.save(oldTask("Old task", "user1", true));
+        repository.demoteColderThan(Instant.now().minus(30, ChronoUnit.DAYS));
+        ColdTaskStore other = new ColdTaskStore(tempDir, 4096);
+
+        // Act
+        repository.close();
+        other.put(oldTask("Other", "user2", true));
+
+        // Assert
+        assertEquals(1, other.size());
+        assertEquals(1, other.findByUserId("user2").size());
+        other.close();
+        assertEquals(0, segmentFiles());
+    }
+
+    // Segment files across every store directory under the temp dir
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".dat")).count();
+        }
+    }
+
+    private static Task oldTask(String title, String userId, boolean reminderSent) {
+        return new Task(UUID.randomUUID().toString(), title, Priority.MEDIUM, LONG_AGO, Category.WORK, userId,
+                LONG_AGO, LONG_AGO, reminderSent, 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fills the title index with one user's tasks and prints microseconds per query for prefixes of
+ * increasing length, so type-ahead cost can be checked against the size of a task list.
+ * <p>
+ * A single-threaded loop after a warm-up, so treat the numbers as relative, not absolute.
+ * <pre>
+ * mvn test -Dtest=TitleSearchIndexBenchmarkTest -Dbenchmark=true \
+ *     -Dbenchmark.tasks=100000 -Dbenchmark.iterations=2000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TitleSearchIndexBenchmarkTest {
+
+    private static final String[] WORDS = {"buy", "call", "book", "pay", "review", "plan", "clean",
+            "groceries", "dentist", "invoice", "report", "meeting", "garden", "car", "taxes", "birthday"};
+
+    private final int taskCount = Integer.getInteger("benchmark.tasks", 100_000);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 2000);
+
+    @Test
+    void measurePrefixQueries() {
+        TitleSearchIndex index = new TitleSearchIndex();
+        Map<String, Task> tasks = new HashMap<>(taskCount * 2);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Instant now = Instant.now();
+        for (int i = 0; i < taskCount; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + i;
+            Task task = new Task("task-" + i, title, Priority.MEDIUM, null, Category.WORK, "benchmark-user",
+                    now, now, false, 1);
+            tasks.put(task.getId(), task);
+            index.onChange(null, task);
+        }
+
+        System.out.printf("%n%d tasks for one user, %d iterations%n", taskCount, iterations);
+        System.out.printf("%-16s %12s %10s%n", "query", "us/query", "hits");
+        for (String query : List.of("b", "bo", "book", "1", "12345", "book re", "c g 1")) {
+            int hits = 0;
+            for (int i = 0; i < iterations; i++) {
+                hits = index.search("benchmark-user", query, 20, tasks::get).size();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                index.search("benchmark-user", query, 20, tasks::get);
+            }
+            double micros = (System.nanoTime() - start) / 1000.0 / iterations;
+            System.out.printf("%-16s %12.1f %10d%n", query, micros, hits);
+            assertTrue(hits > 0);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.taskmanager.infrastructure.persistence;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TitleSearchIndexTest {
+
+    private final TitleSearchIndex index = new TitleSearchIndex();
+    private final Map<String, Task> tasks = new HashMap<>();
+
+    @Test
+    void testSearch_ShortPrefixOverManyTasksKeepsExactMatchesFirst() {
+        // Arrange
+        for (int i = 0; i < TitleSearchIndex.MAX_CANDIDATES * 3; i++) {
+            add(task("t" + i, "Task number " + i));
+        }
+        add(task("exact", "A t"));
+
+        // Act
+        List<Task> result = index.search("user1", "t", 5, tasks::get);
+
+        // Assert
+        assertEquals(5, result.size());
+        assertEquals("exact", result.get(0).getId());
+    }
+
+    @Test
+    void testSearch_MultipleTermsChecksTheOthersAgainstTitles() {
+        // Arrange
+        for (int i = 0; i < TitleSearchIndex.MAX_CANDIDATES * 2; i++) {
+            add(task("t" + i, "Task number " + i));
+        }
+        add(task("milk", "Task buy milk"));
+
+        // Act
+        List<Task> result = index.search("user1", "task mil", 10, tasks::get);
+
+        // Assert
+        assertEquals(List.of("milk"), result.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void testSearch_CommonTermsFindTheFewTasksHavingBothBeyondTheCap() {
+        // Arrange
+        for (int i = 0; i < TitleSearchIndex.MAX_CANDIDATES * 2; i++) {
+            add(task("a" + i, "Alpha " + i));
+            add(task("b" + i, "Beta " + i));
+        }
+        add(task("both-long", "Alpha and beta together"));
+        add(task("both", "Alpha beta"));
+        add(task("prefix", "Alphabet beta"));
+
+        // Act
+        List<Task> result = index.search("user1", "alpha beta", 10, tasks::get);
+
+        // Assert
+        assertEquals(List.of("both", "both-long", "prefix"), result.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void testSearch_ResolvesOnlyTheReturnedTasks() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            add(task("t" + i, "Task " + i));
+        }
+        List<String> resolved = new ArrayList<>();
+
+        // Act
+        List<Task> result = index.search("user1", "task", 3, id -> {
+            resolved.add(id);
+            return tasks.get(id);
+        });
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(result.stream().map(Task::getId).toList(), resolved);
+    }
+
+    @Test
+    void testOnChange_DropsUsersWhoseLastTitleIsRemoved() {
+        // Arrange
+        Task task = task("1", "Call plumber");
+        add(task);
+
+        // Act
+        index.onChange(task, null);
+
+        // Assert
+        assertEquals(0, index.userCount());
+        assertTrue(index.search("user1", "call", 10, tasks::get).isEmpty());
+        add(task("2", "Call again"));
+        assertEquals(1, index.search("user1", "call", 10, tasks::get).size());
+    }
+
+    private void add(Task task) {
+        tasks.put(task.getId(), task);
+        index.onChange(null, task);
+    }
+
+    private static Task task(String id, String title) {
+        Instant now = Instant.parse("2025-11-15T10:00:00Z");
+        return new Task(id, title, Priority.MEDIUM, null, Category.WORK, "user1", now, now, false, 1);
+    }
+}
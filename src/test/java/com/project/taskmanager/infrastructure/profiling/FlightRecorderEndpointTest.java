@@ -0,0 +1,90 @@
+package com.project.taskmanager.infrastructure.profiling;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FlightRecorderEndpoint endpoint;
+    private Long recordingId;
+
+    @AfterEach
+    void tearDown() {
+        if (recordingId != null) {
+            endpoint.discard(recordingId);
+        }
+    }
+
+    @Test
+    void testStartStopAndDownload() throws Exception {
+        // Arrange
+        endpoint = new FlightRecorderEndpoint(tempDir);
+
+        // Act
+        FlightRecorderEndpoint.RecordingInfo started = endpoint.start(null, null, null, null);
+        recordingId = started.id();
+        WebEndpointResponse<Resource> snapshot = endpoint.download(recordingId);
+        WebEndpointResponse<FlightRecorderEndpoint.RecordingInfo> stopped = endpoint.stop(recordingId);
+        WebEndpointResponse<Resource> download = endpoint.download(recordingId);
+
+        // Assert
+        assertEquals(RecordingState.RUNNING, started.state());
+        assertTrue(endpoint.recordings().stream().anyMatch(info -> info.id() == started.id()));
+        assertEquals(200, snapshot.getStatus());
+        assertEquals(RecordingState.STOPPED, stopped.getBody().state());
+        Path file = Path.of(stopped.getBody().file());
+        assertTrue(file.startsWith(tempDir.toAbsolutePath()));
+        assertEquals(file, download.getBody().getFile().toPath());
+        assertFalse(RecordingFile.readAllEvents(file).isEmpty());
+    }
+
+    @Test
+    void testDiscard_ClosesRecordingAndDeletesItsFile() {
+        // Arrange
+        endpoint = new FlightRecorderEndpoint(tempDir);
+        long id = endpoint.start("default", null, null, null).id();
+        Path file = Path.of(endpoint.stop(id).getBody().file());
+
+        // Act
+        WebEndpointResponse<Void> response = endpoint.discard(id);
+
+        // Assert
+        assertEquals(WebEndpointResponse.STATUS_NO_CONTENT, response.getStatus());
+        assertFalse(Files.exists(file));
+        assertTrue(endpoint.recordings().stream().noneMatch(info -> info.id() == id));
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.stop(id).getStatus());
+    }
+
+    @Test
+    void testStart_UnknownSettingsRejected() {
+        // Arrange
+        endpoint = new FlightRecorderEndpoint(tempDir);
+
+        // Act & Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.start("../../settings", null, null, null));
+    }
+
+    @Test
+    void testUnknownRecording_NotFound() {
+        // Arrange
+        endpoint = new FlightRecorderEndpoint(tempDir);
+
+        // Act & Assert
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download(Long.MAX_VALUE).getStatus());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.discard(Long.MAX_VALUE).getStatus());
+    }
+}
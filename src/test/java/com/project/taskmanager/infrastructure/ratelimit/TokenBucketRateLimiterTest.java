@@ -0,0 +1,74 @@
+package com.project.taskmanager.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new TokenBucketRateLimiter(3, 1_000, clock::get);
+    }
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRefillsAtRate() {
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("user1", 10, 5));
+        }
+        long wait = limiter.tryAcquire("user1", 10, 5);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("user1", 10, 5));
+        assertTrue(limiter.tryAcquire("user1", 10, 5) > 0);
+    }
+
+    @Test
+    void testTryAcquire_KeysAreIndependent() {
+        // Arrange
+        assertEquals(0, limiter.tryAcquire("user1", 1, 1));
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("user1", 1, 1) > 0);
+        assertEquals(0, limiter.tryAcquire("user2", 1, 1));
+    }
+
+    @Test
+    void testTryAcquire_EvictsRefilledBucketsWhenFull() {
+        // Arrange
+        limiter.tryAcquire("user1", 10, 1);
+        limiter.tryAcquire("user2", 10, 1);
+        limiter.tryAcquire("user3", 10, 1);
+
+        // Act & Assert: every bucket is still refilling, so a fourth key cannot be tracked
+        assertTrue(limiter.tryAcquire("user4", 10, 1) > 0);
+        assertEquals(3, limiter.trackedKeys());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter.tryAcquire("user4", 10, 1));
+        assertEquals(1, limiter.trackedKeys());
+    }
+
+    @Test
+    void testTryAcquire_PeriodicSweepDropsIdleBuckets() {
+        // Arrange
+        limiter.tryAcquire("user1", 10, 1);
+        limiter.tryAcquire("user2", 10, 1);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire("user3", 10, 1);
+
+        // Assert
+        assertEquals(1, limiter.trackedKeys());
+    }
+}
@@ -0,0 +1,246 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderDispatcherTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private ReminderDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void testDispatch_RetriesFailedDeliveryWithBackoff() throws Exception {
+        // Arrange
+        TestSink sink = new TestSink(1, 2, 0);
+        dispatcher = newDispatcher(List.of(sink), 1, 10, 3);
+        dispatcher.start(Optional::of);
+        Task task = newTask("Retry me");
+
+        // Act
+        dispatcher.dispatch(task);
+
+        // Assert
+        assertEquals(task.getId(), sink.delivered.poll(5, TimeUnit.SECONDS).getId());
+        assertEquals(3, sink.attempts.get());
+        assertFalse(Files.exists(tempDir.resolve("dead-letter.log")));
+    }
+
+    @Test
+    void testDispatch_ExhaustedRetriesGoToDeadLetterFile() throws Exception {
+        // Arrange
+        TestSink failing = new TestSink(1, Integer.MAX_VALUE, 0);
+        TestSink healthy = new TestSink(1, 0, 0);
+        dispatcher = newDispatcher(List.of(failing, healthy), 1, 10, 2);
+        dispatcher.start(Optional::of);
+        Task task = newTask("Dead letter");
+
+        // Act
+        dispatcher.dispatch(task);
+
+        // Assert
+        assertNotNull(healthy.delivered.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, failing.attempts.get());
+        List<String> deadLetters = Files.readAllLines(tempDir.resolve("dead-letter.log"));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).contains(task.getId()));
+        assertTrue(deadLetters.get(0).contains("test-" + failing.hashCode()));
+    }
+
+    @Test
+    void testDispatch_SkipsTasksThatCannotBeClaimed() throws Exception {
+        // Arrange
+        TestSink sink = new TestSink(1, 0, 0);
+        dispatcher = newDispatcher(List.of(sink), 1, 10, 1);
+        Task claimed = newTask("Claimed");
+        dispatcher.start(task -> task == claimed ? Optional.of(task) : Optional.empty());
+
+        // Act
+        dispatcher.dispatch(newTask("Already sent"));
+        dispatcher.dispatch(claimed);
+
+        // Assert
+        assertEquals(claimed.getId(), sink.delivered.poll(5, TimeUnit.SECONDS).getId());
+        assertNull(sink.delivered.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testDispatch_SlowSinkBlocksProducerAndRespectsConcurrencyLimit() throws Exception {
+        // Arrange
+        TestSink slow = new TestSink(2, 0, 50);
+        dispatcher = newDispatcher(List.of(slow), 4, 2, 1);
+        dispatcher.start(Optional::of);
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+
+        // Act
+        Future<?> scan = producer.submit(() -> {
+            for (int i = 0; i < 20; i++) {
+                dispatcher.dispatch(newTask("Task " + i));
+            }
+            return null;
+        });
+
+        // Assert: 20 deliveries at 2 x 50ms cannot be queued at once
+        assertThrows(TimeoutException.class, () -> scan.get(100, TimeUnit.MILLISECONDS));
+        assertTrue(dispatcher.queuedReminders() <= 2);
+        scan.get(10, TimeUnit.SECONDS);
+        producer.shutdown();
+        for (int i = 0; i < 20; i++) {
+            assertNotNull(slow.delivered.poll(5, TimeUnit.SECONDS));
+        }
+        assertTrue(slow.maxObservedConcurrency.get() <= 2);
+    }
+
+    @Test
+    void testDispatch_SkipsTaskAlreadyInFlight() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(release);
+        dispatcher = newDispatcher(List.of(sink), 1, 10, 1);
+        dispatcher.start(Optional::of);
+        Task task = newTask("Overdue");
+
+        // Act
+        assertTrue(dispatcher.dispatch(task));
+        assertTrue(sink.started.await(5, TimeUnit.SECONDS));
+        boolean requeuedWhileDelivering = dispatcher.dispatch(task);
+        release.countDown();
+
+        // Assert
+        assertFalse(requeuedWhileDelivering);
+        assertEquals(1, dispatcher.deduplicatedTotal());
+        assertEquals(task.getId(), sink.delivered.poll(5, TimeUnit.SECONDS).getId());
+        assertNull(sink.delivered.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(0, dispatcher.inFlightReminders());
+    }
+
+    @Test
+    void testDispatch_DropPolicyRejectsWhenQueueFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(release);
+        dispatcher = new ReminderDispatcher(List.of(sink), 1, 1, ReminderDispatcher.RejectionPolicy.DROP,
+                new ReminderDispatcher.RetryPolicy(1, 1, 1), tempDir.resolve("dead-letter.log"));
+        dispatcher.start(Optional::of);
+        assertTrue(dispatcher.dispatch(newTask("Delivering")));
+        assertTrue(sink.started.await(5, TimeUnit.SECONDS));
+        assertTrue(dispatcher.dispatch(newTask("Queued")));
+        Task rejected = newTask("Rejected");
+
+        // Act
+        boolean accepted = dispatcher.dispatch(rejected);
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(1, dispatcher.droppedTotal());
+        // Not tracked as in flight, so the next scan can queue it again
+        assertEquals(2, dispatcher.inFlightReminders());
+        release.countDown();
+    }
+
+    private ReminderDispatcher newDispatcher(List<ReminderSink> sinks, int workers, int queueCapacity,
+                                             int maxAttempts) {
+        return new ReminderDispatcher(sinks, workers, queueCapacity, ReminderDispatcher.RejectionPolicy.BLOCK,
+                new ReminderDispatcher.RetryPolicy(maxAttempts, 1, 10), tempDir.resolve("dead-letter.log"));
+    }
+
+    private static Task newTask(String title) {
+        return new Task(UUID.randomUUID().toString(), title, Priority.HIGH, Instant.now().minus(1, ChronoUnit.MINUTES),
+                Category.WORK, "user1", null, CREATED_AT);
+    }
+
+    private static final class BlockingSink implements ReminderSink {
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final BlockingQueue<Task> delivered = new LinkedBlockingQueue<>();
+
+        BlockingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String name() {
+            return "blocking";
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return 1;
+        }
+
+        @Override
+        public void deliver(Task task) throws InterruptedException {
+            started.countDown();
+            release.await();
+            delivered.add(task);
+        }
+    }
+
+    private static final class TestSink implements ReminderSink {
+        private final int maxConcurrency;
+        private final int failuresBeforeSuccess;
+        private final long latencyMillis;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxObservedConcurrency = new AtomicInteger();
+        private final BlockingQueue<Task> delivered = new LinkedBlockingQueue<>();
+
+        TestSink(int maxConcurrency, int failuresBeforeSuccess, long latencyMillis) {
+            this.maxConcurrency = maxConcurrency;
+            this.failuresBeforeSuccess = failuresBeforeSuccess;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public String name() {
+            return "test-" + hashCode();
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public void deliver(Task task) throws Exception {
+            int running = concurrent.incrementAndGet();
+            maxObservedConcurrency.accumulateAndGet(running, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+                if (attempts.incrementAndGet() <= failuresBeforeSuccess) {
+                    throw new IOException("sink unavailable");
+                }
+                delivered.add(task);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
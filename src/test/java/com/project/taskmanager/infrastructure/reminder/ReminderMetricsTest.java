@@ -0,0 +1,49 @@
+package com.project.taskmanager.infrastructure.reminder;
+
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.infrastructure.service.ReminderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReminderMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBindTo_ReportsQueueAndDispatchCounts() throws Exception {
+        // Arrange
+        ReminderDispatcher dispatcher = new ReminderDispatcher(List.of(), 1, 8,
+                ReminderDispatcher.RejectionPolicy.BLOCK, new ReminderDispatcher.RetryPolicy(1, 1, 1),
+                tempDir.resolve("dead-letter.log"));
+        ReminderService reminderService = new ReminderService(mock(TaskRepository.class), dispatcher, 60);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Task task = new Task("task-1", "Task", Priority.HIGH, Instant.now().minus(1, ChronoUnit.MINUTES), Category.WORK,
+                "user1", null, Instant.now().minus(1, ChronoUnit.HOURS));
+
+        // Act
+        new ReminderMetrics(reminderService, dispatcher).bindTo(registry);
+        dispatcher.dispatch(task);
+        dispatcher.dispatch(task);
+
+        // Assert
+        assertEquals(8, registry.get("reminder.queue.capacity").gauge().value());
+        assertEquals(1, registry.get("reminder.queue.size").gauge().value());
+        assertEquals(1, registry.get("reminder.in-flight").gauge().value());
+        assertEquals(1, registry.get("reminder.queued").functionCounter().count());
+        assertEquals(1, registry.get("reminder.deduplicated").functionCounter().count());
+        assertEquals(0, registry.get("reminder.scans.skipped").functionCounter().count());
+    }
+}
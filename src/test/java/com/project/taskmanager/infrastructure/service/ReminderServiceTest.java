@@ -4,32 +4,70 @@ import com.project.taskmanager.domain.entity.Task;
 import com.project.taskmanager.domain.repository.TaskRepository;
 import com.project.taskmanager.domain.valueobject.Category;
 import com.project.taskmanager.domain.valueobject.Priority;
+import com.project.taskmanager.infrastructure.reminder.ReminderDispatcher;
+import com.project.taskmanager.infrastructure.reminder.ReminderSink;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.time.LocalDateTime;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ReminderServiceTest {
 
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+
     @Mock
     private TaskRepository taskRepository;
 
+    @TempDir
+    Path tempDir;
+
+    private final List<Task> delivered = new CopyOnWriteArrayList<>();
     private ReminderService reminderService;
     private AutoCloseable mocks;
 
     @BeforeEach
     void setUp() {
         mocks = MockitoAnnotations.openMocks(this);
-        reminderService = new ReminderService(taskRepository, 2, 1);
+        ReminderSink sink = new ReminderSink() {
+            @Override
+            public String name() {
+                return "recording";
+            }
+
+            @Override
+            public int maxConcurrency() {
+                return 1;
+            }
+
+            @Override
+            public void deliver(Task task) {
+                delivered.add(task);
+            }
+        };
+        ReminderDispatcher dispatcher = new ReminderDispatcher(List.of(sink), 2, 10,
+                ReminderDispatcher.RejectionPolicy.BLOCK, new ReminderDispatcher.RetryPolicy(1, 1, 1),
+                tempDir.resolve("dead-letter.log"));
+        reminderService = new ReminderService(taskRepository, dispatcher, 1);
     }
 
     @AfterEach
@@ -43,12 +81,13 @@ class ReminderServiceTest {
     @Test
     void testReminderProcessing() throws InterruptedException {
         // Arrange
-        Task dueTask = new Task("Due Task", Priority.HIGH,
-                LocalDateTime.now().minusMinutes(5),
-                Category.WORK, "user1");
+        Task dueTask = new Task(UUID.randomUUID().toString(), "Due Task", Priority.HIGH,
+                Instant.now().minus(5, ChronoUnit.MINUTES),
+                Category.WORK, "user1", null, CREATED_AT);
 
         when(taskRepository.findDueTasks()).thenReturn(Arrays.asList(dueTask));
         when(taskRepository.findById(dueTask.getId())).thenReturn(Optional.of(dueTask));
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
 
         // Act
         reminderService.start();
@@ -56,6 +95,76 @@ class ReminderServiceTest {
 
         // Assert
         verify(taskRepository, atLeastOnce()).findDueTasks();
-        verify(taskRepository, atLeastOnce()).update(any(Task.class));
+        verify(taskRepository, atLeastOnce()).compareAndUpdate(any(Task.class), eq(dueTask.getVersion()));
+        assertEquals(dueTask.getId(), delivered.get(0).getId());
+    }
+
+    @Test
+    void testSlowScan_SkipsTicksInsteadOfQueueingThem() throws Exception {
+        // Arrange
+        reminderService.shutdown();
+        CountDownLatch release = new CountDownLatch(1);
+        ReminderSink blockingSink = new ReminderSink() {
+            @Override
+            public String name() {
+                return "blocking";
+            }
+
+            @Override
+            public int maxConcurrency() {
+                return 1;
+            }
+
+            @Override
+            public void deliver(Task task) throws InterruptedException {
+                release.await();
+            }
+        };
+        // One worker stuck on the sink and a one-slot queue: the third task blocks the scan
+        ReminderDispatcher dispatcher = new ReminderDispatcher(List.of(blockingSink), 1, 1,
+                ReminderDispatcher.RejectionPolicy.BLOCK, new ReminderDispatcher.RetryPolicy(1, 1, 1),
+                tempDir.resolve("dead-letter.log"));
+        reminderService = new ReminderService(taskRepository, dispatcher, 1);
+        List<Task> dueTasks = List.of(dueTask("First"), dueTask("Second"), dueTask("Third"));
+        when(taskRepository.findDueTasks()).thenReturn(dueTasks);
+        when(taskRepository.findById(any())).thenAnswer(invocation -> dueTasks.stream()
+                .filter(task -> task.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(taskRepository.compareAndUpdate(any(Task.class), anyLong())).thenReturn(true);
+
+        // Act
+        reminderService.start();
+        TimeUnit.MILLISECONDS.sleep(2500);
+        long skipped = reminderService.getSkippedTicks();
+        long scans = reminderService.getScans();
+        release.countDown();
+
+        // Assert
+        assertTrue(skipped >= 1, "expected skipped ticks, got " + skipped);
+        assertEquals(0, scans);
+        verify(taskRepository, times(1)).findDueTasks();
+    }
+
+    @Test
+    void testInitialDelay_DefersFirstScan() throws Exception {
+        // Arrange
+        reminderService.shutdown();
+        ReminderDispatcher dispatcher = new ReminderDispatcher(List.of(), 1, 1,
+                ReminderDispatcher.RejectionPolicy.BLOCK, new ReminderDispatcher.RetryPolicy(1, 1, 1),
+                tempDir.resolve("dead-letter.log"));
+        reminderService = new ReminderService(taskRepository, dispatcher, 3600, 1);
+
+        // Act
+        reminderService.start();
+        TimeUnit.MILLISECONDS.sleep(500);
+
+        // Assert
+        assertEquals(0, reminderService.getScans());
+        verify(taskRepository, never()).findDueTasks();
+    }
+
+    private static Task dueTask(String title) {
+        return new Task(UUID.randomUUID().toString(), title, Priority.HIGH, Instant.now().minus(5, ChronoUnit.MINUTES),
+                Category.WORK, "user1", null, CREATED_AT);
     }
 }
\ No newline at end of file
@@ -6,15 +6,20 @@ import com.project.taskmanager.domain.valueobject.Priority;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class TaskSortingServiceTest {
 
+    private static final Instant CREATED_AT = Instant.parse("2025-11-15T09:00:00Z");
+
     private TaskSortingService sortingService;
 
     @BeforeEach
@@ -26,9 +31,9 @@ class TaskSortingServiceTest {
     void testSortByPriority() {
         // Arrange
         List<Task> tasks = new ArrayList<>();
-        tasks.add(new Task("Low Priority", Priority.LOW, LocalDateTime.now(), Category.WORK, "user1"));
-        tasks.add(new Task("High Priority", Priority.HIGHEST, LocalDateTime.now(), Category.WORK, "user1"));
-        tasks.add(new Task("Medium Priority", Priority.MEDIUM, LocalDateTime.now(), Category.WORK, "user1"));
+        tasks.add(newTask("Low Priority", Priority.LOW, Instant.now(), Category.WORK, "user1"));
+        tasks.add(newTask("High Priority", Priority.HIGHEST, Instant.now(), Category.WORK, "user1"));
+        tasks.add(newTask("Medium Priority", Priority.MEDIUM, Instant.now(), Category.WORK, "user1"));
 
         // Act
         Comparator<Task> comparator = sortingService.getComparator(TaskSortingService.SortCriteria.PRIORITY);
@@ -43,11 +48,11 @@ class TaskSortingServiceTest {
     @Test
     void testSortByDueDate() {
         // Arrange
-        LocalDateTime now = LocalDateTime.now();
+        Instant now = Instant.now();
         List<Task> tasks = new ArrayList<>();
-        tasks.add(new Task("Future", Priority.MEDIUM, now.plusDays(5), Category.WORK, "user1"));
-        tasks.add(new Task("Tomorrow", Priority.MEDIUM, now.plusDays(1), Category.WORK, "user1"));
-        tasks.add(new Task("Next Week", Priority.MEDIUM, now.plusDays(7), Category.WORK, "user1"));
+        tasks.add(newTask("Future", Priority.MEDIUM, now.plus(5, ChronoUnit.DAYS), Category.WORK, "user1"));
+        tasks.add(newTask("Tomorrow", Priority.MEDIUM, now.plus(1, ChronoUnit.DAYS), Category.WORK, "user1"));
+        tasks.add(newTask("Next Week", Priority.MEDIUM, now.plus(7, ChronoUnit.DAYS), Category.WORK, "user1"));
 
         // Act
         Comparator<Task> comparator = sortingService.getComparator(TaskSortingService.SortCriteria.DUE_DATE);
@@ -63,9 +68,9 @@ class TaskSortingServiceTest {
     void testSortByCategory() {
         // Arrange
         List<Task> tasks = new ArrayList<>();
-        tasks.add(new Task("Work Task", Priority.MEDIUM, LocalDateTime.now(), Category.WORK, "user1"));
-        tasks.add(new Task("Health Task", Priority.MEDIUM, LocalDateTime.now(), Category.HEALTH, "user1"));
-        tasks.add(new Task("Personal Task", Priority.MEDIUM, LocalDateTime.now(), Category.PERSONAL, "user1"));
+        tasks.add(newTask("Work Task", Priority.MEDIUM, Instant.now(), Category.WORK, "user1"));
+        tasks.add(newTask("Health Task", Priority.MEDIUM, Instant.now(), Category.HEALTH, "user1"));
+        tasks.add(newTask("Personal Task", Priority.MEDIUM, Instant.now(), Category.PERSONAL, "user1"));
 
         // Act
         Comparator<Task> comparator = sortingService.getComparator(TaskSortingService.SortCriteria.CATEGORY);
@@ -84,4 +89,21 @@ class TaskSortingServiceTest {
             sortingService.getComparator("INVALID");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCriteriaOf_OnlyNamesSingleCriteriaComparators() {
+        // Arrange
+        Comparator<Task> dueDate = sortingService.getComparator("due_date");
+        Comparator<Task> combined = sortingService.getMultiCriteriaComparator(
+                TaskSortingService.SortCriteria.PRIORITY, TaskSortingService.SortCriteria.DUE_DATE);
+
+        // Act & Assert
+        assertEquals(Optional.of(TaskSortingService.SortCriteria.DUE_DATE), sortingService.criteriaOf(dueDate));
+        assertEquals(Optional.empty(), sortingService.criteriaOf(combined));
+        assertEquals(Optional.empty(), sortingService.criteriaOf(Comparator.comparing(Task::getTitle)));
+    }
+
+    private static Task newTask(String title, Priority priority, Instant dueDate, Category category, String userId) {
+        return new Task(UUID.randomUUID().toString(), title, priority, dueDate, category, userId, null, CREATED_AT);
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.taskmanager.infrastructure.time;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoarseClockTest {
+
+    private static final Instant START = Instant.parse("2025-11-15T10:00:00Z");
+
+    @Test
+    void testInstant_HoldsCachedTimeAndNeverGoesBack() {
+        // Arrange
+        try (CoarseClock clock = new CoarseClock(Clock.fixed(START, ZoneOffset.UTC), Duration.ofHours(1))) {
+
+            // Act & Assert
+            assertEquals(START, clock.instant());
+            clock.advance(START.plusMillis(5));
+            assertEquals(START.plusMillis(5), clock.instant());
+            assertEquals(START.plusMillis(5).toEpochMilli(), clock.millis());
+            clock.advance(START.plusMillis(2));
+            assertEquals(START.plusMillis(5), clock.instant());
+        }
+    }
+
+    @Test
+    void testWithZone_SharesTheTicker() {
+        // Arrange
+        try (CoarseClock clock = new CoarseClock(Clock.fixed(START, ZoneOffset.UTC), Duration.ofHours(1))) {
+            Clock paris = clock.withZone(ZoneId.of("Europe/Paris"));
+
+            // Act
+            clock.advance(START.plusSeconds(1));
+
+            // Assert
+            assertEquals(ZoneId.of("Europe/Paris"), paris.getZone());
+            assertEquals(START.plusSeconds(1), paris.instant());
+            assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    void testTicker_FollowsSourceClock() throws InterruptedException {
+        // Arrange
+        try (CoarseClock clock = new CoarseClock(Clock.systemUTC(), Duration.ofMillis(1))) {
+            Instant first = clock.instant();
+
+            // Act
+            Thread.sleep(50);
+
+            // Assert
+            assertTrue(clock.instant().isAfter(first));
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.project.taskmanager.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.TaskManagerApplication;
+import com.project.taskmanager.domain.entity.Task;
+import com.project.taskmanager.domain.repository.TaskRepository;
+import com.project.taskmanager.domain.valueobject.Category;
+import com.project.taskmanager.domain.valueobject.Priority;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Boots the application, seeds it with tasks and drives a weighted mix of create, list, get,
+ * update and delete requests from many virtual users, then prints throughput and latency
+ * percentiles per endpoint.
+ * <p>
+ * Each virtual user is a virtual thread sending one request at a time. The user id of every
+ * request follows a Zipf distribution, so a few users are far busier than the rest. Seeded tasks
+ * go straight into the repository, spread evenly over the users, so keep {@code tasks / users}
+ * at a realistic list size when scaling up. Client and server share one JVM and machine, so
+ * compare runs with each other rather than reading the numbers as capacity. Ten million tasks
+ * need a heap of about 8 GB, or tiered storage.
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dload-test.tasks=1000000 -Dload-test.users=20000 \
+ *     -Dload-test.virtual-users=200 -Dload-test.duration-seconds=60 -Dload-test.heap=4g \
+ *     -Dload-test.app-args="--tasks.write-coalescer.enabled=true"
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final String[] SORT_FIELDS = {"PRIORITY", "DUE_DATE", "CATEGORY", "CREATED_AT"};
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final int tasks = Integer.getInteger("load-test.tasks", 100_000);
+    private final int users = Integer.getInteger("load-test.users", 10_000);
+    private final double zipfExponent = Double.parseDouble(System.getProperty("load-test.zipf-exponent", "1.0"));
+    private final int virtualUsers = Integer.getInteger("load-test.virtual-users", 200);
+    private final int warmupSeconds = Integer.getInteger("load-test.warmup-seconds", 10);
+    private final int durationSeconds = Integer.getInteger("load-test.duration-seconds", 60);
+    private final long seed = Long.getLong("load-test.seed", 42);
+    private final OperationMix mix = OperationMix.parse(
+            System.getProperty("load-test.mix", "create=10,list=40,get=30,update=15,delete=5"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String[] userIds;
+    private final UserTasks[] userTasks;
+    private final ZipfDistribution zipf;
+    private String baseUrl;
+
+    private LoadHarness() {
+        userIds = new String[users];
+        userTasks = new UserTasks[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = "load-user-" + i;
+            userTasks[i] = new UserTasks();
+        }
+        zipf = new ZipfDistribution(users, zipfExponent);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String appArgs = System.getProperty("load-test.app-args", "").trim();
+        new LoadHarness().run(appArgs.isEmpty() ? new String[0] : appArgs.split("\\s+"));
+    }
+
+    private void run(String[] appArgs) throws Exception {
+        // System properties outrank application.properties; arguments in load-test.app-args
+        // still override them
+        for (String property : List.of(
+                "server.port=0",
+                "tasks.rate-limit.enabled=false",
+                "tasks.access-log.enabled=false",
+                "tasks.quota.max-tasks-per-user=0",
+                "tasks.quota.max-bytes-per-user=0",
+                "logging.level.com.project.taskmanager=WARN")) {
+            String[] keyValue = property.split("=", 2);
+            System.getProperties().putIfAbsent(keyValue[0], keyValue[1]);
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(appArgs)) {
+
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            long seedStart = System.nanoTime();
+            seed(context.getBean(TaskRepository.class));
+            System.out.printf("%nSeeded %,d tasks for %,d users in %.1f s%n", tasks, users,
+                    (System.nanoTime() - seedStart) / 1e9);
+
+            drive(warmupSeconds);
+            Map<Operation, Recording> results = drive(durationSeconds);
+
+            System.out.printf("%d virtual users, mix %s, Zipf exponent %.2f (top 1%% of users send %.0f%% of requests)%n",
+                    virtualUsers, mix, zipfExponent, 100 * zipf.headShare(Math.max(1, users / 100)));
+            System.out.printf("%d s measured after %d s warm-up%n%n", durationSeconds, warmupSeconds);
+            report(results);
+        }
+    }
+
+    private void seed(TaskRepository repository) {
+        Instant now = Instant.now();
+        IntStream.range(0, tasks).parallel().forEach(i -> {
+            int user = i % users;
+            SplittableRandom random = new SplittableRandom(seed + i);
+            // Due well after the run, so the reminder scan finds nothing to send
+            Task task = repository.save(new Task(UUID.randomUUID().toString(), "Seeded task " + i,
+                    PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    now.plus(Duration.ofDays(1 + random.nextInt(60)).plusMinutes(random.nextInt(1440))),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], userIds[user], null, now));
+            userTasks[user].add(task.getId());
+        });
+    }
+
+    private Map<Operation, Recording> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        SplittableRandom parent = new SplittableRandom(seed);
+        List<Future<Map<Operation, Recording>>> futures = new ArrayList<>(virtualUsers);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < virtualUsers; i++) {
+                SplittableRandom random = parent.split();
+                futures.add(executor.submit(() -> virtualUser(random, deadline)));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<Operation, Recording> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Recording>> future : futures) {
+            future.get().forEach((operation, recording) ->
+                    merged.computeIfAbsent(operation, k -> new Recording()).addAll(recording));
+        }
+        merged.values().forEach(recording -> recording.elapsedNanos = elapsed);
+        return merged;
+    }
+
+    private Map<Operation, Recording> virtualUser(SplittableRandom random, long deadline) {
+        Map<Operation, Recording> recordings = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline) {
+            int user = zipf.sample(random);
+            Operation operation = mix.pick(random);
+            String taskId = null;
+            if (operation.needsTask()) {
+                taskId = operation == Operation.DELETE
+                        ? userTasks[user].removeAny(random) : userTasks[user].any(random);
+                if (taskId == null) {
+                    operation = Operation.CREATE;
+                }
+            }
+
+            long sent = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = send(operation, user, taskId, random);
+            } catch (Exception e) {
+                succeeded = false;
+            }
+            recordings.computeIfAbsent(operation, k -> new Recording()).record(System.nanoTime() - sent, succeeded);
+        }
+        return recordings;
+    }
+
+    private boolean send(Operation operation, int user, String taskId, SplittableRandom random) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder().header("X-User-Id", userIds[user]);
+        switch (operation) {
+            case CREATE -> {
+                HttpResponse<String> response = client.send(request.uri(URI.create(baseUrl + "/api/tasks"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(taskJson(random)))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 201) {
+                    return false;
+                }
+                userTasks[user].add(objectMapper.readTree(response.body()).get("id").asText());
+                return true;
+            }
+            case LIST -> {
+                String sortBy = SORT_FIELDS[random.nextInt(SORT_FIELDS.length)];
+                return client.send(request.uri(URI.create(baseUrl + "/api/tasks?sortBy=" + sortBy)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            }
+            case GET -> {
+                return client.send(request.uri(URI.create(baseUrl + "/api/tasks/" + taskId)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            }
+            case UPDATE -> {
+                return client.send(request.uri(URI.create(baseUrl + "/api/tasks/" + taskId))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                "{\"title\":\"Updated " + random.nextInt(1_000_000) + "\"}"))
+                        .build(), HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            }
+            case DELETE -> {
+                return client.send(request.uri(URI.create(baseUrl + "/api/tasks/" + taskId)).DELETE().build(),
+                        HttpResponse.BodyHandlers.discarding()).statusCode() == 204;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private static String taskJson(SplittableRandom random) {
+        return "{\"title\":\"Load task " + random.nextInt(1_000_000) + "\",\"priority\":"
+                + PRIORITIES[random.nextInt(PRIORITIES.length)].getValue()
+                + ",\"dueDate\":\"" + LocalDateTime.now().plusDays(1 + random.nextInt(60)).withNano(0)
+                + "\",\"category\":\"" + CATEGORIES[random.nextInt(CATEGORIES.length)] + "\"}";
+    }
+
+    private static void report(Map<Operation, Recording> results) {
+        System.out.printf("%-24s %10s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "failed", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        Recording total = new Recording();
+        for (Operation operation : Operation.values()) {
+            Recording recording = results.get(operation);
+            if (recording != null) {
+                System.out.println(recording.summary(operation.label));
+                total.addAll(recording);
+                total.elapsedNanos = recording.elapsedNanos;
+            }
+        }
+        System.out.println(total.summary("total"));
+    }
+
+    enum Operation {
+        CREATE("POST /api/tasks"),
+        LIST("GET /api/tasks"),
+        GET("GET /api/tasks/{id}"),
+        UPDATE("PUT /api/tasks/{id}"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        boolean needsTask() {
+            return this == GET || this == UPDATE || this == DELETE;
+        }
+    }
+
+    /**
+     * Weighted choice of operation, parsed from e.g. {@code create=10,list=40,get=30}.
+     */
+    private record OperationMix(Operation[] operations, int[] cumulativeWeights, String spec) {
+
+        static OperationMix parse(String spec) {
+            List<Operation> operations = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int sum = 0;
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split("=");
+                int weight = Integer.parseInt(parts[1].trim());
+                if (weight > 0) {
+                    sum += weight;
+                    operations.add(Operation.valueOf(parts[0].trim().toUpperCase()));
+                    cumulative.add(sum);
+                }
+            }
+            if (operations.isEmpty()) {
+                throw new IllegalArgumentException("Operation mix has no positive weights: " + spec);
+            }
+            return new OperationMix(operations.toArray(Operation[]::new),
+                    cumulative.stream().mapToInt(Integer::intValue).toArray(), spec);
+        }
+
+        Operation pick(SplittableRandom random) {
+            int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (target < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            return spec;
+        }
+    }
+
+    // Ids the harness knows to exist for one user; deletes take an id out before sending
+    private static final class UserTasks {
+        private final List<String> ids = new ArrayList<>();
+
+        synchronized void add(String id) {
+            ids.add(id);
+        }
+
+        synchronized String any(SplittableRandom random) {
+            return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized String removeAny(SplittableRandom random) {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(ids.size());
+            String id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+
+    // Latencies of one endpoint, kept per virtual user and merged at the end
+    private static final class Recording {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long failed;
+        private long elapsedNanos;
+
+        void record(long latencyNanos, boolean succeeded) {
+            if (!succeeded) {
+                failed++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        void addAll(Recording other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            failed += other.failed;
+        }
+
+        String summary(String label) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return String.format("%-24s %10d %8d %9.0f %9.2f %9.2f %9.2f %9.2f", label, count, failed,
+                    count / (elapsedNanos / 1e9), percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
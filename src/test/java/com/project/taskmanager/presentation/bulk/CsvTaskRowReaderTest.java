@@ -0,0 +1,141 @@
+package com.project.taskmanager.presentation.bulk;
+
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.RecurrenceResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTaskRowReaderTest {
+
+    @Test
+    void testNext_ParsesQuotedFieldsAndReportsStartLines() throws IOException {
+        // Arrange
+        String csv = "\uFEFFCategory,Title,dueDate,priority,unknown\r\n"
+                + "WORK,Plain title,2025-11-01T09:00:00,3,x\r\n"
+                + "\r\n"
+                + "PERSONAL,\"Comma, \"\"quote\"\" and\nline break\",2025-11-02T10:30,5,\n"
+                + "SHOPPING,Last,2025-11-03T08:00:00,1";
+
+        // Act
+        List<ImportRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals(2, rows.get(0).line());
+        assertEquals("Plain title", rows.get(0).request().getTitle());
+        assertEquals(3, rows.get(0).request().getPriority());
+        assertEquals(LocalDateTime.of(2025, 11, 1, 9, 0), rows.get(0).request().getDueDate());
+        assertEquals(4, rows.get(1).line());
+        assertEquals("Comma, \"quote\" and\nline break", rows.get(1).request().getTitle());
+        assertEquals(6, rows.get(2).line());
+        assertEquals("SHOPPING", rows.get(2).request().getCategory());
+        assertNull(rows.get(2).request().getRecurrence());
+    }
+
+    @Test
+    void testNext_RejectsBadRecordsAndCarriesOn() throws IOException {
+        // Arrange
+        String csv = "title,priority,dueDate,category\n"
+                + "Bad priority,high,2025-11-01T09:00:00,WORK\n"
+                + "Bad date,3,tomorrow,WORK\n"
+                + ",3,2025-11-01T09:00:00,WORK\n"
+                + "Good,3,2025-11-01T09:00:00,WORK\n";
+
+        // Act
+        List<ImportRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(4, rows.size());
+        assertEquals("Invalid priority: high", rows.get(0).error());
+        assertTrue(rows.get(1).error().startsWith("Invalid dueDate: tomorrow"));
+        // Missing values are left to bean validation
+        assertFalse(rows.get(2).isRejected());
+        assertNull(rows.get(2).request().getTitle());
+        assertFalse(rows.get(3).isRejected());
+    }
+
+    @Test
+    void testNext_RejectsOverlongRecordWithoutKeepingIt() throws IOException {
+        // Arrange
+        String csv = "title,priority,dueDate,category\n"
+                + "x".repeat(RecordInput.MAX_RECORD_CHARS + 10) + ",3,2025-11-01T09:00:00,WORK\n"
+                + "After,3,2025-11-01T09:00:00,WORK\n";
+
+        // Act
+        List<ImportRow> rows = readAll(csv);
+
+        // Assert
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(0).isRejected());
+        assertEquals(3, rows.get(1).line());
+        assertEquals("After", rows.get(1).request().getTitle());
+    }
+
+    @Test
+    void testNext_HeaderWithoutRequiredColumnsFails() {
+        // Arrange
+        CsvTaskRowReader reader = new CsvTaskRowReader(new StringReader("title,priority\nA,3\n"));
+
+        // Act & Assert
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+        assertEquals("CSV header is missing required columns: dueDate, category", e.getMessage());
+    }
+
+    @Test
+    void testWriter_OutputReadsBackIncludingRecurrence() throws IOException {
+        // Arrange
+        LocalDateTime due = LocalDateTime.of(2025, 11, 1, 9, 0);
+        TaskResponse task = TaskResponse.builder()
+                .id("01JAB")
+                .title("Water plants, then \"rest\"")
+                .priority(2)
+                .dueDate(due)
+                .category("PERSONAL")
+                .createdAt(due.minusDays(1))
+                .updatedAt(due.minusDays(1))
+                .version(3)
+                .recurrence(new RecurrenceResponse("WEEKLY", 2, due.plusWeeks(8), "UTC",
+                        due.plusWeeks(8).toInstant(ZoneOffset.UTC)))
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        CsvTaskRowWriter writer = new CsvTaskRowWriter(out);
+        writer.write(task);
+        writer.flush();
+        List<ImportRow> rows = readAll(out.toString(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(1, rows.size());
+        CreateTaskRequest request = rows.get(0).request();
+        assertEquals(task.getTitle(), request.getTitle());
+        assertEquals(2, request.getPriority());
+        assertEquals(due, request.getDueDate());
+        assertEquals("PERSONAL", request.getCategory());
+        assertEquals("WEEKLY", request.getRecurrence().getFrequency());
+        assertEquals(2, request.getRecurrence().getInterval());
+        assertEquals(due.plusWeeks(8), request.getRecurrence().getUntil());
+    }
+
+    private static List<ImportRow> readAll(String csv) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (CsvTaskRowReader reader = new CsvTaskRowReader(new StringReader(csv))) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.UpdateTaskRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.main.web-application-type=servlet")
+@AutoConfigureMockMvc
+class AsyncTaskControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testTaskLifecycle() throws Exception {
+        CreateTaskRequest createRequest = new CreateTaskRequest(
+                "Async Task", 3, LocalDateTime.now().plusDays(1), "WORK");
+
+        MvcResult createResult = performAsync(post("/api/async/tasks")
+                .header("X-User-Id", "asyncUser")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title").value("Async Task"))
+                .andReturn();
+
+        String taskId = objectMapper.readTree(createResult.getResponse().getContentAsString())
+                .get("id").asText();
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setPriority(5);
+
+        performAsync(put("/api/async/tasks/" + taskId)
+                .header("X-User-Id", "asyncUser")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priority").value(5))
+                .andExpect(jsonPath("$.version").value(2));
+
+        performAsync(get("/api/async/tasks")
+                .header("X-User-Id", "asyncUser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+
+        performAsync(delete("/api/async/tasks/" + taskId)
+                .header("X-User-Id", "asyncUser"))
+                .andExpect(status().isNoContent());
+
+        performAsync(get("/api/async/tasks/" + taskId)
+                .header("X-User-Id", "asyncUser"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateTask_UnauthorizedUser() throws Exception {
+        CreateTaskRequest createRequest = new CreateTaskRequest(
+                "Owned Task", 3, LocalDateTime.now().plusDays(1), "WORK");
+
+        MvcResult createResult = performAsync(post("/api/async/tasks")
+                .header("X-User-Id", "owner")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        String taskId = objectMapper.readTree(createResult.getResponse().getContentAsString())
+                .get("id").asText();
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setTitle("Hijacked");
+
+        performAsync(put("/api/async/tasks/" + taskId)
+                .header("X-User-Id", "intruder")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isForbidden());
+    }
+
+    private ResultActions performAsync(RequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
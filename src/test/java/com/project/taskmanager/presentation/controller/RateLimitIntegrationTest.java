@@ -0,0 +1,40 @@
+package com.project.taskmanager.presentation.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",
+        "tasks.rate-limit.endpoints.getTasks.requests-per-second=1",
+        "tasks.rate-limit.endpoints.getTasks.burst=2"
+})
+@AutoConfigureMockMvc
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testGetTasks_ReturnsTooManyRequestsWithRetryAfter() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/tasks").header("X-User-Id", "noisyUser"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/tasks").header("X-User-Id", "noisyUser"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(get("/api/tasks").header("X-User-Id", "quietUser"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/count").header("X-User-Id", "noisyUser"))
+                .andExpect(status().isOk());
+    }
+}
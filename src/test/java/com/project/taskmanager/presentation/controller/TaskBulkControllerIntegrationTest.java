@@ -0,0 +1,164 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",
+        "tasks.import.batch-size=2",
+        "tasks.stats.consistency-check=true"
+})
+@AutoConfigureMockMvc
+class TaskBulkControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testImportNdjson_ValidatesEachRecordAndReportsRejections() throws Exception {
+        String body = """
+                {"title": "Buy groceries", "priority": 3, "dueDate": "2030-11-15T10:00:00", "category": "SHOPPING"}
+                {"title": "Too urgent", "priority": 9, "dueDate": "2030-11-15T10:00:00", "category": "WORK"}
+
+                not json
+                {"title": "Water plants", "priority": 2, "dueDate": "2030-11-15T09:00:00", "category": "PERSONAL", "recurrence": {"frequency": "DAILY"}}
+                {"title": "Unknown category", "priority": 2, "dueDate": "2030-11-15T09:00:00", "category": "HOBBY"}
+                {"title": "Report", "priority": 4, "dueDate": "2030-11-16T09:00:00", "category": "WORK"}
+                {"title": "Two records", "priority": 1, "dueDate": "2030-11-16T09:00:00", "category": "WORK"} {}
+                """;
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("X-User-Id", "bulk-ndjson-user")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("priority: Priority must be between 1 and 5"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[1].message", startsWith("Malformed record")))
+                .andExpect(jsonPath("$.errors[2].line").value(6))
+                .andExpect(jsonPath("$.errors[2].message").value("Invalid category: HOBBY"))
+                .andExpect(jsonPath("$.errors[3].line").value(8))
+                .andExpect(jsonPath("$.errors[3].message", startsWith("Malformed record")));
+
+        mockMvc.perform(get("/api/tasks/count")
+                        .header("X-User-Id", "bulk-ndjson-user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+    }
+
+    @Test
+    void testExportCsv_RoundTripsThroughImport() throws Exception {
+        String csv = "title,priority,dueDate,category,recurrenceFrequency\n"
+                + "\"Plan trip, book hotel\",4,2030-06-01T18:00:00,PERSONAL,\n"
+                + "Stand-up,3,2030-06-02T09:30:00,WORK,DAILY\n";
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("X-User-Id", "bulk-csv-user")
+                        .header(TaskRequestParams.USER_ZONE_HEADER, "Europe/Paris")
+                        .contentType("text/csv; charset=UTF-8")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        String exported = export("bulk-csv-user", "csv", "Europe/Paris");
+        List<String> lines = Arrays.asList(exported.split("\r\n"));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("id,title,priority,dueDate,category,recurrenceFrequency"));
+        assertTrue(exported.contains("\"Plan trip, book hotel\",4,2030-06-01T18:00,PERSONAL"));
+        assertTrue(exported.contains(",Stand-up,3,2030-06-02T09:30,WORK,DAILY,1,"));
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("X-User-Id", "bulk-copy-user")
+                        .header(TaskRequestParams.USER_ZONE_HEADER, "Europe/Paris")
+                        .contentType("text/csv")
+                        .content(exported))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        // Same local times in the same zone, so the same instants
+        String copied = export("bulk-copy-user", "ndjson", null);
+        String original = export("bulk-csv-user", "ndjson", null);
+        assertEquals(dueDates(original), dueDates(copied));
+    }
+
+    @Test
+    void testImport_RejectsUnsupportedContentTypeAndBadHeader() throws Exception {
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("X-User-Id", "bulk-bad-user")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Unsupported Content-Type")));
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("X-User-Id", "bulk-bad-user")
+                        .contentType("text/csv")
+                        .content("name,when\nA,B\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("missing required columns")));
+    }
+
+    @Test
+    void testExport_UnknownFormatIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/export")
+                        .header("X-User-Id", "bulk-bad-user")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String export(String userId, String format, String zone) throws Exception {
+        var builder = get("/api/tasks/export")
+                .header("X-User-Id", userId)
+                .param("format", format);
+        if (zone != null) {
+            builder.header(TaskRequestParams.USER_ZONE_HEADER, zone);
+        }
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("tasks." + format)))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<String> dueDates(String ndjson) throws Exception {
+        return ndjson.lines()
+                .map(line -> {
+                    try {
+                        JsonNode task = objectMapper.readTree(line);
+                        return task.get("title").asText() + "@" + task.get("dueDate").asText();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .sorted()
+                .toList();
+    }
+}
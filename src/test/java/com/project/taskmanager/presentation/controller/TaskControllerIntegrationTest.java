@@ -2,6 +2,7 @@ package com.project.taskmanager.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.taskmanager.application.dto.CreateTaskRequest;
+import com.project.taskmanager.application.dto.RecurrenceRequest;
 import com.project.taskmanager.application.dto.UpdateTaskRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,10 +14,17 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=servlet",
+        "tasks.stats.consistency-check=true"
+})
 @AutoConfigureMockMvc
 class TaskControllerIntegrationTest {
 
@@ -45,6 +53,34 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.category").value("WORK"));
     }
 
+    @Test
+    void testGetTasks_ExpandsRecurringTaskWithinDateRange() throws Exception {
+        LocalDateTime first = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        CreateTaskRequest request = new CreateTaskRequest("Water plants", 2, first, "PERSONAL",
+                new RecurrenceRequest("DAILY", 1, first.plusDays(4)));
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "recurring-user")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.recurrence.frequency").value("DAILY"))
+                .andExpect(jsonPath("$.recurrence.interval").value(1));
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "recurring-user")
+                        .param("startDate", first.minusDays(1).toString())
+                        .param("endDate", first.plusDays(10).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.tasks[*].seriesId").isNotEmpty());
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "recurring-user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
     @Test
     void testGetTasks_WithSorting() throws Exception {
         // Create multiple tasks
@@ -130,4 +166,245 @@ class TaskControllerIntegrationTest {
                         .header("X-User-Id", "user999"))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateTask_IfMatchVersionMismatch() throws Exception {
+        // Create a task first
+        CreateTaskRequest createRequest = new CreateTaskRequest(
+                "Versioned Task", 3, LocalDateTime.now().plusDays(1), "WORK");
+
+        MvcResult createResult = mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "user321")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andReturn();
+
+        String taskId = objectMapper.readTree(createResult.getResponse().getContentAsString())
+                .get("id").asText();
+
+        UpdateTaskRequest updateRequest = new UpdateTaskRequest();
+        updateRequest.setTitle("Updated Task");
+
+        // Update against the current version
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header("X-User-Id", "user321")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.version").value(2));
+
+        // A second write against the stale version is rejected
+        mockMvc.perform(put("/api/tasks/" + taskId)
+                        .header("X-User-Id", "user321")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                        .header("X-User-Id", "user321")
+                        .header("If-Match", "\"1\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testSearchTasks_PrefixMatch() throws Exception {
+        CreateTaskRequest groceries = new CreateTaskRequest("Buy groceries", 3,
+                LocalDateTime.now().plusDays(1), "SHOPPING");
+        CreateTaskRequest report = new CreateTaskRequest("Write report", 4,
+                LocalDateTime.now().plusDays(2), "WORK");
+
+        for (CreateTaskRequest request : new CreateTaskRequest[]{groceries, report}) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("X-User-Id", "searchUser")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/tasks/search")
+                        .header("X-User-Id", "searchUser")
+                        .param("q", "groc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Buy groceries"));
+
+        mockMvc.perform(get("/api/tasks/search")
+                        .header("X-User-Id", "otherUser")
+                        .param("q", "groc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    void testGetTasks_NegotiatesProtobuf() throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest("Binary task", 2,
+                LocalDateTime.now().plusDays(1), "HEALTH");
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "protobufUser")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "protobufUser")
+                        .accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "protobufUser")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(1));
+    }
+
+    @Test
+    void testGetTasks_NotModifiedUntilUserWrites() throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest("Poll me", 3,
+                LocalDateTime.now().plusDays(1), "WORK");
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        String eTag = mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "etagUser"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        // Writes by someone else leave the listing valid
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "otherEtagUser")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.total").value(2));
+
+        // Overdue listings depend on the clock, so they carry no validator
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "etagUser")
+                        .param("overdue", "false"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void testGetTasks_WithFilters() throws Exception {
+        CreateTaskRequest overdueWork = new CreateTaskRequest("Overdue work", 4,
+                LocalDateTime.now().minusDays(1), "WORK");
+        CreateTaskRequest upcomingWork = new CreateTaskRequest("Upcoming work", 4,
+                LocalDateTime.now().plusDays(1), "WORK");
+        CreateTaskRequest overdueHealth = new CreateTaskRequest("Overdue health", 2,
+                LocalDateTime.now().minusDays(1), "HEALTH");
+
+        for (CreateTaskRequest request : new CreateTaskRequest[]{overdueWork, upcomingWork, overdueHealth}) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("X-User-Id", "filterUser")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "filterUser")
+                        .param("priority", "4")
+                        .param("category", "work")
+                        .param("overdue", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.tasks[0].title").value("Overdue work"));
+
+        mockMvc.perform(get("/api/tasks/count")
+                        .header("X-User-Id", "filterUser")
+                        .param("priority", "2,4")
+                        .param("overdue", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @Test
+    void testGetStatistics() throws Exception {
+        CreateTaskRequest overdue = new CreateTaskRequest("Overdue", 5,
+                LocalDateTime.now().minusDays(1), "FINANCE");
+        CreateTaskRequest upcoming = new CreateTaskRequest("Upcoming", 5,
+                LocalDateTime.now().plusDays(3), "WORK");
+
+        for (CreateTaskRequest request : new CreateTaskRequest[]{overdue, upcoming}) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("X-User-Id", "statsUser")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/tasks/stats")
+                        .header("X-User-Id", "statsUser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byPriority.5").value(2))
+                .andExpect(jsonPath("$.byCategory.FINANCE").value(1))
+                .andExpect(jsonPath("$.overdue").value(1));
+    }
+
+    @Test
+    void testUserZone_AppliesToTimesInAndOut() throws Exception {
+        CreateTaskRequest request = new CreateTaskRequest("Call Berlin office", 3,
+                LocalDateTime.of(2030, 6, 1, 9, 0), "WORK");
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("X-User-Id", "zoneUser")
+                        .header("X-User-Zone", "Europe/Berlin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.dueDate").value("2030-06-01T09:00:00"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "zoneUser"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(containsString("Europe"))))
+                .andExpect(jsonPath("$.tasks[0].dueDate").value("2030-06-01T07:00:00"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "zoneUser")
+                        .header("X-User-Zone", "America/New_York"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem(containsString("X-User-Zone"))))
+                .andExpect(header().string("ETag", containsString("America/New_York")))
+                .andExpect(jsonPath("$.tasks[0].dueDate").value("2030-06-01T03:00:00"));
+
+        mockMvc.perform(get("/api/tasks")
+                        .header("X-User-Id", "zoneUser")
+                        .header("X-User-Zone", "Mars/Olympus_Mons"))
+                .andExpect(status().isBadRequest());
+    }
+}
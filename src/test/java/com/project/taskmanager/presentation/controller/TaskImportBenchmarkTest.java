@@ -0,0 +1,174 @@
+package com.project.taskmanager.presentation.controller;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.taskmanager.application.dto.ImportTasksResponse;
+import com.project.taskmanager.domain.usecase.ImportTasksUseCase;
+import com.project.taskmanager.domain.valueobject.TenantQuota;
+import com.project.taskmanager.infrastructure.id.UlidTaskIdGenerator;
+import com.project.taskmanager.infrastructure.persistence.InMemoryTaskRepository;
+import com.project.taskmanager.presentation.bulk.BulkFormat;
+import com.project.taskmanager.presentation.bulk.ImportRow;
+import com.project.taskmanager.presentation.bulk.TaskRowReader;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Imports the same body repeatedly on one thread and prints tasks per second for each format,
+ * split into parsing, parsing plus validation, and the whole import into an in-memory
+ * repository.
+ * <p>
+ * A single-threaded loop after a warm-up, so treat the numbers as relative, not absolute.
+ * <pre>
+ * mvn test -Dtest=TaskImportBenchmarkTest -Dbenchmark=true \
+ *     -Dbenchmark.tasks=100000 -Dbenchmark.iterations=10
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskImportBenchmarkTest {
+
+    private static final String[] CATEGORIES = {"WORK", "PERSONAL", "SHOPPING", "HEALTH", "FINANCE"};
+
+    private final int taskCount = Integer.getInteger("benchmark.tasks", 100_000);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void measureImport() throws Exception {
+        byte[] ndjson = ndjson();
+        byte[] csv = csv();
+
+        System.out.printf("%n%d tasks per import, %d iterations%n", taskCount, iterations);
+        System.out.printf("%-8s %-18s %12s%n", "format", "stage", "tasks/s");
+        for (BulkFormat format : BulkFormat.values()) {
+            byte[] body = format == BulkFormat.NDJSON ? ndjson : csv;
+            String contentType = format.getMediaType().toString();
+            report(format, "parse", () -> read(format, body, contentType, false));
+            report(format, "parse + validate", () -> read(format, body, contentType, true));
+            report(format, "import", () -> {
+                ImportTasksResponse response = importBody(body, contentType);
+                assertEquals(0, response.getRejected());
+                return response.getImported();
+            });
+        }
+    }
+
+    private void report(BulkFormat format, String stage, Stage run) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            assertEquals(taskCount, run.run());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            run.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-8s %-18s %,12.0f%n", format.getExtension(), stage, taskCount * iterations / seconds);
+    }
+
+    private long read(BulkFormat format, byte[] body, String contentType, boolean validate) throws Exception {
+        long rows = 0;
+        try (TaskRowReader reader = format.reader(new ByteArrayInputStream(body), contentType, objectMapper)) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                assertFalse(row.isRejected());
+                if (validate) {
+                    assertTrue(validator.validate(row.request()).isEmpty());
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    // A fresh repository per import, so every run writes the same number of tasks
+    private ImportTasksResponse importBody(byte[] body, String contentType) throws Exception {
+        ImportTasksUseCase useCase = new ImportTasksUseCase(new InMemoryTaskRepository(), TenantQuota.UNLIMITED,
+                new UlidTaskIdGenerator(), Clock.systemUTC(), 1000);
+        TaskBulkController controller = new TaskBulkController(useCase, null, validator, objectMapper);
+        return controller.importTasks("benchmark-user", contentType, null, new BodyRequest(body)).getBody();
+    }
+
+    private byte[] ndjson() {
+        StringBuilder body = new StringBuilder();
+        LocalDateTime due = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int i = 0; i < taskCount; i++) {
+            body.append("{\"title\":\"Imported task number ").append(i)
+                    .append("\",\"priority\":").append(i % 5 + 1)
+                    .append(",\"dueDate\":\"").append(due.plusMinutes(i))
+                    .append("\",\"category\":\"").append(CATEGORIES[i % CATEGORIES.length]).append("\"}\n");
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] csv() {
+        StringBuilder body = new StringBuilder("title,priority,dueDate,category\n");
+        LocalDateTime due = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int i = 0; i < taskCount; i++) {
+            body.append("Imported task number ").append(i).append(',').append(i % 5 + 1).append(',')
+                    .append(due.plusMinutes(i)).append(',').append(CATEGORIES[i % CATEGORIES.length]).append('\n');
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        long run() throws Exception;
+    }
+
+    // The mock request's stream reads one byte per call, which would dominate the measurement;
+    // a servlet container reads in bulk
+    private static final class BodyRequest extends MockHttpServletRequest {
+        private final ByteArrayInputStream body;
+
+        BodyRequest(byte[] body) {
+            this.body = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return body.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return body.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
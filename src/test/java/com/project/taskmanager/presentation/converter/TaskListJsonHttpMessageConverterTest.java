@@ -0,0 +1,145 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskListJsonHttpMessageConverterTest {
+
+    private ObjectMapper objectMapper;
+    private TaskListJsonHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        converter = new TaskListJsonHttpMessageConverter(objectMapper, 64);
+    }
+
+    @Test
+    void testWrite_MatchesJacksonOutput() throws Exception {
+        // Arrange
+        TaskListResponse response = new TaskListResponse(Arrays.asList(
+                taskResponse("1", "First", 1),
+                taskResponse("2", "Second \"quoted\"", 3)
+        ));
+
+        // Act
+        String written = write(response);
+
+        // Assert
+        assertEquals(objectMapper.writeValueAsString(response), written);
+    }
+
+    @Test
+    void testWrite_ReusesFragmentUntilVersionChanges() throws Exception {
+        // Arrange
+        TaskResponse original = taskResponse("1", "Original", 1);
+        write(new TaskListResponse(Collections.singletonList(original)));
+
+        // A different object with the same id and version is served from the cache
+        TaskResponse sameVersion = taskResponse("1", "Not serialized", 1);
+        TaskResponse newVersion = taskResponse("1", "Updated", 2);
+
+        // Act
+        String cached = write(new TaskListResponse(Collections.singletonList(sameVersion)));
+        String updated = write(new TaskListResponse(Collections.singletonList(newVersion)));
+
+        // Assert
+        assertTrue(cached.contains("\"Original\""));
+        assertTrue(updated.contains("\"Updated\""));
+    }
+
+    @Test
+    void testWrite_EmptyList() throws Exception {
+        assertEquals("{\"tasks\":[],\"total\":0}", write(new TaskListResponse(Collections.emptyList())));
+    }
+
+    @Test
+    void testWrite_MatchesJacksonBytesForEmptyNullAndPopulatedLists() throws Exception {
+        for (TaskListResponse response : sampleResponses()) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writeBytes(response));
+        }
+    }
+
+    @Test
+    void testWrite_FollowsMapperNamingOfTheEnvelope() throws Exception {
+        // Arrange
+        objectMapper.setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        converter = new TaskListJsonHttpMessageConverter(objectMapper, 64);
+
+        // Act & Assert
+        for (TaskListResponse response : sampleResponses()) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writeBytes(response));
+        }
+    }
+
+    @Test
+    void testWrite_MatchesJacksonWhenEmptyValuesAreOmitted() throws Exception {
+        // Arrange: an empty list and a zero total are left out, so there is no envelope to splice into
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+        converter = new TaskListJsonHttpMessageConverter(objectMapper, 64);
+
+        // Act & Assert
+        for (TaskListResponse response : sampleResponses()) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), writeBytes(response));
+        }
+    }
+
+    private List<TaskListResponse> sampleResponses() {
+        TaskListResponse nullTasks = new TaskListResponse();
+        nullTasks.setTotal(3);
+        return Arrays.asList(
+                new TaskListResponse(Collections.emptyList()),
+                nullTasks,
+                new TaskListResponse(Arrays.asList(
+                        taskResponse("1", "First", 1),
+                        taskResponse("2", "Second", 0),
+                        taskResponse("3", "Third \u00e9", 4)
+                ))
+        );
+    }
+
+    private String write(TaskListResponse response) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString();
+    }
+
+    private byte[] writeBytes(TaskListResponse response) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    private TaskResponse taskResponse(String id, String title, long version) {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 11, 15, 10, 0);
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .priority(3)
+                .dueDate(timestamp)
+                .category("WORK")
+                .userId("user123")
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.project.taskmanager.application.dto.RecurrenceResponse;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskListProtobufHttpMessageConverterTest {
+
+    private static final Instant INSTANT = Instant.parse("2025-11-15T10:00:00.123Z");
+
+    private final TaskListProtobufHttpMessageConverter converter = new TaskListProtobufHttpMessageConverter();
+
+    @Test
+    void testWrite_EncodesTasksWithSharedUserId() throws Exception {
+        // Arrange
+        TaskListResponse response = new TaskListResponse(Arrays.asList(
+                taskResponse("1", "First", "user123"),
+                taskResponse("2", "Zweite Aufgabe ✓", "user123")));
+
+        // Act
+        Map<Integer, List<Object>> list = decode(write(response));
+
+        // Assert
+        assertEquals(List.of(2L), list.get(2));
+        assertEquals(List.of("user123"), strings(list.get(3)));
+        List<Object> tasks = list.get(1);
+        assertEquals(2, tasks.size());
+
+        Map<Integer, List<Object>> second = decode((byte[]) tasks.get(1));
+        assertEquals(List.of("2"), strings(second.get(1)));
+        assertEquals(List.of("Zweite Aufgabe ✓"), strings(second.get(2)));
+        assertEquals(List.of(4L), second.get(3));
+        assertEquals(List.of(INSTANT.toEpochMilli()), second.get(4));
+        assertEquals(List.of(1L), second.get(5));
+        assertNull(second.get(6), "user id is written once for the list");
+        assertEquals(List.of(7L), second.get(9));
+        assertNull(second.get(11));
+    }
+
+    @Test
+    void testWrite_KeepsUserIdThatDiffersFromListAndEncodesRecurrence() throws Exception {
+        // Arrange
+        TaskResponse recurring = taskResponse("series@2025-11-15T10:00", "Standup", "other", ZoneOffset.UTC)
+                .seriesId("series")
+                .recurrence(new RecurrenceResponse("WEEKLY", 2, null, "Europe/Berlin", null))
+                .build();
+        TaskListResponse response = new TaskListResponse(Arrays.asList(
+                taskResponse("1", "First", "user123"), recurring));
+
+        // Act
+        Map<Integer, List<Object>> list = decode(write(response));
+
+        // Assert
+        Map<Integer, List<Object>> task = decode((byte[]) list.get(1).get(1));
+        assertEquals(List.of("other"), strings(task.get(6)));
+        assertEquals(List.of("series"), strings(task.get(10)));
+        Map<Integer, List<Object>> recurrence = decode((byte[]) task.get(11).get(0));
+        assertEquals(List.of(2L), recurrence.get(1));
+        assertEquals(List.of(2L), recurrence.get(2));
+        assertNull(recurrence.get(3));
+        assertEquals(List.of("Europe/Berlin"), strings(recurrence.get(4)));
+    }
+
+    @Test
+    void testWrite_TimestampsAreInstantsWhateverTheZone() throws Exception {
+        // Arrange
+        ZoneId zone = ZoneId.of("America/New_York");
+        Instant until = INSTANT.plusSeconds(86_400 * 14);
+        TaskResponse task = taskResponse("1", "First", "user123", zone)
+                .recurrence(new RecurrenceResponse("WEEKLY", 1, LocalDateTime.ofInstant(until, zone),
+                        zone.getId(), until))
+                .build();
+
+        // Act
+        Map<Integer, List<Object>> list = decode(write(new TaskListResponse(List.of(task), zone)));
+
+        // Assert
+        Map<Integer, List<Object>> encoded = decode((byte[]) list.get(1).get(0));
+        assertEquals(List.of(INSTANT.toEpochMilli()), encoded.get(4));
+        assertEquals(List.of(INSTANT.toEpochMilli()), encoded.get(7));
+        assertEquals(List.of(INSTANT.toEpochMilli()), encoded.get(8));
+        Map<Integer, List<Object>> recurrence = decode((byte[]) encoded.get(11).get(0));
+        assertEquals(List.of(until.toEpochMilli()), recurrence.get(3));
+    }
+
+    @Test
+    void testWrite_EmptyList() throws Exception {
+        assertEquals(0, write(new TaskListResponse(Collections.emptyList())).length);
+    }
+
+    @Test
+    void testCanWrite_OnlyTaskListsAsProtobuf() {
+        assertTrue(converter.canWrite(TaskListResponse.class,
+                TaskListProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+        assertFalse(converter.canWrite(TaskListResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(TaskResponse.class,
+                TaskListProtobufHttpMessageConverter.APPLICATION_PROTOBUF));
+    }
+
+    private byte[] write(TaskListResponse response) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, TaskListProtobufHttpMessageConverter.APPLICATION_PROTOBUF, message);
+        return message.getBodyAsBytes();
+    }
+
+    // Field number to values: Long for varints, byte[] for length-delimited fields
+    private static Map<Integer, List<Object>> decode(byte[] message) {
+        Map<Integer, List<Object>> fields = new HashMap<>();
+        int[] position = {0};
+        while (position[0] < message.length) {
+            long tag = readVarint(message, position);
+            int field = (int) (tag >>> 3);
+            Object value;
+            if ((tag & 7) == 0) {
+                value = readVarint(message, position);
+            } else {
+                int length = (int) readVarint(message, position);
+                value = Arrays.copyOfRange(message, position[0], position[0] + length);
+                position[0] += length;
+            }
+            fields.computeIfAbsent(field, k -> new ArrayList<>()).add(value);
+        }
+        return fields;
+    }
+
+    private static long readVarint(byte[] message, int[] position) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = message[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static List<String> strings(List<Object> values) {
+        return values.stream().map(value -> new String((byte[]) value, StandardCharsets.UTF_8)).toList();
+    }
+
+    private TaskResponse taskResponse(String id, String title, String userId) {
+        return taskResponse(id, title, userId, ZoneOffset.UTC).build();
+    }
+
+    private TaskResponse.TaskResponseBuilder taskResponse(String id, String title, String userId, ZoneId zone) {
+        LocalDateTime local = LocalDateTime.ofInstant(INSTANT, zone);
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .priority(4)
+                .dueDate(local)
+                .category("WORK")
+                .userId(userId)
+                .createdAt(local)
+                .updatedAt(local)
+                .version(7)
+                .dueInstant(INSTANT)
+                .createdInstant(INSTANT)
+                .updatedInstant(INSTANT);
+    }
+}
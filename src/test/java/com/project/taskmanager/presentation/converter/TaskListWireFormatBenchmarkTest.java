@@ -0,0 +1,119 @@
+package com.project.taskmanager.presentation.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.taskmanager.application.dto.TaskListResponse;
+import com.project.taskmanager.application.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Serializes the same task listing as plain Jackson JSON, as spliced JSON fragments and as
+ * protobuf, and prints bytes and nanoseconds per task for each.
+ * <p>
+ * A single-threaded loop after a warm-up, so treat the numbers as relative, not absolute.
+ * <pre>
+ * mvn test -Dtest=TaskListWireFormatBenchmarkTest -Dbenchmark=true \
+ *     -Dbenchmark.tasks=1000 -Dbenchmark.iterations=2000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskListWireFormatBenchmarkTest {
+
+    private final int taskCount = Integer.getInteger("benchmark.tasks", 1000);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 2000);
+
+    @Test
+    void compareWireFormats() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        TaskListResponse response = listing();
+
+        List<Result> results = List.of(
+                measure("json (jackson)", () -> objectMapper.writeValueAsBytes(response)),
+                measure("json (cached fragments)", write(
+                        new TaskListJsonHttpMessageConverter(objectMapper, taskCount * 2),
+                        MediaType.APPLICATION_JSON, response)),
+                measure("protobuf", write(
+                        new TaskListProtobufHttpMessageConverter(),
+                        TaskListProtobufHttpMessageConverter.APPLICATION_PROTOBUF, response)));
+
+        System.out.printf("%n%d tasks per listing, %d iterations%n", taskCount, iterations);
+        System.out.printf("%-26s %12s %12s%n", "format", "bytes/task", "ns/task");
+        for (Result result : results) {
+            System.out.printf("%-26s %12.1f %12.1f%n", result.format(),
+                    (double) result.bytes() / taskCount, result.nanos() / taskCount);
+        }
+
+        assertTrue(results.get(2).bytes() < results.get(0).bytes());
+    }
+
+    private Result measure(String format, Serializer serializer) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < iterations; i++) {
+            bytes = serializer.serialize().length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.serialize();
+        }
+        return new Result(format, bytes, (double) (System.nanoTime() - start) / iterations);
+    }
+
+    private static Serializer write(HttpMessageConverter<TaskListResponse> converter, MediaType mediaType,
+                                    TaskListResponse response) {
+        return () -> {
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            converter.write(response, mediaType, message);
+            return message.getBodyAsBytes();
+        };
+    }
+
+    private TaskListResponse listing() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] categories = {"WORK", "PERSONAL", "SHOPPING", "HEALTH", "EDUCATION", "FINANCE", "OTHER"};
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponse> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(100_000));
+            LocalDateTime dueDate = now.plusMinutes(random.nextInt(100_000));
+            tasks.add(TaskResponse.builder()
+                    .id(UUID.randomUUID().toString())
+                    .title("Task number " + i + " for the benchmark")
+                    .priority(random.nextInt(1, 6))
+                    .dueDate(dueDate)
+                    .category(categories[random.nextInt(categories.length)])
+                    .userId("benchmark-user")
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .version(random.nextInt(1, 10))
+                    .dueInstant(dueDate.toInstant(ZoneOffset.UTC))
+                    .createdInstant(createdAt.toInstant(ZoneOffset.UTC))
+                    .updatedInstant(createdAt.toInstant(ZoneOffset.UTC))
+                    .build());
+        }
+        return new TaskListResponse(tasks);
+    }
+
+    @FunctionalInterface
+    private interface Serializer {
+        byte[] serialize() throws Exception;
+    }
+
+    private record Result(String format, int bytes, double nanos) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.taskmanager.presentation.interceptor;
+
+import com.project.taskmanager.infrastructure.config.AccessLogProperties;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessLogInterceptorTest {
+
+    private AccessLogProperties properties;
+    private Logger accessLog;
+    private HandlerMethod getTasks;
+    private HandlerMethod createTask;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        properties = new AccessLogProperties();
+        properties.setDefaultSampleRate(0);
+        properties.getEndpoints().put("createTask", 1.0);
+        accessLog = mock(Logger.class);
+        when(accessLog.isInfoEnabled()).thenReturn(true);
+        getTasks = new HandlerMethod(new Handlers(), Handlers.class.getMethod("getTasks"));
+        createTask = new HandlerMethod(new Handlers(), Handlers.class.getMethod("createTask"));
+    }
+
+    @Test
+    void testAfterCompletion_LogsStructuredLineForSampledEndpoint() {
+        // Arrange
+        AccessLogInterceptor interceptor = new AccessLogInterceptor(properties, accessLog);
+        MockHttpServletRequest request = request("POST", "/api/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(201);
+
+        // Act
+        interceptor.preHandle(request, response, createTask);
+        interceptor.afterCompletion(request, response, createTask, null);
+
+        // Assert
+        verify(accessLog).info(eq("endpoint={} method={} path={} status={} latencyMicros={} user={}"),
+                eq("createTask"), eq("POST"), eq("/api/tasks"), eq(201), anyLong(), eq("user1"));
+    }
+
+    @Test
+    void testAfterCompletion_SkipsUnsampledButKeepsErrorsAndSlowRequests() {
+        // Arrange
+        AccessLogInterceptor interceptor = new AccessLogInterceptor(properties, accessLog);
+        MockHttpServletResponse ok = new MockHttpServletResponse();
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        failed.setStatus(500);
+
+        // Act
+        complete(interceptor, request("GET", "/api/tasks"), ok, null);
+        complete(interceptor, request("GET", "/api/tasks"), failed, null);
+        complete(interceptor, request("GET", "/api/tasks"), ok, new IllegalStateException("unhandled"));
+        properties.setSlowThresholdMillis(0);
+        complete(new AccessLogInterceptor(properties, accessLog), request("GET", "/api/tasks"), ok, null);
+
+        // Assert
+        verify(accessLog, times(1)).info(anyString(), eq("getTasks"), any(), any(), eq(500), anyLong(), any());
+        verify(accessLog, times(2)).info(anyString(), eq("getTasks"), any(), any(), eq(200), anyLong(), any());
+    }
+
+    @Test
+    void testAsyncRequest_LoggedOnceWhenAsyncDispatchCompletes() throws Exception {
+        // Arrange
+        AccessLogInterceptor interceptor = new AccessLogInterceptor(properties, accessLog);
+        MockHttpServletRequest request = request("POST", "/api/async/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, createTask);
+        interceptor.afterConcurrentHandlingStarted(request, response, createTask);
+        verify(accessLog, never()).info(anyString(), any(Object[].class));
+
+        // Act
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, createTask);
+        interceptor.afterCompletion(request, response, createTask, null);
+        interceptor.afterCompletion(request, response, createTask, null);
+
+        // Assert
+        verify(accessLog, times(1)).info(anyString(), eq("createTask"), eq("POST"), eq("/api/async/tasks"),
+                eq(200), anyLong(), eq("user1"));
+    }
+
+    private void complete(AccessLogInterceptor interceptor, MockHttpServletRequest request,
+                          MockHttpServletResponse response, Exception ex) {
+        interceptor.preHandle(request, response, getTasks);
+        interceptor.afterCompletion(request, response, getTasks, ex);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("X-User-Id", "user1");
+        return request;
+    }
+
+    static class Handlers {
+        public void getTasks() {
+        }
+
+        public void createTask() {
+        }
+    }
+}
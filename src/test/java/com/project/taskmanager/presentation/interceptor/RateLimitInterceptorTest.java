@@ -0,0 +1,126 @@
+package com.project.taskmanager.presentation.interceptor;
+
+import com.project.taskmanager.infrastructure.config.RateLimitProperties;
+import com.project.taskmanager.infrastructure.ratelimit.InFlightLimiter;
+import com.project.taskmanager.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.project.taskmanager.presentation.exception.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitInterceptorTest {
+
+    private RateLimitProperties properties;
+    private InFlightLimiter inFlightLimiter;
+    private RateLimitInterceptor interceptor;
+    private HandlerMethod getTasks;
+    private HandlerMethod createTask;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        properties = new RateLimitProperties();
+        properties.getEndpoints().put("getTasks", new RateLimitProperties.Limit(1, 2));
+        inFlightLimiter = new InFlightLimiter(2);
+        interceptor = new RateLimitInterceptor(properties, new TokenBucketRateLimiter(100, 60_000),
+                inFlightLimiter);
+        getTasks = new HandlerMethod(new Handlers(), Handlers.class.getMethod("getTasks"));
+        createTask = new HandlerMethod(new Handlers(), Handlers.class.getMethod("createTask"));
+    }
+
+    @Test
+    void testPreHandle_ThrottlesPerUserAndEndpoint() {
+        // Arrange
+        complete(request("user1"), getTasks);
+        complete(request("user1"), getTasks);
+
+        // Act
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("user1"), new MockHttpServletResponse(), getTasks));
+
+        // Assert
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertTrue(interceptor.preHandle(request("user2"), new MockHttpServletResponse(), getTasks));
+        assertTrue(interceptor.preHandle(request("user1"), new MockHttpServletResponse(), createTask));
+    }
+
+    @Test
+    void testPreHandle_SameMethodNameOnAnotherControllerHasItsOwnBucket() throws NoSuchMethodException {
+        // Arrange
+        HandlerMethod asyncGetTasks = new HandlerMethod(new AsyncHandlers(), AsyncHandlers.class.getMethod("getTasks"));
+        complete(request("user1"), getTasks);
+        complete(request("user1"), getTasks);
+
+        // Act
+        complete(request("user1"), asyncGetTasks);
+        complete(request("user1"), asyncGetTasks);
+
+        // Assert
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("user1"), new MockHttpServletResponse(), asyncGetTasks));
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("user1"), new MockHttpServletResponse(), getTasks));
+    }
+
+    @Test
+    void testPreHandle_RefusesWhenAtCapacityAndReleasesOnCompletion() throws Exception {
+        // Arrange
+        MockHttpServletRequest first = request("user1");
+        MockHttpServletRequest second = request("user2");
+        interceptor.preHandle(first, new MockHttpServletResponse(), createTask);
+        interceptor.preHandle(second, new MockHttpServletResponse(), createTask);
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(request("user3"), new MockHttpServletResponse(), createTask));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), createTask, null);
+        assertEquals(1, inFlightLimiter.inFlight());
+        assertTrue(interceptor.preHandle(request("user3"), new MockHttpServletResponse(), createTask));
+    }
+
+    @Test
+    void testAsyncRequest_HoldsSlotUntilAsyncDispatchCompletes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("user1");
+        interceptor.preHandle(request, new MockHttpServletResponse(), createTask);
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), createTask);
+
+        // Act
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, new MockHttpServletResponse(), createTask);
+
+        // Assert
+        assertEquals(1, inFlightLimiter.inFlight());
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), createTask, null);
+        assertEquals(0, inFlightLimiter.inFlight());
+    }
+
+    private void complete(MockHttpServletRequest request, HandlerMethod handler) {
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+    }
+
+    private static MockHttpServletRequest request(String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Id", userId);
+        return request;
+    }
+
+    static class Handlers {
+        public void getTasks() {
+        }
+
+        public void createTask() {
+        }
+    }
+
+    static class AsyncHandlers {
+        public void getTasks() {
+        }
+    }
+}